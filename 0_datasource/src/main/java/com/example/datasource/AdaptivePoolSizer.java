@@ -0,0 +1,61 @@
+package com.example.datasource;
+
+/**
+ * Decides the next maximumPoolSize from one {@link WindowStats} sample.
+ * A starved window (a timeout, a waiting borrower, or p99 wait over the target) grows the pool by a quarter.
+ * A run of quiet windows shrinks it by a quarter, but never below twice the observed peak.
+ * The result always stays within [minPoolSize, maxPoolSize].
+ * Not thread-safe; {@link PoolSaturationMonitor} calls it from its single sampling thread.
+ */
+public class AdaptivePoolSizer {
+    private final int minPoolSize;
+    private final int maxPoolSize;
+    private final long targetWaitNanos;
+    private final double shrinkBelowUtilization;
+    private final int shrinkAfterWindows;
+    private int quietWindows;
+
+    public AdaptivePoolSizer(DataSourceTuningProperties.Adaptive adaptive) {
+        if (adaptive.getMinPoolSize() < 1 || adaptive.getMaxPoolSize() < adaptive.getMinPoolSize()) {
+            throw new IllegalArgumentException("Adaptive pool size needs 1 <= min-pool-size <= max-pool-size, was "
+                    + adaptive.getMinPoolSize() + ".." + adaptive.getMaxPoolSize());
+        }
+        this.minPoolSize = adaptive.getMinPoolSize();
+        this.maxPoolSize = adaptive.getMaxPoolSize();
+        this.targetWaitNanos = adaptive.getTargetWait().toNanos();
+        this.shrinkBelowUtilization = adaptive.getShrinkBelowUtilization();
+        this.shrinkAfterWindows = adaptive.getShrinkAfterWindows();
+    }
+
+    public int nextPoolSize(int currentSize, WindowStats window) {
+        boolean starved = window.timeouts() > 0
+                || window.threadsWaiting() > 0
+                || window.p99WaitNanos() > targetWaitNanos;
+        if (starved) {
+            quietWindows = 0;
+            return clamp(currentSize + step(currentSize));
+        }
+
+        if (window.peakInUse() < currentSize * shrinkBelowUtilization) {
+            if (++quietWindows >= shrinkAfterWindows) {
+                quietWindows = 0;
+                return clamp(Math.max(currentSize - step(currentSize), window.peakInUse() * 2));
+            }
+        } else {
+            quietWindows = 0;
+        }
+        return clamp(currentSize);
+    }
+
+    public int getMaxPoolSize() {
+        return maxPoolSize;
+    }
+
+    private static int step(int size) {
+        return Math.max(1, size / 4);
+    }
+
+    private int clamp(int size) {
+        return Math.min(maxPoolSize, Math.max(minPoolSize, size));
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnSingleCandidate;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Picked up by every Spring Boot application that has this module on its classpath.
+ * JdbcTemplate DAOs and JPA repositories both borrow from the same DataSource bean, so both get the tuned pool.
+ */
+@AutoConfiguration(after = DataSourceAutoConfiguration.class)
+@ConditionalOnClass(HikariDataSource.class)
+@EnableConfigurationProperties(DataSourceTuningProperties.class)
+public class DataSourceTuningAutoConfiguration {
+
+    @Bean
+    public static HikariTuningBeanPostProcessor hikariTuningBeanPostProcessor(Environment environment) {
+        return new HikariTuningBeanPostProcessor(environment);
+    }
+
+    @Bean
+    @ConditionalOnSingleCandidate(DataSource.class)
+    public PoolSaturationMonitor poolSaturationMonitor(DataSource dataSource, DataSourceTuningProperties properties)
+            throws SQLException {
+        if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+            throw new IllegalStateException("app.datasource tuning needs a HikariDataSource, found " + dataSource.getClass());
+        }
+        HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+        PoolWaitTracker waitTracker = hikari.getMetricsTrackerFactory() instanceof PoolWaitTracker tracker ? tracker : null;
+        AdaptivePoolSizer sizer = properties.getAdaptive().isEnabled() ? new AdaptivePoolSizer(properties.getAdaptive()) : null;
+        return new PoolSaturationMonitor(hikari, waitTracker, sizer, properties.getSampleInterval());
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    static class PoolMetricsConfiguration {
+
+        @Bean
+        public PoolMetricsBinder poolMetricsBinder(ObjectProvider<PoolSaturationMonitor> monitor) {
+            // Resolved lazily: the monitor is declared by the enclosing class, which is processed after this one
+            return new PoolMetricsBinder(monitor.getObject());
+        }
+    }
+}
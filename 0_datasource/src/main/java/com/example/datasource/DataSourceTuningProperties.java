@@ -0,0 +1,82 @@
+package com.example.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings under app.datasource, applied on top of spring.datasource.hikari.*.
+ * Pool size limits themselves stay in spring.datasource.hikari.maximum-pool-size; adaptive sizing moves it at runtime.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.datasource")
+public class DataSourceTuningProperties {
+    public static final String PREFIX = "app.datasource";
+
+    /**
+     * Log a warning with the borrowing stack trace when a connection is held longer than this.
+     * Ignored when spring.datasource.hikari.leak-detection-threshold is set; zero disables it.
+     */
+    private Duration leakDetectionThreshold = Duration.ofSeconds(30);
+
+    /**
+     * How often the pool is sampled for the saturation metrics and the adaptive sizer.
+     */
+    private Duration sampleInterval = Duration.ofSeconds(5);
+
+    private final PreparedStatements preparedStatements = new PreparedStatements();
+
+    private final Adaptive adaptive = new Adaptive();
+
+    /**
+     * Server-side prepared statement cache of the Postgres JDBC driver; not applied to other databases.
+     */
+    @Data
+    public static class PreparedStatements {
+        private boolean enabled = true;
+
+        /**
+         * Executions of the same SQL on a connection before the driver switches to a named server-side statement
+         * (driver default 5).
+         */
+        private int prepareThreshold = 1;
+
+        /**
+         * Statements kept per connection (driver default 256).
+         */
+        private int cacheQueries = 512;
+
+        /**
+         * Memory cap of the per-connection cache (driver default 5).
+         */
+        private int cacheSizeMib = 10;
+    }
+
+    /**
+     * Grows maximumPoolSize while borrowers wait and shrinks it back after sustained low use.
+     */
+    @Data
+    public static class Adaptive {
+        private boolean enabled = false;
+
+        private int minPoolSize = 5;
+
+        private int maxPoolSize = 30;
+
+        /**
+         * A sample window whose p99 connection wait exceeds this counts as starved.
+         */
+        private Duration targetWait = Duration.ofMillis(5);
+
+        /**
+         * A window whose peak of borrowed connections stays below this share of the pool counts as quiet.
+         */
+        private double shrinkBelowUtilization = 0.5;
+
+        /**
+         * Consecutive quiet windows before the pool shrinks by one step.
+         */
+        private int shrinkAfterWindows = 6;
+    }
+}
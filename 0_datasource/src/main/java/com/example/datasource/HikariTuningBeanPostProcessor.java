@@ -0,0 +1,62 @@
+package com.example.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+
+import java.util.Properties;
+
+/**
+ * Applies {@link DataSourceTuningProperties} to every HikariDataSource before its pool starts:
+ * the leak detection default, the Postgres driver's statement cache settings and a {@link PoolWaitTracker}.
+ * Values set explicitly through spring.datasource.hikari.* are left alone.
+ */
+public class HikariTuningBeanPostProcessor implements BeanPostProcessor {
+    private static final String POSTGRES_URL_PREFIX = "jdbc:postgresql:";
+
+    private final Environment environment;
+    private DataSourceTuningProperties properties;
+
+    public HikariTuningBeanPostProcessor(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource hikari) {
+            tune(hikari);
+        }
+        return bean;
+    }
+
+    void tune(HikariDataSource hikari) {
+        DataSourceTuningProperties tuning = properties();
+
+        if (hikari.getLeakDetectionThreshold() == 0 && tuning.getLeakDetectionThreshold() != null) {
+            hikari.setLeakDetectionThreshold(tuning.getLeakDetectionThreshold().toMillis());
+        }
+
+        String jdbcUrl = hikari.getJdbcUrl();
+        DataSourceTuningProperties.PreparedStatements statements = tuning.getPreparedStatements();
+        if (statements.isEnabled() && jdbcUrl != null && jdbcUrl.startsWith(POSTGRES_URL_PREFIX)) {
+            Properties driverProperties = hikari.getDataSourceProperties();
+            driverProperties.putIfAbsent("prepareThreshold", String.valueOf(statements.getPrepareThreshold()));
+            driverProperties.putIfAbsent("preparedStatementCacheQueries", String.valueOf(statements.getCacheQueries()));
+            driverProperties.putIfAbsent("preparedStatementCacheSizeMiB", String.valueOf(statements.getCacheSizeMib()));
+        }
+
+        if (hikari.getMetricsTrackerFactory() == null && hikari.getMetricRegistry() == null) {
+            hikari.setMetricsTrackerFactory(new PoolWaitTracker());
+        }
+    }
+
+    // Bound here rather than injected: a BeanPostProcessor is created before configuration properties beans
+    private DataSourceTuningProperties properties() {
+        if (properties == null) {
+            properties = Binder.get(environment)
+                    .bindOrCreate(DataSourceTuningProperties.PREFIX, DataSourceTuningProperties.class);
+        }
+        return properties;
+    }
+}
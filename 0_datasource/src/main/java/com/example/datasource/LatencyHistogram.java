@@ -0,0 +1,85 @@
+package com.example.datasource;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free log-linear histogram of nanosecond latencies: four buckets per power of two,
+ * so a percentile is reported with at most 25% overestimate. Recording is one atomic increment.
+ * {@link #drain()} empties the histogram bucket by bucket, so concurrent records are never lost.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKETS = 4;
+    private static final int BUCKETS = 62 * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    public void record(long nanos) {
+        counts.incrementAndGet(index(Math.max(nanos, 0)));
+    }
+
+    public Snapshot drain() {
+        long[] drained = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            drained[i] = counts.getAndSet(i, 0);
+        }
+        return new Snapshot(drained);
+    }
+
+    static int index(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) ((value >>> (exponent - 2)) & (SUB_BUCKETS - 1));
+        return (exponent - 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long upperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS + 1;
+        int subBucket = index % SUB_BUCKETS;
+        return ((SUB_BUCKETS + subBucket + 1L) << (exponent - 2)) - 1;
+    }
+
+    public static final class Snapshot {
+        private final long[] counts;
+        private final long total;
+
+        private Snapshot(long[] counts) {
+            this.counts = counts;
+            long sum = 0;
+            for (long count : counts) {
+                sum += count;
+            }
+            this.total = sum;
+        }
+
+        public long count() {
+            return total;
+        }
+
+        /**
+         * Upper bound of the bucket holding the given percentile (0-100), or 0 when nothing was recorded.
+         */
+        public long valueAtPercentile(double percentile) {
+            if (total == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(total * Math.min(Math.max(percentile, 0), 100) / 100.0);
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= Math.max(rank, 1)) {
+                    return upperBound(i);
+                }
+            }
+            return upperBound(counts.length - 1);
+        }
+
+        public long max() {
+            return valueAtPercentile(100);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.datasource;
+
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes the pool saturation gauges and re-attaches Hikari's own hikaricp.* meters,
+ * which Spring Boot only installs when the pool has no metrics tracker of its own.
+ */
+public class PoolMetricsBinder implements MeterBinder {
+    private final PoolSaturationMonitor monitor;
+
+    public PoolMetricsBinder(PoolSaturationMonitor monitor) {
+        this.monitor = monitor;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        String pool = String.valueOf(monitor.getDataSource().getPoolName());
+
+        Gauge.builder("app.datasource.pool.saturation", monitor, m -> m.getLastSnapshot().saturation())
+                .description("Borrowed connections / maximum pool size at the last sample")
+                .tag("pool", pool)
+                .register(registry);
+        Gauge.builder("app.datasource.pool.max.size", monitor, m -> m.getDataSource().getHikariConfigMXBean().getMaximumPoolSize())
+                .description("Current maximum pool size, moved by adaptive sizing")
+                .tag("pool", pool)
+                .register(registry);
+        Gauge.builder("app.datasource.pool.waiting", monitor, m -> m.getLastSnapshot().threadsWaiting())
+                .description("Threads waiting for a connection at the last sample")
+                .tag("pool", pool)
+                .register(registry);
+        TimeGauge.builder("app.datasource.pool.wait.p99", monitor, TimeUnit.NANOSECONDS, m -> m.getLastSnapshot().p99WaitNanos())
+                .description("99th percentile connection wait over the last sample window")
+                .tag("pool", pool)
+                .register(registry);
+
+        if (monitor.getWaitTracker() != null) {
+            monitor.getWaitTracker().setDelegate(new MicrometerMetricsTrackerFactory(registry));
+        }
+    }
+}
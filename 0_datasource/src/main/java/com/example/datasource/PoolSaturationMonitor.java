@@ -0,0 +1,127 @@
+package com.example.datasource;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples the Hikari pool every app.datasource.sample-interval on one daemon thread.
+ * Each sample becomes the {@link PoolSnapshot} behind the saturation gauges and, when adaptive sizing is on,
+ * is passed to {@link AdaptivePoolSizer}; Hikari applies a new maximumPoolSize without restarting the pool.
+ */
+@Slf4j
+public class PoolSaturationMonitor implements SmartLifecycle {
+    private final HikariDataSource dataSource;
+    private final PoolWaitTracker waitTracker;
+    private final AdaptivePoolSizer sizer;
+    private final Duration sampleInterval;
+    private volatile PoolSnapshot lastSnapshot = PoolSnapshot.EMPTY;
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * @param waitTracker null when the pool uses another metrics tracker; wait times are then reported as 0
+     * @param sizer       null when adaptive sizing is off
+     */
+    public PoolSaturationMonitor(HikariDataSource dataSource, PoolWaitTracker waitTracker, AdaptivePoolSizer sizer,
+                                 Duration sampleInterval) {
+        this.dataSource = dataSource;
+        this.waitTracker = waitTracker;
+        this.sizer = sizer;
+        this.sampleInterval = sampleInterval;
+    }
+
+    public HikariDataSource getDataSource() {
+        return dataSource;
+    }
+
+    public PoolWaitTracker getWaitTracker() {
+        return waitTracker;
+    }
+
+    public PoolSnapshot getLastSnapshot() {
+        return lastSnapshot;
+    }
+
+    /**
+     * The most connections the pool may open: the adaptive ceiling when adaptive sizing is on.
+     * Components that size themselves from the pool (e.g. request concurrency limits) should use this.
+     */
+    public int getMaximumPoolSizeCeiling() {
+        return sizer != null ? sizer.getMaxPoolSize() : dataSource.getMaximumPoolSize();
+    }
+
+    void sample() {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        if (pool == null) {
+            // Not started yet: Hikari opens the pool on the first getConnection
+            return;
+        }
+
+        int threadsWaiting = pool.getThreadsAwaitingConnection();
+        WindowStats window = waitTracker != null
+                ? waitTracker.drainWindow(threadsWaiting)
+                : new WindowStats(0, 0, 0, 0, pool.getActiveConnections(), threadsWaiting);
+        HikariConfigMXBean config = dataSource.getHikariConfigMXBean();
+        int maximumPoolSize = config.getMaximumPoolSize();
+        int active = pool.getActiveConnections();
+        lastSnapshot = new PoolSnapshot(active, pool.getIdleConnections(), threadsWaiting, pool.getTotalConnections(),
+                maximumPoolSize, (double) active / maximumPoolSize, window.p99WaitNanos(), window.timeouts());
+
+        if (sizer == null) {
+            return;
+        }
+        int next = sizer.nextPoolSize(maximumPoolSize, window);
+        if (next != maximumPoolSize) {
+            log.info("Resizing pool {} from {} to {} connections (peak in use {}, waiting {}, p99 wait {} us, timeouts {})",
+                    dataSource.getPoolName(), maximumPoolSize, next, window.peakInUse(), threadsWaiting,
+                    TimeUnit.NANOSECONDS.toMicros(window.p99WaitNanos()), window.timeouts());
+            if (config.getMinimumIdle() > next) {
+                config.setMinimumIdle(next);
+            }
+            config.setMaximumPoolSize(next);
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "pool-saturation-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = sampleInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::sampleSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return scheduler != null;
+    }
+
+    // An exception would cancel the scheduled task, so one bad sample must not stop sampling
+    private void sampleSafely() {
+        try {
+            sample();
+        } catch (RuntimeException e) {
+            log.warn("Pool sample failed", e);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.datasource;
+
+/**
+ * Pool state at the end of a sample window, as served by the saturation gauges.
+ *
+ * @param saturation   active / maximumPoolSize; 1.0 means every allowed connection is borrowed
+ * @param p99WaitNanos 99th percentile connection wait during the window
+ */
+public record PoolSnapshot(int active, int idle, int threadsWaiting, int total, int maximumPoolSize,
+                           double saturation, long p99WaitNanos, long timeouts) {
+
+    static final PoolSnapshot EMPTY = new PoolSnapshot(0, 0, 0, 0, 0, 0, 0, 0);
+}
@@ -0,0 +1,117 @@
+package com.example.datasource;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hikari metrics tracker that records connection wait times and concurrent borrows for {@link PoolSaturationMonitor}.
+ * Hikari accepts a single tracker factory, so another one (e.g. Micrometer's, which Spring Boot would otherwise
+ * install) can be chained with {@link #setDelegate}; it is created lazily, so it may be set after the pool started.
+ */
+public class PoolWaitTracker implements MetricsTrackerFactory {
+    private final LatencyHistogram waits = new LatencyHistogram();
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final AtomicInteger inUse = new AtomicInteger();
+    private final AtomicInteger peakInUse = new AtomicInteger();
+    private volatile MetricsTrackerFactory delegate;
+
+    public void setDelegate(MetricsTrackerFactory delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        return new Tracker(poolName, poolStats);
+    }
+
+    /**
+     * Returns the stats gathered since the previous call and starts a new window.
+     */
+    public WindowStats drainWindow(int threadsWaiting) {
+        LatencyHistogram.Snapshot window = waits.drain();
+        int peak = peakInUse.getAndSet(inUse.get());
+        return new WindowStats(acquisitions.sumThenReset(), window.valueAtPercentile(99), window.max(),
+                timeouts.sumThenReset(), peak, threadsWaiting);
+    }
+
+    private final class Tracker implements IMetricsTracker {
+        private final String poolName;
+        private final PoolStats poolStats;
+        private volatile Chained chained = new Chained(null, null);
+
+        Tracker(String poolName, PoolStats poolStats) {
+            this.poolName = poolName;
+            this.poolStats = poolStats;
+        }
+
+        @Override
+        public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+            IMetricsTracker next = delegate();
+            if (next != null) {
+                next.recordConnectionCreatedMillis(connectionCreatedMillis);
+            }
+        }
+
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            waits.record(elapsedAcquiredNanos);
+            acquisitions.increment();
+            peakInUse.accumulateAndGet(inUse.incrementAndGet(), Math::max);
+            IMetricsTracker next = delegate();
+            if (next != null) {
+                next.recordConnectionAcquiredNanos(elapsedAcquiredNanos);
+            }
+        }
+
+        @Override
+        public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+            inUse.decrementAndGet();
+            IMetricsTracker next = delegate();
+            if (next != null) {
+                next.recordConnectionUsageMillis(elapsedBorrowedMillis);
+            }
+        }
+
+        @Override
+        public void recordConnectionTimeout() {
+            timeouts.increment();
+            IMetricsTracker next = delegate();
+            if (next != null) {
+                next.recordConnectionTimeout();
+            }
+        }
+
+        @Override
+        public void close() {
+            IMetricsTracker next = delegate();
+            if (next != null) {
+                next.close();
+            }
+        }
+
+        // Lock-free unless the delegate factory changed since the last call
+        private IMetricsTracker delegate() {
+            MetricsTrackerFactory factory = delegate;
+            Chained current = chained;
+            if (current.factory() == factory) {
+                return current.tracker();
+            }
+            synchronized (this) {
+                current = chained;
+                if (current.factory() != factory) {
+                    current = new Chained(factory, factory == null ? null : factory.create(poolName, poolStats));
+                    chained = current;
+                }
+                return current.tracker();
+            }
+        }
+    }
+
+    private record Chained(MetricsTrackerFactory factory, IMetricsTracker tracker) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.datasource;
+
+/**
+ * What the pool went through during one sample window.
+ *
+ * @param acquisitions   connections handed out
+ * @param p99WaitNanos   99th percentile of the time borrowers waited for a connection
+ * @param timeouts       borrowers that gave up after connectionTimeout
+ * @param peakInUse      most connections borrowed at the same time
+ * @param threadsWaiting borrowers waiting when the window closed
+ */
+public record WindowStats(long acquisitions, long p99WaitNanos, long maxWaitNanos, long timeouts,
+                          int peakInUse, int threadsWaiting) {
+}
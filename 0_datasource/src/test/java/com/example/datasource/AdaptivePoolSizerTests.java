@@ -0,0 +1,61 @@
+package com.example.datasource;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AdaptivePoolSizerTests {
+    private static final long FAST = Duration.ofMillis(1).toNanos();
+    private static final long SLOW = Duration.ofMillis(50).toNanos();
+
+    private final AdaptivePoolSizer sizer = new AdaptivePoolSizer(adaptive());
+
+    @Test
+    public void testThatStarvedWindowsGrowThePoolUpToTheCeiling() {
+        assertThat(sizer.nextPoolSize(8, window(8, SLOW, 0, 0))).isEqualTo(10);
+        assertThat(sizer.nextPoolSize(10, window(10, FAST, 0, 3))).isEqualTo(12);
+        assertThat(sizer.nextPoolSize(12, window(12, FAST, 1, 0))).isEqualTo(15);
+        assertThat(sizer.nextPoolSize(15, window(15, SLOW, 0, 0))).isEqualTo(16);
+        assertThat(sizer.nextPoolSize(16, window(16, SLOW, 0, 0))).isEqualTo(16);
+    }
+
+    @Test
+    public void testThatOnlySustainedLowUseShrinksThePool() {
+        assertThat(sizer.nextPoolSize(16, window(2, FAST, 0, 0))).isEqualTo(16);
+        assertThat(sizer.nextPoolSize(16, window(2, FAST, 0, 0))).isEqualTo(16);
+        // A busy window resets the count
+        assertThat(sizer.nextPoolSize(16, window(12, FAST, 0, 0))).isEqualTo(16);
+        assertThat(sizer.nextPoolSize(16, window(2, FAST, 0, 0))).isEqualTo(16);
+        assertThat(sizer.nextPoolSize(16, window(2, FAST, 0, 0))).isEqualTo(16);
+        assertThat(sizer.nextPoolSize(16, window(2, FAST, 0, 0))).isEqualTo(12);
+    }
+
+    @Test
+    public void testThatShrinkingKeepsTwiceThePeakAndTheFloor() {
+        for (int i = 0; i < 2; i++) {
+            sizer.nextPoolSize(12, window(5, FAST, 0, 0));
+        }
+        assertThat(sizer.nextPoolSize(12, window(5, FAST, 0, 0))).isEqualTo(10);
+
+        for (int i = 0; i < 2; i++) {
+            sizer.nextPoolSize(5, window(0, FAST, 0, 0));
+        }
+        assertThat(sizer.nextPoolSize(5, window(0, FAST, 0, 0))).isEqualTo(4);
+    }
+
+    private static WindowStats window(int peakInUse, long p99WaitNanos, long timeouts, int threadsWaiting) {
+        return new WindowStats(100, p99WaitNanos, p99WaitNanos, timeouts, peakInUse, threadsWaiting);
+    }
+
+    private static DataSourceTuningProperties.Adaptive adaptive() {
+        DataSourceTuningProperties.Adaptive adaptive = new DataSourceTuningProperties.Adaptive();
+        adaptive.setMinPoolSize(4);
+        adaptive.setMaxPoolSize(16);
+        adaptive.setTargetWait(Duration.ofMillis(5));
+        adaptive.setShrinkBelowUtilization(0.5);
+        adaptive.setShrinkAfterWindows(3);
+        return adaptive;
+    }
+}
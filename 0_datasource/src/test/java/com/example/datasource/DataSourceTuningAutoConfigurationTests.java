@@ -0,0 +1,104 @@
+package com.example.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DataSourceTuningAutoConfigurationTests {
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(DataSourceAutoConfiguration.class, DataSourceTuningAutoConfiguration.class))
+            .withPropertyValues("spring.datasource.url=jdbc:h2:mem:tuning;DB_CLOSE_DELAY=-1");
+
+    @Test
+    public void testThatTheBootDataSourceGetsLeakDetectionAndTheWaitTracker() {
+        contextRunner.run(context -> {
+            HikariDataSource dataSource = context.getBean(HikariDataSource.class);
+            assertThat(dataSource.getLeakDetectionThreshold()).isEqualTo(30_000);
+            assertThat(dataSource.getMetricsTrackerFactory()).isInstanceOf(PoolWaitTracker.class);
+            // Statement cache settings belong to the Postgres driver only
+            assertThat(dataSource.getDataSourceProperties()).isEmpty();
+            assertThat(context.getBean(PoolSaturationMonitor.class).getWaitTracker()).isNotNull();
+        });
+    }
+
+    @Test
+    public void testThatExplicitHikariSettingsWin() {
+        contextRunner.withPropertyValues("spring.datasource.hikari.leak-detection-threshold=5000")
+                .run(context -> assertThat(context.getBean(HikariDataSource.class).getLeakDetectionThreshold()).isEqualTo(5000));
+    }
+
+    @Test
+    public void testThatPostgresPoolsGetTheServerSideStatementCache() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:postgresql://localhost:5433/postgres");
+        dataSource.addDataSourceProperty("prepareThreshold", "3");
+
+        new HikariTuningBeanPostProcessor(new MockEnvironment()
+                .withProperty("app.datasource.prepared-statements.cache-queries", "1024"))
+                .tune(dataSource);
+
+        assertThat(dataSource.getDataSourceProperties())
+                .containsEntry("prepareThreshold", "3")
+                .containsEntry("preparedStatementCacheQueries", "1024")
+                .containsEntry("preparedStatementCacheSizeMiB", "10");
+    }
+
+    @Test
+    public void testThatAdaptiveSizingGrowsAPoolWithWaitingBorrowers() {
+        contextRunner.withPropertyValues(
+                        "spring.datasource.hikari.maximum-pool-size=2",
+                        "app.datasource.adaptive.enabled=true",
+                        "app.datasource.adaptive.min-pool-size=2",
+                        "app.datasource.adaptive.max-pool-size=8")
+                .run(context -> {
+                    HikariDataSource dataSource = context.getBean(HikariDataSource.class);
+                    PoolSaturationMonitor monitor = context.getBean(PoolSaturationMonitor.class);
+                    assertThat(monitor.getMaximumPoolSizeCeiling()).isEqualTo(8);
+
+                    List<Connection> held = new ArrayList<>();
+                    held.add(dataSource.getConnection());
+                    held.add(dataSource.getConnection());
+                    ExecutorService waiters = Executors.newFixedThreadPool(2);
+                    CountDownLatch served = new CountDownLatch(2);
+                    try {
+                        for (int i = 0; i < 2; i++) {
+                            waiters.submit(() -> {
+                                try (Connection ignored = dataSource.getConnection()) {
+                                    served.countDown();
+                                }
+                                return null;
+                            });
+                        }
+                        while (dataSource.getHikariPoolMXBean().getThreadsAwaitingConnection() < 2) {
+                            Thread.onSpinWait();
+                        }
+
+                        monitor.sample();
+
+                        assertThat(monitor.getLastSnapshot().saturation()).isEqualTo(1.0);
+                        assertThat(monitor.getLastSnapshot().threadsWaiting()).isEqualTo(2);
+                        assertThat(dataSource.getHikariConfigMXBean().getMaximumPoolSize()).isEqualTo(3);
+                        // The added connection is handed to a waiting borrower without releasing the held ones
+                        assertThat(served.await(5, TimeUnit.SECONDS)).isTrue();
+                    } finally {
+                        for (Connection connection : held) {
+                            connection.close();
+                        }
+                        waiters.shutdownNow();
+                    }
+                });
+    }
+}
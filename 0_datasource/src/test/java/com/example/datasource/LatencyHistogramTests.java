@@ -0,0 +1,38 @@
+package com.example.datasource;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LatencyHistogramTests {
+
+    @Test
+    public void testThatBucketsOverestimateByAtMostAQuarter() {
+        for (int i = 0; i < 100_000; i++) {
+            long value = ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE >>> ThreadLocalRandom.current().nextInt(62));
+            long bound = LatencyHistogram.upperBound(LatencyHistogram.index(value));
+            assertThat(bound).isGreaterThanOrEqualTo(value);
+            assertThat((double) bound).isLessThanOrEqualTo(value * 1.25 + 1);
+        }
+    }
+
+    @Test
+    public void testThatPercentilesAreReadFromTheDrainedWindowOnly() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1_000L);
+        }
+
+        LatencyHistogram.Snapshot window = histogram.drain();
+        assertThat(window.count()).isEqualTo(1000);
+        assertThat(window.valueAtPercentile(50)).isBetween(500_000L, 625_000L);
+        assertThat(window.valueAtPercentile(99)).isBetween(990_000L, 1_237_500L);
+        assertThat(window.max()).isGreaterThanOrEqualTo(1_000_000L);
+
+        LatencyHistogram.Snapshot next = histogram.drain();
+        assertThat(next.count()).isZero();
+        assertThat(next.valueAtPercentile(99)).isZero();
+    }
+}
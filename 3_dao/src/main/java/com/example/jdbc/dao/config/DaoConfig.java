@@ -0,0 +1,72 @@
+package com.example.jdbc.dao.config;
+
+import com.example.jdbc.dao.dao.AuthorDao;
+import com.example.jdbc.dao.dao.BookDao;
+import com.example.jdbc.dao.dao.impl.AuthorDaoImpl;
+import com.example.jdbc.dao.dao.impl.BookDaoImpl;
+import com.example.jdbc.dao.dao.impl.CachingAuthorDao;
+import com.example.jdbc.dao.dao.impl.CachingBookDao;
+import com.example.jdbc.dao.dao.impl.WriteBehindAuthorDao;
+import com.example.jdbc.dao.dao.impl.WriteBehindBookDao;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Optional decorators of the JDBC DAOs, stacked as cache -> write-behind -> AuthorDaoImpl/BookDaoImpl.
+ * The Impl beans are @Fallback, so an AuthorDao/BookDao injection point gets the outermost enabled decorator;
+ * the Impl beans stay injectable by class.
+ */
+@Configuration
+@EnableConfigurationProperties(DaoProperties.class)
+public class DaoConfig {
+
+    @Configuration
+    @ConditionalOnProperty(prefix = "app.dao.write-behind", name = "enabled", havingValue = "true")
+    static class WriteBehindConfig {
+
+        @Bean
+        public WriteBehindAuthorDao writeBehindAuthorDao(AuthorDaoImpl authorDaoImpl, DaoProperties daoProperties) {
+            return new WriteBehindAuthorDao(authorDaoImpl, daoProperties.getWriteBehind());
+        }
+
+        @Bean
+        public WriteBehindBookDao writeBehindBookDao(BookDaoImpl bookDaoImpl, DaoProperties daoProperties) {
+            return new WriteBehindBookDao(bookDaoImpl, daoProperties.getWriteBehind());
+        }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(prefix = "app.dao.cache", name = "enabled", havingValue = "true")
+    static class CacheConfig {
+
+        @Bean
+        @Primary
+        public CachingAuthorDao cachingAuthorDao(ObjectProvider<WriteBehindAuthorDao> writeBehindAuthorDao,
+                                                 AuthorDaoImpl authorDaoImpl, DaoProperties daoProperties) {
+            AuthorDao writeBehind = writeBehindAuthorDao.getIfAvailable();
+            return new CachingAuthorDao(writeBehind != null ? writeBehind : authorDaoImpl, daoProperties.getCache());
+        }
+
+        @Bean
+        @Primary
+        public CachingBookDao cachingBookDao(ObjectProvider<WriteBehindBookDao> writeBehindBookDao,
+                                             BookDaoImpl bookDaoImpl, DaoProperties daoProperties) {
+            BookDao writeBehind = writeBehindBookDao.getIfAvailable();
+            return new CachingBookDao(writeBehind != null ? writeBehind : bookDaoImpl, daoProperties.getCache());
+        }
+
+        // Bound by Spring Boot's metrics auto-configuration, like the pool gauges of 0_datasource
+        @Bean
+        public MeterBinder findOneCacheMetrics(CachingAuthorDao cachingAuthorDao, CachingBookDao cachingBookDao) {
+            return registry -> {
+                cachingAuthorDao.bindCacheMetrics(registry);
+                cachingBookDao.bindCacheMetrics(registry);
+            };
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.jdbc.dao.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings under app.dao for the multi-row DAO operations.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.dao")
+public class DaoProperties {
+
+    /**
+     * Rows sent per JDBC batch by createAll, updateAll and deleteAll.
+     */
+    private int batchSize = 1000;
+
+    /**
+     * Rows fetched per round trip by forEach and stream, so a full-table read never holds the whole result set.
+     */
+    private int fetchSize = 1000;
+
+    /**
+     * Keys bound per statement by findAllByIds and findAllByIsbns.
+     */
+    private int lookupChunkSize = 1000;
+
+    private final Copy copy = new Copy();
+
+    private final ParallelScan parallelScan = new ParallelScan();
+
+    private final WriteBehind writeBehind = new WriteBehind();
+
+    private final Cache cache = new Cache();
+
+    /**
+     * Postgres COPY FROM STDIN path of createAll; other databases always use batched inserts.
+     */
+    @Data
+    public static class Copy {
+        private boolean enabled = true;
+
+        /**
+         * Smallest createAll call that is streamed with COPY instead of batched inserts.
+         */
+        private int minRows = 1000;
+    }
+
+    /**
+     * parallelScan: the table is split into partitions read concurrently, each over its own pooled connection.
+     */
+    @Data
+    public static class ParallelScan {
+        /**
+         * Number of partitions, and so of connections and threads, per scan; keep it below the pool's maximum size.
+         */
+        private int parallelism = 4;
+
+        /**
+         * Rows the readers may run ahead of the consumer before they block.
+         */
+        private int bufferRows = 10_000;
+
+        /**
+         * Reader threads per DAO, shared by all of its scans; further partitions wait for a thread without a connection.
+         */
+        private int maxReaders = 8;
+
+        /**
+         * How long a blocked reader waits for the consumer to take rows before it stops and releases its connection.
+         */
+        private Duration consumerTimeout = Duration.ofSeconds(30);
+    }
+
+    /**
+     * Buffers update calls per key and writes them in batches; see WriteBehindAuthorDao.
+     */
+    @Data
+    public static class WriteBehind {
+        private boolean enabled = false;
+
+        /**
+         * Pending keys that trigger a flush, and rows per flushed batch.
+         */
+        private int flushSize = 500;
+
+        /**
+         * Pending keys at which the buffer is full: an update of a new key then writes the buffer itself first.
+         */
+        private int maxPending = 5_000;
+
+        /**
+         * Longest time an update waits in the buffer.
+         */
+        private Duration flushInterval = Duration.ofMillis(50);
+    }
+
+    /**
+     * Read-through cache of findOne results, including misses; see CachingAuthorDao.
+     */
+    @Data
+    public static class Cache {
+        private boolean enabled = false;
+
+        /**
+         * Entries per DAO, misses included.
+         */
+        private long maximumSize = 10_000;
+
+        /**
+         * Bounds how long a row written by another application instance can be served stale.
+         */
+        private Duration expireAfterWrite = Duration.ofMinutes(10);
+    }
+}
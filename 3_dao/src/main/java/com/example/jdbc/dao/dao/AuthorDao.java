@@ -1,18 +1,53 @@
 package com.example.jdbc.dao.dao;
 
 import com.example.jdbc.dao.domain.Author;
+import com.example.jdbc.dao.domain.AuthorWithBooks;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 public interface AuthorDao {
     void create(Author author);
 
     Optional<Author> findOne(Long authorId);
 
+    // Unknown ids are skipped; the result is in no particular order
+    List<Author> findAllByIds(Collection<Long> ids);
+
     List<Author> find();
 
+    // Visits every author without materializing the table
+    void forEach(Consumer<Author> action);
+
+    // Must be called and closed inside the caller's read-only transaction
+    Stream<Author> stream();
+
+    // Reads key ranges of the table concurrently over separate connections; unordered, must be closed
+    Stream<Author> parallelScan();
+
+    Optional<AuthorWithBooks> findOneWithBooks(Long authorId);
+
+    // Keyset page: up to limit authors with an id greater than afterAuthorId (null for the first page), by id
+    List<AuthorWithBooks> findWithBooks(Long afterAuthorId, int limit);
+
+    // Visits every author with their books without materializing the table
+    void forEachWithBooks(Consumer<AuthorWithBooks> action);
+
     void update(Author author, Long id);
 
+    // Writes only the columns in which changed differs from original (as read), matching the row by original's id;
+    // runs no statement when nothing changed
+    void updateChanged(Author original, Author changed);
+
     void delete(Long id);
+
+    void createAll(Collection<Author> authors);
+
+    // Each author is matched by its own id
+    void updateAll(Collection<Author> authors);
+
+    void deleteAll(Collection<Long> ids);
 }
@@ -2,17 +2,42 @@ package com.example.jdbc.dao.dao;
 
 import com.example.jdbc.dao.domain.Book;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 public interface BookDao {
     void create(Book book);
 
     Optional<Book> findOne(String isbn);
 
+    // Unknown isbns are skipped; the result is in no particular order
+    List<Book> findAllByIsbns(Collection<String> isbns);
+
     List<Book> find();
 
+    // Visits every book without materializing the table
+    void forEach(Consumer<Book> action);
+
+    // Must be called and closed inside the caller's read-only transaction
+    Stream<Book> stream();
+
+    // Reads key ranges of the table concurrently over separate connections; unordered, must be closed
+    Stream<Book> parallelScan();
+
     void update(Book book, String isbn);
 
+    // Writes only the columns in which changed differs from original, matching the row by original's isbn
+    void updateChanged(Book original, Book changed);
+
     void delete(String isbn);
+
+    void createAll(Collection<Book> books);
+
+    // Each book is matched by its own isbn
+    void updateAll(Collection<Book> books);
+
+    void deleteAll(Collection<String> isbns);
 }
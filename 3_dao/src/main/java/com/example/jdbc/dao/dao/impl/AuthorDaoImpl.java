@@ -1,22 +1,56 @@
 package com.example.jdbc.dao.dao.impl;
 
+import com.example.jdbc.dao.config.DaoProperties;
 import com.example.jdbc.dao.dao.AuthorDao;
 import com.example.jdbc.dao.dao.impl.RowMapper.AuthorRowMapper;
+import com.example.jdbc.dao.dao.impl.RowMapper.AuthorWithBooksExtractor;
 import com.example.jdbc.dao.domain.Author;
+import com.example.jdbc.dao.domain.AuthorWithBooks;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.annotation.Fallback;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+// Fallback: the decorators in DaoConfig take AuthorDao/BookDao injection points when enabled
 @Component
-public class AuthorDaoImpl implements AuthorDao {
+@Fallback
+public class AuthorDaoImpl implements AuthorDao, DisposableBean {
+    // One row per book, or a single row with NULL book columns for an author without books;
+    // ordered so that each author's rows are consecutive
+    private static final String AUTHORS_WITH_BOOKS_SQL = """
+            SELECT a.id, a.name, a.age, b.isbn, b.title
+            FROM (SELECT id, name, age FROM authors %s) a
+            LEFT JOIN books b ON b.author_id = a.id
+            ORDER BY a.id, b.isbn""";
+    private static final ChangedColumnsUpdate<Author> UPDATE = new ChangedColumnsUpdate<>("authors", List.of(
+            new ChangedColumnsUpdate.Column<>("id", Author::getId),
+            new ChangedColumnsUpdate.Column<>("name", Author::getName),
+            new ChangedColumnsUpdate.Column<>("age", Author::getAge)));
+
     private final JdbcTemplate jdbcTemplate;
     private final AuthorRowMapper authorRowMapper;
+    private final DaoProperties daoProperties;
+    private final KeyLookup keyLookup;
+    private final ExecutorService scanReaders;
 
-    public AuthorDaoImpl(JdbcTemplate jdbcTemplate, AuthorRowMapper authorRowMapper) {
+    public AuthorDaoImpl(JdbcTemplate jdbcTemplate, AuthorRowMapper authorRowMapper, DaoProperties daoProperties) {
         this.jdbcTemplate = jdbcTemplate;
         this.authorRowMapper = authorRowMapper;
+        this.daoProperties = daoProperties;
+        this.keyLookup = new KeyLookup(jdbcTemplate, () -> daoProperties.getLookupChunkSize());
+        this.scanReaders = ParallelScan.readers("authors", daoProperties.getParallelScan().getMaxReaders());
     }
 
     @Override
@@ -32,7 +66,7 @@ public class AuthorDaoImpl implements AuthorDao {
         // Uses JDBC template to execute a parameterized query for safety and performance
         List<Author> findOneQueryResults = jdbcTemplate.query(
                 "SELECT id, name, age FROM authors WHERE id = ? LIMIT 1",
-                new AuthorRowMapper(),  // RowMapper instance to convert database rows to Author objects
+                authorRowMapper,  // Singleton RowMapper converting database rows to Author objects
                 authorId
         );
 
@@ -41,20 +75,81 @@ public class AuthorDaoImpl implements AuthorDao {
         return findOneQueryResults.stream().findFirst();
     }
 
+    @Override
+    public List<Author> findAllByIds(Collection<Long> ids) {
+        return keyLookup.findAll("SELECT id, name, age FROM authors WHERE id", "bigint", ids, authorRowMapper);
+    }
+
     @Override
     public List<Author> find() {
         return jdbcTemplate.query("SELECT id, name, age FROM authors", authorRowMapper);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void forEach(Consumer<Author> action) {
+        jdbcTemplate.query(CursorQuery.of("SELECT id, name, age FROM authors", daoProperties.getFetchSize()),
+                (RowCallbackHandler) rs -> action.accept(authorRowMapper.mapRow(rs, rs.getRow())));
+    }
+
+    // MANDATORY: a transaction ending before the stream is closed would release the connection under the open cursor
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY, readOnly = true)
+    public Stream<Author> stream() {
+        return jdbcTemplate.queryForStream(
+                CursorQuery.of("SELECT id, name, age FROM authors", daoProperties.getFetchSize()), authorRowMapper);
+    }
+
+    @Override
+    public Stream<Author> parallelScan() {
+        DaoProperties.ParallelScan settings = daoProperties.getParallelScan();
+        List<ParallelScan.Partition> partitions = jdbcTemplate.query("SELECT MIN(id), MAX(id) FROM authors", rs -> {
+            rs.next();
+            long min = rs.getLong(1);
+            return rs.wasNull() ? List.of()
+                    : ParallelScan.idRanges("SELECT id, name, age FROM authors", "id", min, rs.getLong(2), settings.getParallelism());
+        });
+        return ParallelScan.stream(jdbcTemplate, scanReaders, partitions, authorRowMapper, daoProperties.getFetchSize(), settings);
+    }
+
+    @Override
+    public Optional<AuthorWithBooks> findOneWithBooks(Long authorId) {
+        List<AuthorWithBooks> result = new ArrayList<>(1);
+        jdbcTemplate.query(AUTHORS_WITH_BOOKS_SQL.formatted("WHERE id = ?"),
+                new AuthorWithBooksExtractor(result::add), authorId);
+        return result.stream().findFirst();
+    }
+
+    @Override
+    public List<AuthorWithBooks> findWithBooks(Long afterAuthorId, int limit) {
+        // The page is cut in the subquery, so LIMIT counts authors rather than joined rows
+        List<AuthorWithBooks> page = new ArrayList<>(limit);
+        jdbcTemplate.query(AUTHORS_WITH_BOOKS_SQL.formatted("WHERE id > ? ORDER BY id LIMIT ?"),
+                new AuthorWithBooksExtractor(page::add),
+                afterAuthorId == null ? Long.MIN_VALUE : afterAuthorId, limit);
+        return page;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachWithBooks(Consumer<AuthorWithBooks> action) {
+        jdbcTemplate.query(CursorQuery.of(AUTHORS_WITH_BOOKS_SQL.formatted(""), daoProperties.getFetchSize()),
+                new AuthorWithBooksExtractor(action));
+    }
+
     @Override
     public void update(Author author, Long id) {
-        jdbcTemplate.update(
-                "UPDATE authors SET id = ?, name = ?, age = ? WHERE id = ?",
-                author.getId(),
-                author.getName(),
-                author.getAge(),
-                id
-        );
+        // The id is only rewritten when it changes, sparing the primary key index an entry per update
+        int columns = UPDATE.allColumns(author, id);
+        jdbcTemplate.update(UPDATE.sql(columns), UPDATE.args(columns, author, id));
+    }
+
+    @Override
+    public void updateChanged(Author original, Author changed) {
+        int columns = UPDATE.changedColumns(original, changed);
+        if (columns != 0) {
+            jdbcTemplate.update(UPDATE.sql(columns), UPDATE.args(columns, changed, original.getId()));
+        }
     }
 
     @Override
@@ -64,4 +159,47 @@ public class AuthorDaoImpl implements AuthorDao {
                 id
         );
     }
+
+    @Override
+    @Transactional
+    public void createAll(Collection<Author> authors) {
+        if (authors.isEmpty()) {
+            return;
+        }
+        DaoProperties.Copy copy = daoProperties.getCopy();
+        if (copy.isEnabled() && authors.size() >= copy.getMinRows()
+                && PostgresCopy.tryCopyIn(jdbcTemplate, "COPY authors (id, name, age) FROM STDIN (FORMAT csv)", authors,
+                author -> new Object[]{author.getId(), author.getName(), author.getAge()})) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO authors (id, name, age) VALUES (?,?,?)",
+                authors, daoProperties.getBatchSize(), (ps, author) -> {
+                    ps.setObject(1, author.getId(), Types.BIGINT);
+                    ps.setString(2, author.getName());
+                    ps.setObject(3, author.getAge(), Types.INTEGER);
+                });
+    }
+
+    @Override
+    @Transactional
+    public void updateAll(Collection<Author> authors) {
+        jdbcTemplate.batchUpdate("UPDATE authors SET name = ?, age = ? WHERE id = ?",
+                authors, daoProperties.getBatchSize(), (ps, author) -> {
+                    ps.setString(1, author.getName());
+                    ps.setObject(2, author.getAge(), Types.INTEGER);
+                    ps.setObject(3, author.getId(), Types.BIGINT);
+                });
+    }
+
+    @Override
+    @Transactional
+    public void deleteAll(Collection<Long> ids) {
+        jdbcTemplate.batchUpdate("DELETE FROM authors WHERE id = ?",
+                ids, daoProperties.getBatchSize(), (ps, id) -> ps.setLong(1, id));
+    }
+
+    @Override
+    public void destroy() {
+        scanReaders.shutdownNow();
+    }
 }
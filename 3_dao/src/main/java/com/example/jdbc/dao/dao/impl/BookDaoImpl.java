@@ -1,22 +1,48 @@
 package com.example.jdbc.dao.dao.impl;
 
+import com.example.jdbc.dao.config.DaoProperties;
 import com.example.jdbc.dao.dao.BookDao;
+import com.example.jdbc.dao.dao.impl.RowMapper.BookRowMapper;
 import com.example.jdbc.dao.domain.Book;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.annotation.Fallback;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.sql.ResultSet;
-import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Component
-public class BookDaoImpl implements BookDao {
+@Fallback
+public class BookDaoImpl implements BookDao, DisposableBean {
+    private static final ChangedColumnsUpdate<Book> UPDATE = new ChangedColumnsUpdate<>("books", List.of(
+            new ChangedColumnsUpdate.Column<>("isbn", Book::getIsbn),
+            new ChangedColumnsUpdate.Column<>("title", Book::getTitle),
+            new ChangedColumnsUpdate.Column<>("author_id", Book::getAuthorId)));
+
     private final JdbcTemplate jdbcTemplate;
+    private final BookRowMapper bookRowMapper;
+    private final DaoProperties daoProperties;
+    private final KeyLookup keyLookup;
+    private final ExecutorService scanReaders;
+    private volatile String isbnHash;
 
-    public BookDaoImpl(JdbcTemplate jdbcTemplate) {
+    public BookDaoImpl(JdbcTemplate jdbcTemplate, BookRowMapper bookRowMapper, DaoProperties daoProperties) {
         this.jdbcTemplate = jdbcTemplate;
+        this.bookRowMapper = bookRowMapper;
+        this.daoProperties = daoProperties;
+        this.keyLookup = new KeyLookup(jdbcTemplate, () -> daoProperties.getLookupChunkSize());
+        this.scanReaders = ParallelScan.readers("books", daoProperties.getParallelScan().getMaxReaders());
     }
 
     @Override
@@ -29,8 +55,7 @@ public class BookDaoImpl implements BookDao {
     public Optional<Book> findOne(String isbn) {
         List<Book> findOneBookQueryResult = jdbcTemplate.query(
                 "SELECT isbn, title, author_id FROM books WHERE isbn = ? LIMIT 1",
-                // Use a new instance of BookRowMapper to convert the result set rows into Book objects
-                new BookRowMapper(),
+                bookRowMapper,
                 isbn
         );
 
@@ -39,19 +64,63 @@ public class BookDaoImpl implements BookDao {
         return findOneBookQueryResult.stream().findFirst();
     }
 
+    @Override
+    public List<Book> findAllByIsbns(Collection<String> isbns) {
+        return keyLookup.findAll("SELECT isbn, title, author_id FROM books WHERE isbn", "text", isbns, bookRowMapper);
+    }
+
     @Override
     public List<Book> find() {
-        return jdbcTemplate.query("SELECT isbn, title, author_id FROM books", new BookRowMapper());
+        return jdbcTemplate.query("SELECT isbn, title, author_id FROM books", bookRowMapper);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEach(Consumer<Book> action) {
+        jdbcTemplate.query(CursorQuery.of("SELECT isbn, title, author_id FROM books", daoProperties.getFetchSize()),
+                (RowCallbackHandler) rs -> action.accept(bookRowMapper.mapRow(rs, rs.getRow())));
+    }
+
+    // MANDATORY: a transaction ending before the stream is closed would release the connection under the open cursor
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY, readOnly = true)
+    public Stream<Book> stream() {
+        return jdbcTemplate.queryForStream(
+                CursorQuery.of("SELECT isbn, title, author_id FROM books", daoProperties.getFetchSize()), bookRowMapper);
+    }
+
+    @Override
+    public Stream<Book> parallelScan() {
+        DaoProperties.ParallelScan settings = daoProperties.getParallelScan();
+        List<ParallelScan.Partition> partitions = ParallelScan.hashPartitions(
+                "SELECT isbn, title, author_id FROM books", isbnHash(), settings.getParallelism());
+        return ParallelScan.stream(jdbcTemplate, scanReaders, partitions, bookRowMapper, daoProperties.getFetchSize(), settings);
+    }
+
+    // Integer hash of the isbn: Postgres hashtext, ORA_HASH elsewhere (H2, Oracle)
+    private String isbnHash() {
+        String result = isbnHash;
+        if (result == null) {
+            result = Boolean.TRUE.equals(jdbcTemplate.execute(
+                    (ConnectionCallback<Boolean>) connection -> connection.isWrapperFor(PGConnection.class)))
+                    ? "hashtext(isbn)" : "ORA_HASH(isbn)";
+            isbnHash = result;
+        }
+        return result;
     }
 
     @Override
     public void update(Book book, String isbn) {
-        jdbcTemplate.update("UPDATE books SET isbn = ? , title = ? , author_id = ? WHERE isbn = ?",
-                book.getIsbn(),
-                book.getTitle(),
-                book.getAuthorId(),
-                isbn
-        );
+        int columns = UPDATE.allColumns(book, isbn);
+        jdbcTemplate.update(UPDATE.sql(columns), UPDATE.args(columns, book, isbn));
+    }
+
+    @Override
+    public void updateChanged(Book original, Book changed) {
+        int columns = UPDATE.changedColumns(original, changed);
+        if (columns != 0) {
+            jdbcTemplate.update(UPDATE.sql(columns), UPDATE.args(columns, changed, original.getIsbn()));
+        }
     }
 
     @Override
@@ -59,21 +128,46 @@ public class BookDaoImpl implements BookDao {
         jdbcTemplate.update("DELETE FROM books WHERE isbn = ?", isbn);
     }
 
-    // Static inner class that implements RowMapper to convert a database result set row into a Book object
-    public static class BookRowMapper implements RowMapper<Book> {
+    @Override
+    @Transactional
+    public void createAll(Collection<Book> books) {
+        if (books.isEmpty()) {
+            return;
+        }
+        DaoProperties.Copy copy = daoProperties.getCopy();
+        if (copy.isEnabled() && books.size() >= copy.getMinRows()
+                && PostgresCopy.tryCopyIn(jdbcTemplate, "COPY books (isbn, title, author_id) FROM STDIN (FORMAT csv)", books,
+                book -> new Object[]{book.getIsbn(), book.getTitle(), book.getAuthorId()})) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO books (isbn, title, author_id) values (?,?,?)",
+                books, daoProperties.getBatchSize(), (ps, book) -> {
+                    ps.setString(1, book.getIsbn());
+                    ps.setString(2, book.getTitle());
+                    ps.setObject(3, book.getAuthorId(), Types.BIGINT);
+                });
+    }
+
+    @Override
+    @Transactional
+    public void updateAll(Collection<Book> books) {
+        jdbcTemplate.batchUpdate("UPDATE books SET title = ? , author_id = ? WHERE isbn = ?",
+                books, daoProperties.getBatchSize(), (ps, book) -> {
+                    ps.setString(1, book.getTitle());
+                    ps.setObject(2, book.getAuthorId(), Types.BIGINT);
+                    ps.setString(3, book.getIsbn());
+                });
+    }
 
-        @Override
-        public Book mapRow(ResultSet rs, int rowNum) throws SQLException {
-            System.out.println("Author mapRow - Result Set: " + rs);
-            System.out.println("Author mapRow - Row number: " + rowNum);
+    @Override
+    @Transactional
+    public void deleteAll(Collection<String> isbns) {
+        jdbcTemplate.batchUpdate("DELETE FROM books WHERE isbn = ?",
+                isbns, daoProperties.getBatchSize(), (ps, isbn) -> ps.setString(1, isbn));
+    }
 
-            // Map the current row of the result set to a Book instance using the builder pattern
-            // Extract the column value as a String from the respective columns and assigned to the corresponding Author field
-            // Build and return the Book object with these values
-            return Book.builder()
-                    .isbn(rs.getString("isbn"))
-                    .title(rs.getString("title"))
-                    .authorId(rs.getLong("author_id")).build();
-        }
+    @Override
+    public void destroy() {
+        scanReaders.shutdownNow();
     }
 }
@@ -0,0 +1,134 @@
+package com.example.jdbc.dao.dao.impl;
+
+import com.example.jdbc.dao.config.DaoProperties;
+import com.example.jdbc.dao.dao.AuthorDao;
+import com.example.jdbc.dao.domain.Author;
+import com.example.jdbc.dao.domain.AuthorWithBooks;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Read-through cache decorator of an AuthorDao: findOne answers repeated ids, and ids without a row, from a
+ * {@link FindOneCache}. Every write through this DAO drops the ids it touches; other reads go to the delegate.
+ */
+public class CachingAuthorDao implements AuthorDao {
+    private final AuthorDao delegate;
+    private final FindOneCache<Long, Author> cache;
+
+    public CachingAuthorDao(AuthorDao delegate, DaoProperties.Cache settings) {
+        this.delegate = delegate;
+        this.cache = new FindOneCache<>(settings, author -> new Author(author.getId(), author.getName(), author.getAge()));
+    }
+
+    @Override
+    public Optional<Author> findOne(Long authorId) {
+        return cache.get(authorId, delegate::findOne);
+    }
+
+    @Override
+    public void create(Author author) {
+        delegate.create(author);
+        cache.invalidate(author.getId());
+    }
+
+    @Override
+    public void update(Author author, Long id) {
+        delegate.update(author, id);
+        cache.invalidate(List.of(id, author.getId()));
+    }
+
+    @Override
+    public void updateChanged(Author original, Author changed) {
+        delegate.updateChanged(original, changed);
+        cache.invalidate(List.of(original.getId(), changed.getId()));
+    }
+
+    @Override
+    public void delete(Long id) {
+        delegate.delete(id);
+        cache.invalidate(id);
+    }
+
+    @Override
+    public void createAll(Collection<Author> authors) {
+        delegate.createAll(authors);
+        cache.invalidate(authors.stream().map(Author::getId).toList());
+    }
+
+    @Override
+    public void updateAll(Collection<Author> authors) {
+        delegate.updateAll(authors);
+        cache.invalidate(authors.stream().map(Author::getId).toList());
+    }
+
+    @Override
+    public void deleteAll(Collection<Long> ids) {
+        delegate.deleteAll(ids);
+        cache.invalidate(ids);
+    }
+
+    @Override
+    public List<Author> findAllByIds(Collection<Long> ids) {
+        return delegate.findAllByIds(ids);
+    }
+
+    @Override
+    public List<Author> find() {
+        return delegate.find();
+    }
+
+    @Override
+    public void forEach(Consumer<Author> action) {
+        delegate.forEach(action);
+    }
+
+    @Override
+    public Stream<Author> stream() {
+        return delegate.stream();
+    }
+
+    @Override
+    public Stream<Author> parallelScan() {
+        return delegate.parallelScan();
+    }
+
+    @Override
+    public Optional<AuthorWithBooks> findOneWithBooks(Long authorId) {
+        return delegate.findOneWithBooks(authorId);
+    }
+
+    @Override
+    public List<AuthorWithBooks> findWithBooks(Long afterAuthorId, int limit) {
+        return delegate.findWithBooks(afterAuthorId, limit);
+    }
+
+    @Override
+    public void forEachWithBooks(Consumer<AuthorWithBooks> action) {
+        delegate.forEachWithBooks(action);
+    }
+
+    /**
+     * Publishes the findOne cache as Micrometer cache.* meters tagged cache=dao.findOne, dao=authors.
+     */
+    public void bindCacheMetrics(MeterRegistry registry) {
+        cache.bindTo(registry, "authors");
+    }
+
+    /**
+     * Hits, misses (loads), evictions and load times of findOne since startup; hitRate() is the share of
+     * findOne calls answered without a query.
+     */
+    public CacheStats getCacheStats() {
+        return cache.stats();
+    }
+
+    public long getCachedEntries() {
+        return cache.size();
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.jdbc.dao.dao.impl;
+
+import com.example.jdbc.dao.config.DaoProperties;
+import com.example.jdbc.dao.dao.BookDao;
+import com.example.jdbc.dao.domain.Book;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Read-through cache decorator of a BookDao, keyed by isbn; same rules as {@link CachingAuthorDao}.
+ */
+public class CachingBookDao implements BookDao {
+    private final BookDao delegate;
+    private final FindOneCache<String, Book> cache;
+
+    public CachingBookDao(BookDao delegate, DaoProperties.Cache settings) {
+        this.delegate = delegate;
+        this.cache = new FindOneCache<>(settings, book -> new Book(book.getIsbn(), book.getTitle(), book.getAuthorId()));
+    }
+
+    @Override
+    public Optional<Book> findOne(String isbn) {
+        return cache.get(isbn, delegate::findOne);
+    }
+
+    @Override
+    public void create(Book book) {
+        delegate.create(book);
+        cache.invalidate(book.getIsbn());
+    }
+
+    @Override
+    public void update(Book book, String isbn) {
+        delegate.update(book, isbn);
+        cache.invalidate(List.of(isbn, book.getIsbn()));
+    }
+
+    @Override
+    public void updateChanged(Book original, Book changed) {
+        delegate.updateChanged(original, changed);
+        cache.invalidate(List.of(original.getIsbn(), changed.getIsbn()));
+    }
+
+    @Override
+    public void delete(String isbn) {
+        delegate.delete(isbn);
+        cache.invalidate(isbn);
+    }
+
+    @Override
+    public void createAll(Collection<Book> books) {
+        delegate.createAll(books);
+        cache.invalidate(books.stream().map(Book::getIsbn).toList());
+    }
+
+    @Override
+    public void updateAll(Collection<Book> books) {
+        delegate.updateAll(books);
+        cache.invalidate(books.stream().map(Book::getIsbn).toList());
+    }
+
+    @Override
+    public void deleteAll(Collection<String> isbns) {
+        delegate.deleteAll(isbns);
+        cache.invalidate(isbns);
+    }
+
+    @Override
+    public List<Book> findAllByIsbns(Collection<String> isbns) {
+        return delegate.findAllByIsbns(isbns);
+    }
+
+    @Override
+    public List<Book> find() {
+        return delegate.find();
+    }
+
+    @Override
+    public void forEach(Consumer<Book> action) {
+        delegate.forEach(action);
+    }
+
+    @Override
+    public Stream<Book> stream() {
+        return delegate.stream();
+    }
+
+    @Override
+    public Stream<Book> parallelScan() {
+        return delegate.parallelScan();
+    }
+
+    /**
+     * Publishes the findOne cache as Micrometer cache.* meters tagged cache=dao.findOne, dao=books.
+     */
+    public void bindCacheMetrics(MeterRegistry registry) {
+        cache.bindTo(registry, "books");
+    }
+
+    public CacheStats getCacheStats() {
+        return cache.stats();
+    }
+
+    public long getCachedEntries() {
+        return cache.size();
+    }
+}
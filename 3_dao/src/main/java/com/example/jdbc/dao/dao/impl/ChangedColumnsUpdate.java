@@ -0,0 +1,91 @@
+package com.example.jdbc.dao.dao.impl;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * UPDATE statements that set only some columns of a table, chosen per call as a bit mask over the columns.
+ * The SQL for each mask is built once and cached, so every combination of changed columns keeps a single statement
+ * text, which the driver and the Postgres server-side statement cache can reuse.
+ * Column 0 is the primary key; the row is matched by its old value.
+ */
+final class ChangedColumnsUpdate<T> {
+    private final String table;
+    private final List<Column<T>> columns;
+    private final AtomicReferenceArray<String> sqlByMask;
+
+    record Column<T>(String name, Function<T, Object> getter) {
+    }
+
+    ChangedColumnsUpdate(String table, List<Column<T>> columns) {
+        if (columns.isEmpty() || columns.size() > 16) {
+            throw new IllegalArgumentException("Between 1 and 16 columns expected, got " + columns.size());
+        }
+        this.table = table;
+        this.columns = List.copyOf(columns);
+        this.sqlByMask = new AtomicReferenceArray<>(1 << columns.size());
+    }
+
+    /**
+     * Mask of the columns whose values differ between the two rows; 0 when there is nothing to write.
+     */
+    int changedColumns(T original, T changed) {
+        int mask = 0;
+        for (int i = 0; i < columns.size(); i++) {
+            Function<T, Object> getter = columns.get(i).getter();
+            if (!Objects.equals(getter.apply(original), getter.apply(changed))) {
+                mask |= 1 << i;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Mask of every column, leaving out the primary key when the row keeps it.
+     */
+    int allColumns(T row, Object key) {
+        int mask = (1 << columns.size()) - 1;
+        return Objects.equals(columns.get(0).getter().apply(row), key) ? mask & ~1 : mask;
+    }
+
+    String sql(int mask) {
+        String sql = sqlByMask.get(mask);
+        if (sql == null) {
+            sql = buildSql(mask);
+            sqlByMask.set(mask, sql);
+        }
+        return sql;
+    }
+
+    /**
+     * The values of the masked columns of the row, followed by the key the row is matched by.
+     */
+    Object[] args(int mask, T row, Object key) {
+        Object[] args = new Object[Integer.bitCount(mask) + 1];
+        int next = 0;
+        for (int i = 0; i < columns.size(); i++) {
+            if ((mask & (1 << i)) != 0) {
+                args[next++] = columns.get(i).getter().apply(row);
+            }
+        }
+        args[next] = key;
+        return args;
+    }
+
+    private String buildSql(int mask) {
+        if (mask == 0) {
+            throw new IllegalArgumentException("No column to update");
+        }
+        StringBuilder sql = new StringBuilder("UPDATE ").append(table).append(" SET ");
+        String separator = "";
+        for (int i = 0; i < columns.size(); i++) {
+            if ((mask & (1 << i)) != 0) {
+                sql.append(separator).append(columns.get(i).name()).append(" = ?");
+                separator = ", ";
+            }
+        }
+        return sql.append(" WHERE ").append(columns.get(0).name()).append(" = ?").toString();
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.jdbc.dao.dao.impl;
+
+import org.springframework.jdbc.core.PreparedStatementCreator;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+/**
+ * Forward-only, read-only statement with a fetch size. Inside a transaction (auto-commit off) the Postgres driver
+ * then reads the result through a server-side cursor, fetchSize rows per round trip, instead of buffering all of it.
+ */
+final class CursorQuery {
+
+    private CursorQuery() {
+    }
+
+    static PreparedStatementCreator of(String sql, int fetchSize) {
+        return connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            return statement;
+        };
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.jdbc.dao.dao.impl;
+
+import com.example.jdbc.dao.config.DaoProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * findOne results by key, misses included (as empty Optionals), in a size-bounded Caffeine cache.
+ * Caffeine evicts with W-TinyLFU, so a scan over many cold keys does not push out the hot ones, and it loads a
+ * missing key once however many threads ask for it at the same time.
+ * <p>
+ * Cached rows are copies, and callers get copies, since the domain objects are mutable.
+ * The hit, miss, load and eviction counters are published as Micrometer cache.* meters, see {@link #bindTo}.
+ */
+final class FindOneCache<K, V> {
+    private final Cache<K, Optional<V>> cache;
+    private final UnaryOperator<V> copy;
+
+    FindOneCache(DaoProperties.Cache settings, UnaryOperator<V> copy) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(settings.getMaximumSize())
+                .expireAfterWrite(settings.getExpireAfterWrite())
+                .recordStats()
+                .build();
+        this.copy = copy;
+    }
+
+    Optional<V> get(K key, Function<K, Optional<V>> loader) {
+        return cache.get(key, k -> loader.apply(k).map(copy)).map(copy);
+    }
+
+    /**
+     * Drops the keys now and, inside a transaction, once more after it completes: a concurrent findOne may reload
+     * the old row between the write and its commit.
+     */
+    void invalidate(Collection<K> keys) {
+        List<K> written = List.copyOf(keys);
+        cache.invalidateAll(written);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidateAll(written);
+                }
+            });
+        }
+    }
+
+    void invalidate(K key) {
+        invalidate(List.of(key));
+    }
+
+    /**
+     * Registers Micrometer's cache.gets, cache.puts, cache.evictions, cache.size and cache.load meters,
+     * tagged cache=dao.findOne and dao=the DAO's table.
+     */
+    void bindTo(MeterRegistry registry, String table) {
+        CaffeineCacheMetrics.monitor(registry, cache, "dao.findOne", "dao", table);
+    }
+
+    CacheStats stats() {
+        return cache.stats();
+    }
+
+    long size() {
+        return cache.estimatedSize();
+    }
+}
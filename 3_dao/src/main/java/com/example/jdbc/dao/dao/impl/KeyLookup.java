@@ -0,0 +1,83 @@
+package com.example.jdbc.dao.dao.impl;
+
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.SqlArrayValue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntSupplier;
+
+/**
+ * Resolves many keys with a few statements whose SQL text repeats, so the driver and the server reuse their
+ * prepared statements:
+ * <ul>
+ *     <li>Postgres: {@code key = ANY(:keys)} with the keys bound as one array, the same SQL for any number of keys.</li>
+ *     <li>Other databases: {@code key IN (:keys)}, in chunks whose size is padded up to a power of two by repeating
+ *     the last key, so only a handful of distinct IN lists are ever prepared.</li>
+ * </ul>
+ */
+final class KeyLookup {
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final IntSupplier chunkSize;
+    private volatile Boolean postgres;
+
+    KeyLookup(JdbcTemplate jdbcTemplate, IntSupplier chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * @param select    the query up to the key column, e.g. {@code SELECT ... FROM authors WHERE id}
+     * @param arrayType the Postgres element type of the key column
+     * @return the rows found, in no particular order; keys without a row are skipped
+     */
+    <K, T> List<T> findAll(String select, String arrayType, Collection<K> keys, RowMapper<T> rowMapper) {
+        List<K> distinct = new ArrayList<>(new LinkedHashSet<>(keys));
+        List<T> rows = new ArrayList<>(distinct.size());
+        if (distinct.isEmpty()) {
+            return rows;
+        }
+
+        int chunk = Math.max(1, chunkSize.getAsInt());
+        boolean anyArray = isPostgres();
+        String sql = select + (anyArray ? " = ANY(:keys)" : " IN (:keys)");
+        for (int from = 0; from < distinct.size(); from += chunk) {
+            List<K> keysOfChunk = distinct.subList(from, Math.min(distinct.size(), from + chunk));
+            Object value = anyArray ? new SqlArrayValue(arrayType, keysOfChunk.toArray()) : padded(keysOfChunk, chunk);
+            rows.addAll(namedParameterJdbcTemplate.query(sql, Map.of("keys", value), rowMapper));
+        }
+        return rows;
+    }
+
+    private static <K> List<K> padded(List<K> keys, int chunk) {
+        int size = Math.min(chunk, Integer.highestOneBit(keys.size() - 1) << 1);
+        if (keys.size() == 1 || size <= keys.size()) {
+            return keys;
+        }
+        List<K> padded = new ArrayList<>(size);
+        padded.addAll(keys);
+        while (padded.size() < size) {
+            padded.add(keys.getLast());
+        }
+        return padded;
+    }
+
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            result = Boolean.TRUE.equals(jdbcTemplate.execute(
+                    (ConnectionCallback<Boolean>) connection -> connection.isWrapperFor(PGConnection.class)));
+            postgres = result;
+        }
+        return result;
+    }
+}
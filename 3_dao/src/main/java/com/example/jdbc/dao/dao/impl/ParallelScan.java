@@ -0,0 +1,235 @@
+package com.example.jdbc.dao.dao.impl;
+
+import com.example.jdbc.dao.config.DaoProperties;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads the partitions of a table concurrently, one reader task and one pooled connection per partition, and merges
+ * their rows into a single stream through a bounded queue of row chunks. Rows arrive in no particular order. Each partition reads
+ * through a cursor inside its own read-only transaction, so the partitions are not one consistent snapshot.
+ * The readers run on a bounded executor shared by the scans of a DAO; partitions beyond its size wait for a free thread
+ * without holding a connection. The returned stream must be closed; closing it early stops the readers and releases
+ * their connections. A reader whose rows the consumer has not taken for {@code consumerTimeout} gives up the same way,
+ * so a stream that is dropped without being closed does not pin threads and connections.
+ */
+final class ParallelScan<T> {
+    private static final Object PARTITION_DONE = new Object();
+    // Rows handed over per queue operation, so the readers and the consumer rarely contend on the queue
+    private static final int CHUNK_ROWS = 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RowMapper<T> rowMapper;
+    private final int fetchSize;
+    private final BlockingQueue<Object> queue;
+    private final long consumerTimeoutNanos;
+    private final List<Future<?>> readers = new ArrayList<>();
+    // Set by a reader that timed out waiting for the consumer; no reader adds to the queue afterwards
+    private volatile boolean abandoned;
+
+    /**
+     * The rows of one key range: {@code sql} is the full SELECT with its range condition.
+     */
+    record Partition(String sql, Object... args) {
+    }
+
+    private record Failure(RuntimeException exception) {
+    }
+
+    private ParallelScan(JdbcTemplate jdbcTemplate, RowMapper<T> rowMapper, int fetchSize, int bufferRows,
+                         Duration consumerTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.rowMapper = rowMapper;
+        this.fetchSize = fetchSize;
+        this.queue = new ArrayBlockingQueue<>(Math.max(2, bufferRows / CHUNK_ROWS));
+        this.consumerTimeoutNanos = consumerTimeout.toNanos();
+    }
+
+    /**
+     * Fixed pool of daemon reader threads; the owning DAO shuts it down when the bean is destroyed.
+     */
+    static ExecutorService readers(String table, int threads) {
+        return Executors.newFixedThreadPool(threads, Thread.ofPlatform().daemon().name("dao-scan-" + table + "-", 0).factory());
+    }
+
+    static <T> Stream<T> stream(JdbcTemplate jdbcTemplate, ExecutorService executor, List<Partition> partitions,
+                                RowMapper<T> rowMapper, int fetchSize, DaoProperties.ParallelScan settings) {
+        ParallelScan<T> scan = new ParallelScan<>(jdbcTemplate, rowMapper, fetchSize, settings.getBufferRows(),
+                settings.getConsumerTimeout());
+        synchronized (scan.readers) {
+            for (Partition partition : partitions) {
+                scan.readers.add(executor.submit(() -> scan.read(partition)));
+            }
+        }
+        return StreamSupport.stream(scan.new Merger(partitions.size()), false).onClose(scan::cancel);
+    }
+
+    /**
+     * Splits {@code [min, max]} into at most {@code parallelism} contiguous ranges of {@code column BETWEEN ? AND ?}.
+     */
+    static List<Partition> idRanges(String select, String column, long min, long max, int parallelism) {
+        long step = Math.max(1, Math.ceilDiv(max - min + 1, parallelism));
+        String sql = select + " WHERE " + column + " BETWEEN ? AND ?";
+        List<Partition> partitions = new ArrayList<>(parallelism);
+        for (long low = min; low <= max; low += step) {
+            partitions.add(new Partition(sql, low, Math.min(max, low + step - 1)));
+            if (max - low < step) {
+                break;
+            }
+        }
+        return partitions;
+    }
+
+    /**
+     * Splits a table into {@code parallelism} buckets of {@code ABS(MOD(hash, parallelism)) = ?}, where {@code hash} is an
+     * integer hash of the key computed by the database. Unlike key ranges this needs no boundaries from the data, at the
+     * cost of every partition scanning the whole table and keeping its own bucket.
+     */
+    static List<Partition> hashPartitions(String select, String hash, int parallelism) {
+        List<Partition> partitions = new ArrayList<>(Math.max(1, parallelism));
+        if (parallelism < 2) {
+            partitions.add(new Partition(select));
+            return partitions;
+        }
+        String sql = select + " WHERE ABS(MOD(" + hash + ", ?)) = ?";
+        for (int bucket = 0; bucket < parallelism; bucket++) {
+            partitions.add(new Partition(sql, parallelism, bucket));
+        }
+        return partitions;
+    }
+
+    private void read(Partition partition) {
+        try {
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                readThroughCursor(connection, partition);
+                return null;
+            });
+            offer(PARTITION_DONE);
+        } catch (CancellationException cancelled) {
+            // The consumer closed the stream or stopped taking rows; nobody is waiting for the remaining rows
+        } catch (RuntimeException e) {
+            try {
+                offer(new Failure(e));
+            } catch (CancellationException cancelled) {
+                // Closed while reporting the failure
+            }
+        }
+    }
+
+    // Postgres only fetches through a cursor with auto-commit off
+    private void readThroughCursor(Connection connection, Partition partition) throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (PreparedStatement statement = CursorQuery.of(partition.sql(), fetchSize).createPreparedStatement(connection)) {
+            for (int i = 0; i < partition.args().length; i++) {
+                statement.setObject(i + 1, partition.args()[i]);
+            }
+            try (ResultSet rs = statement.executeQuery()) {
+                int rowNum = 0;
+                List<T> chunk = new ArrayList<>(CHUNK_ROWS);
+                while (rs.next()) {
+                    chunk.add(rowMapper.mapRow(rs, rowNum++));
+                    if (chunk.size() == CHUNK_ROWS) {
+                        offer(chunk);
+                        chunk = new ArrayList<>(CHUNK_ROWS);
+                    }
+                }
+                if (!chunk.isEmpty()) {
+                    offer(chunk);
+                }
+            }
+        } finally {
+            connection.rollback();
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private void offer(Object item) {
+        boolean taken;
+        try {
+            taken = !abandoned && queue.offer(item, consumerTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Parallel scan closed");
+        }
+        if (!taken) {
+            abandoned = true;
+            cancel();
+            throw new CancellationException("Parallel scan consumer took no rows for " + Duration.ofNanos(consumerTimeoutNanos));
+        }
+    }
+
+    // Interrupts the running readers and drops the ones still waiting for a thread
+    private void cancel() {
+        synchronized (readers) {
+            readers.forEach(reader -> reader.cancel(true));
+        }
+    }
+
+    private final class Merger extends Spliterators.AbstractSpliterator<T> {
+        private int partitionsLeft;
+        private Iterator<T> chunk = Collections.emptyIterator();
+
+        Merger(int partitions) {
+            super(Long.MAX_VALUE, Spliterator.NONNULL);
+            this.partitionsLeft = partitions;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(Consumer<? super T> action) {
+            while (!chunk.hasNext() && partitionsLeft > 0) {
+                // Readers only give up while the queue is full, so this sees the leftover rows before the failure
+                if (abandoned && queue.isEmpty()) {
+                    partitionsLeft = 0;
+                    throw new CancellationException("Parallel scan readers stopped after the consumer stalled");
+                }
+                Object next;
+                try {
+                    next = queue.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    cancel();
+                    throw new CancellationException("Interrupted while waiting for scanned rows");
+                }
+                if (next == PARTITION_DONE) {
+                    partitionsLeft--;
+                } else if (next instanceof Failure failure) {
+                    partitionsLeft = 0;
+                    cancel();
+                    throw failure.exception();
+                } else {
+                    chunk = ((List<T>) next).iterator();
+                }
+            }
+            if (!chunk.hasNext()) {
+                return false;
+            }
+            action.accept(chunk.next());
+            return true;
+        }
+    }
+}
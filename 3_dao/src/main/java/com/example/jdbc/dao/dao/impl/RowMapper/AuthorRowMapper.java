@@ -1,33 +1,28 @@
 package com.example.jdbc.dao.dao.impl.RowMapper;
 
 import com.example.jdbc.dao.domain.Author;
-import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Component;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
 
+// Singleton RowMapper used by JdbcTemplate.query() to turn each authors row into an Author
 @Component
-public class AuthorRowMapper implements RowMapper<Author> {
-    // Static inner class that implements RowMapper to convert database result set rows into Author domain objects
-    // RowMapper is used by JdbcTemplate.query() to transform each SQL result row into a Java object
+public class AuthorRowMapper extends ColumnIndexRowMapper<Author> {
+    private static final int ID = 0;
+    private static final int NAME = 1;
+    private static final int AGE = 2;
 
-    @Override
-    public Author mapRow(ResultSet rs, int rowNum) throws SQLException {
-        // Resultset Metadata and print colum headers
-//            System.out.println("Author mapRow - Result Set Meta data");
-//            ResultSetMetaData meta = rs.getMetaData();
-//            for (int i = 1; i <= meta.getColumnCount(); i++) {
-//                System.out.print(meta.getColumnName(i) + "\n");
-//            }
+    public AuthorRowMapper() {
+        super("id", "name", "age");
+    }
 
-        // Map the current row of the result set to an Author instance using the builder pattern
-        // Extract the column value as a String from the respective columns and assigned to the corresponding Author field
-        // Build and return the Book object with these values
-        return Author.builder()
-                .id(rs.getLong("id"))     // Maps the 'id' column (Long) to the Author's id field
-                .name(rs.getString("name"))  // Maps the 'name' column (String) to the Author's name field
-                .age(rs.getInt("age"))    // Maps the 'age' column (Integer) to the Author's age field
-                .build();  // Builds and returns the complete Author object
+    @Override
+    protected Author mapRow(ResultSet rs, int[] columns) throws SQLException {
+        // All-args constructor rather than the builder: one allocation per row
+        return new Author(
+                rs.getLong(columns[ID]),      // 'id' column (Long)
+                rs.getString(columns[NAME]),  // 'name' column (String)
+                rs.getInt(columns[AGE]));     // 'age' column (Integer)
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,58 @@
+package com.example.jdbc.dao.dao.impl.RowMapper;
+
+import com.example.jdbc.dao.domain.Author;
+import com.example.jdbc.dao.domain.AuthorWithBooks;
+import com.example.jdbc.dao.domain.Book;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.function.Consumer;
+
+/**
+ * Folds the rows of an authors LEFT JOIN books query, ordered by author id, into one AuthorWithBooks per author.
+ * Rows of the same author are consecutive, so each aggregate is handed to the sink as soon as the next author
+ * starts, in a single pass and without holding more than one author in memory.
+ * Expects the columns id, name, age, isbn and title; an author without books has one row with a NULL isbn.
+ */
+public class AuthorWithBooksExtractor implements ResultSetExtractor<Integer> {
+    private final Consumer<AuthorWithBooks> sink;
+
+    public AuthorWithBooksExtractor(Consumer<AuthorWithBooks> sink) {
+        this.sink = sink;
+    }
+
+    /**
+     * @return the number of authors handed to the sink
+     */
+    @Override
+    public Integer extractData(ResultSet rs) throws SQLException {
+        int id = rs.findColumn("id");
+        int name = rs.findColumn("name");
+        int age = rs.findColumn("age");
+        int isbn = rs.findColumn("isbn");
+        int title = rs.findColumn("title");
+
+        int authors = 0;
+        AuthorWithBooks current = null;
+        while (rs.next()) {
+            long authorId = rs.getLong(id);
+            if (current == null || current.getAuthor().getId() != authorId) {
+                if (current != null) {
+                    sink.accept(current);
+                }
+                current = new AuthorWithBooks();
+                current.setAuthor(new Author(authorId, rs.getString(name), rs.getInt(age)));
+                authors++;
+            }
+            String bookIsbn = rs.getString(isbn);
+            if (bookIsbn != null) {
+                current.getBooks().add(new Book(bookIsbn, rs.getString(title), authorId));
+            }
+        }
+        if (current != null) {
+            sink.accept(current);
+        }
+        return authors;
+    }
+}
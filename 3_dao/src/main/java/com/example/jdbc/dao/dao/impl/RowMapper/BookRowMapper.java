@@ -0,0 +1,27 @@
+package com.example.jdbc.dao.dao.impl.RowMapper;
+
+import com.example.jdbc.dao.domain.Book;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+// Singleton RowMapper used by JdbcTemplate.query() to turn each books row into a Book
+@Component
+public class BookRowMapper extends ColumnIndexRowMapper<Book> {
+    private static final int ISBN = 0;
+    private static final int TITLE = 1;
+    private static final int AUTHOR_ID = 2;
+
+    public BookRowMapper() {
+        super("isbn", "title", "author_id");
+    }
+
+    @Override
+    protected Book mapRow(ResultSet rs, int[] columns) throws SQLException {
+        return new Book(
+                rs.getString(columns[ISBN]),       // 'isbn' column (String)
+                rs.getString(columns[TITLE]),      // 'title' column (String)
+                rs.getLong(columns[AUTHOR_ID]));   // 'author_id' column (Long)
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.jdbc.dao.dao.impl.RowMapper;
+
+import org.springframework.jdbc.core.RowMapper;
+
+import java.lang.ref.WeakReference;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Base for the singleton row mappers: the column labels are looked up once per result set and every row is then
+ * read by index. Safe to share between threads: each thread remembers the last result set it read, so the
+ * partitions of a parallel scan do not invalidate each other's indexes.
+ */
+public abstract class ColumnIndexRowMapper<T> implements RowMapper<T> {
+    private final String[] columnLabels;
+    // Weak, so a mapper idling after a large query does not keep its result set reachable
+    private final ThreadLocal<ResolvedColumns> resolved =
+            ThreadLocal.withInitial(() -> new ResolvedColumns(new WeakReference<>(null), new int[0]));
+
+    protected ColumnIndexRowMapper(String... columnLabels) {
+        this.columnLabels = columnLabels;
+    }
+
+    @Override
+    public final T mapRow(ResultSet rs, int rowNum) throws SQLException {
+        ResolvedColumns columns = resolved.get();
+        if (columns.resultSet.get() != rs) {
+            columns = resolve(rs);
+            resolved.set(columns);
+        }
+        return mapRow(rs, columns.indexes);
+    }
+
+    /**
+     * Maps the current row; {@code columns[i]} is the index of the i-th label passed to the constructor.
+     */
+    protected abstract T mapRow(ResultSet rs, int[] columns) throws SQLException;
+
+    private ResolvedColumns resolve(ResultSet rs) throws SQLException {
+        int[] indexes = new int[columnLabels.length];
+        for (int i = 0; i < columnLabels.length; i++) {
+            indexes[i] = rs.findColumn(columnLabels[i]);
+        }
+        return new ResolvedColumns(new WeakReference<>(rs), indexes);
+    }
+
+    private record ResolvedColumns(WeakReference<ResultSet> resultSet, int[] indexes) {
+    }
+}
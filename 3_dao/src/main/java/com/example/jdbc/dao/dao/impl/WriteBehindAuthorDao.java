@@ -0,0 +1,168 @@
+package com.example.jdbc.dao.dao.impl;
+
+import com.example.jdbc.dao.config.DaoProperties;
+import com.example.jdbc.dao.dao.AuthorDao;
+import com.example.jdbc.dao.domain.Author;
+import com.example.jdbc.dao.domain.AuthorWithBooks;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Write-behind decorator of an AuthorDao: update calls are buffered per author id, repeated updates of an author
+ * collapse into one, and the buffer is written with updateAll (see {@link WriteBehindBuffer}).
+ * findOne sees buffered updates; the other reads and all other writes flush the buffer first, so every read sees
+ * every earlier write. An update inside a transaction is only buffered once the transaction commits, so reads in that
+ * transaction do not see it. The buffer is flushed when the bean is destroyed, i.e. on application shutdown.
+ */
+public class WriteBehindAuthorDao implements AuthorDao, DisposableBean {
+    private final AuthorDao delegate;
+    private final WriteBehindBuffer<Long, Author> buffer;
+
+    public WriteBehindAuthorDao(AuthorDao delegate, DaoProperties.WriteBehind settings) {
+        this.delegate = delegate;
+        this.buffer = new WriteBehindBuffer<>("authors", delegate::updateAll, settings.getFlushSize(),
+                settings.getMaxPending(), settings.getFlushInterval());
+    }
+
+    @Override
+    public void update(Author author, Long id) {
+        if (!Objects.equals(author.getId(), id)) {
+            // Changing the key cannot be coalesced with updates addressed to the new or the old id
+            buffer.flush();
+            delegate.update(author, id);
+            return;
+        }
+        buffer.put(id, copyOf(author));
+    }
+
+    // An update that keeps the id is buffered whole; updateAll writes name and age together anyway
+    @Override
+    public void updateChanged(Author original, Author changed) {
+        if (!original.equals(changed)) {
+            update(changed, original.getId());
+        }
+    }
+
+    @Override
+    public Optional<Author> findOne(Long authorId) {
+        Author pending = buffer.get(authorId);
+        return pending != null ? Optional.of(copyOf(pending)) : delegate.findOne(authorId);
+    }
+
+    @Override
+    public void delete(Long id) {
+        buffer.discard(id);
+        delegate.delete(id);
+    }
+
+    @Override
+    public void create(Author author) {
+        buffer.flush();
+        delegate.create(author);
+    }
+
+    @Override
+    public List<Author> findAllByIds(Collection<Long> ids) {
+        buffer.flush();
+        return delegate.findAllByIds(ids);
+    }
+
+    @Override
+    public List<Author> find() {
+        buffer.flush();
+        return delegate.find();
+    }
+
+    @Override
+    public void forEach(Consumer<Author> action) {
+        buffer.flush();
+        delegate.forEach(action);
+    }
+
+    @Override
+    public Stream<Author> stream() {
+        buffer.flush();
+        return delegate.stream();
+    }
+
+    @Override
+    public Stream<Author> parallelScan() {
+        buffer.flush();
+        return delegate.parallelScan();
+    }
+
+    @Override
+    public Optional<AuthorWithBooks> findOneWithBooks(Long authorId) {
+        buffer.flush();
+        return delegate.findOneWithBooks(authorId);
+    }
+
+    @Override
+    public List<AuthorWithBooks> findWithBooks(Long afterAuthorId, int limit) {
+        buffer.flush();
+        return delegate.findWithBooks(afterAuthorId, limit);
+    }
+
+    @Override
+    public void forEachWithBooks(Consumer<AuthorWithBooks> action) {
+        buffer.flush();
+        delegate.forEachWithBooks(action);
+    }
+
+    @Override
+    public void createAll(Collection<Author> authors) {
+        buffer.flush();
+        delegate.createAll(authors);
+    }
+
+    @Override
+    public void updateAll(Collection<Author> authors) {
+        buffer.flush();
+        delegate.updateAll(authors);
+    }
+
+    @Override
+    public void deleteAll(Collection<Long> ids) {
+        ids.forEach(buffer::discard);
+        delegate.deleteAll(ids);
+    }
+
+    /**
+     * Writes all buffered updates now.
+     */
+    public void flush() {
+        buffer.flush();
+    }
+
+    public int getPendingWrites() {
+        return buffer.pendingCount();
+    }
+
+    public long getCoalescedWrites() {
+        return buffer.getCoalescedWrites();
+    }
+
+    public long getFlushedRows() {
+        return buffer.getFlushedRows();
+    }
+
+    public long getDroppedRows() {
+        return buffer.getDroppedRows();
+    }
+
+    @Override
+    public void destroy() {
+        buffer.close();
+    }
+
+    // The caller may keep mutating the instance it passed in
+    private static Author copyOf(Author author) {
+        return new Author(author.getId(), author.getName(), author.getAge());
+    }
+}
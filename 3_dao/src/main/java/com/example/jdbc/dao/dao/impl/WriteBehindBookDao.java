@@ -0,0 +1,139 @@
+package com.example.jdbc.dao.dao.impl;
+
+import com.example.jdbc.dao.config.DaoProperties;
+import com.example.jdbc.dao.dao.BookDao;
+import com.example.jdbc.dao.domain.Book;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Write-behind decorator of a BookDao, keyed by isbn; same rules as {@link WriteBehindAuthorDao}.
+ */
+public class WriteBehindBookDao implements BookDao, DisposableBean {
+    private final BookDao delegate;
+    private final WriteBehindBuffer<String, Book> buffer;
+
+    public WriteBehindBookDao(BookDao delegate, DaoProperties.WriteBehind settings) {
+        this.delegate = delegate;
+        this.buffer = new WriteBehindBuffer<>("books", delegate::updateAll, settings.getFlushSize(),
+                settings.getMaxPending(), settings.getFlushInterval());
+    }
+
+    @Override
+    public void update(Book book, String isbn) {
+        if (!Objects.equals(book.getIsbn(), isbn)) {
+            buffer.flush();
+            delegate.update(book, isbn);
+            return;
+        }
+        buffer.put(isbn, copyOf(book));
+    }
+
+    @Override
+    public void updateChanged(Book original, Book changed) {
+        if (!original.equals(changed)) {
+            update(changed, original.getIsbn());
+        }
+    }
+
+    @Override
+    public Optional<Book> findOne(String isbn) {
+        Book pending = buffer.get(isbn);
+        return pending != null ? Optional.of(copyOf(pending)) : delegate.findOne(isbn);
+    }
+
+    @Override
+    public void delete(String isbn) {
+        buffer.discard(isbn);
+        delegate.delete(isbn);
+    }
+
+    @Override
+    public void create(Book book) {
+        buffer.flush();
+        delegate.create(book);
+    }
+
+    @Override
+    public List<Book> findAllByIsbns(Collection<String> isbns) {
+        buffer.flush();
+        return delegate.findAllByIsbns(isbns);
+    }
+
+    @Override
+    public List<Book> find() {
+        buffer.flush();
+        return delegate.find();
+    }
+
+    @Override
+    public void forEach(Consumer<Book> action) {
+        buffer.flush();
+        delegate.forEach(action);
+    }
+
+    @Override
+    public Stream<Book> stream() {
+        buffer.flush();
+        return delegate.stream();
+    }
+
+    @Override
+    public Stream<Book> parallelScan() {
+        buffer.flush();
+        return delegate.parallelScan();
+    }
+
+    @Override
+    public void createAll(Collection<Book> books) {
+        buffer.flush();
+        delegate.createAll(books);
+    }
+
+    @Override
+    public void updateAll(Collection<Book> books) {
+        buffer.flush();
+        delegate.updateAll(books);
+    }
+
+    @Override
+    public void deleteAll(Collection<String> isbns) {
+        isbns.forEach(buffer::discard);
+        delegate.deleteAll(isbns);
+    }
+
+    public void flush() {
+        buffer.flush();
+    }
+
+    public int getPendingWrites() {
+        return buffer.pendingCount();
+    }
+
+    public long getCoalescedWrites() {
+        return buffer.getCoalescedWrites();
+    }
+
+    public long getFlushedRows() {
+        return buffer.getFlushedRows();
+    }
+
+    public long getDroppedRows() {
+        return buffer.getDroppedRows();
+    }
+
+    @Override
+    public void destroy() {
+        buffer.close();
+    }
+
+    private static Book copyOf(Book book) {
+        return new Book(book.getIsbn(), book.getTitle(), book.getAuthorId());
+    }
+}
@@ -0,0 +1,216 @@
+package com.example.jdbc.dao.dao.impl;
+
+import lombok.extern.java.Log;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+/**
+ * Pending row writes keyed by primary key. A write to a key that is already pending replaces it (coalescing),
+ * so a burst of updates to one row becomes a single UPDATE. The map is a ConcurrentHashMap, which locks per bin,
+ * so writers to different keys do not contend.
+ * <p>
+ * Pending values are written in batches by one flusher at a time: every flushInterval, as soon as flushSize keys are
+ * pending, and on {@link #close()}. An entry is only removed once its batch is written and only if it was not
+ * replaced meanwhile, so a newer value is never lost. At maxPending keys the buffer is full, and a put of a new key
+ * writes the buffer on the caller's thread first, so the buffer cannot outgrow a database that falls behind.
+ * <p>
+ * A batch that fails because the database is unreachable, or with a transient error, stays pending and is retried
+ * by the next flush. Any other failure is blamed on a row: the batch is written again row by row, and the rows that
+ * still fail are dropped and logged, so one bad row cannot keep the rest of the buffer from being written.
+ */
+@Log
+class WriteBehindBuffer<K, V> implements AutoCloseable {
+    private final Map<K, V> pending = new ConcurrentHashMap<>();
+    private final Consumer<List<V>> writer;
+    private final int flushSize;
+    private final int maxPending;
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final ScheduledExecutorService scheduler;
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final AtomicLong coalescedWrites = new AtomicLong();
+    private final AtomicLong flushedRows = new AtomicLong();
+    private final AtomicLong droppedRows = new AtomicLong();
+
+    /**
+     * @param writer writes one batch of values; it must match each value to its row by the value's own key
+     */
+    WriteBehindBuffer(String name, Consumer<List<V>> writer, int flushSize, int maxPending, Duration flushInterval) {
+        this.writer = writer;
+        this.flushSize = flushSize;
+        this.maxPending = maxPending;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().daemon().name("write-behind-" + name).factory());
+        long intervalNanos = flushInterval.toNanos();
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Buffers the value. Inside a transaction it is only buffered once the transaction commits, and never if it rolls
+     * back: the flusher writes outside of it, so an earlier buffer would write rows the transaction then undoes.
+     * Reads in the same transaction therefore do not see the value.
+     */
+    void put(K key, V value) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    buffer(key, value);
+                }
+            });
+            return;
+        }
+        buffer(key, value);
+    }
+
+    private void buffer(K key, V value) {
+        if (pending.size() >= maxPending && !pending.containsKey(key)) {
+            flush();
+        }
+        if (pending.put(key, value) != null) {
+            coalescedWrites.incrementAndGet();
+        }
+        if (pending.size() >= flushSize && flushRequested.compareAndSet(false, true)) {
+            scheduler.execute(() -> {
+                flushRequested.set(false);
+                flushQuietly();
+            });
+        }
+    }
+
+    /**
+     * The value waiting to be written for the key, or null when its row is up to date.
+     */
+    V get(K key) {
+        return pending.get(key);
+    }
+
+    /**
+     * Drops the pending write of a key whose row is about to be deleted.
+     */
+    void discard(K key) {
+        pending.remove(key);
+    }
+
+    /**
+     * Writes everything pending at the time of the call, in batches of flushSize, before returning.
+     */
+    void flush() {
+        flushLock.lock();
+        try {
+            List<Map.Entry<K, V>> batch = new ArrayList<>(Math.min(flushSize, pending.size()));
+            for (Map.Entry<K, V> entry : pending.entrySet()) {
+                batch.add(Map.entry(entry.getKey(), entry.getValue()));
+                if (batch.size() == flushSize) {
+                    write(batch);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void write(List<Map.Entry<K, V>> batch) {
+        try {
+            writer.accept(batch.stream().map(Map.Entry::getValue).toList());
+        } catch (RuntimeException e) {
+            if (isTransient(e)) {
+                throw e;
+            }
+            writeRowByRow(batch);
+            return;
+        }
+        for (Map.Entry<K, V> written : batch) {
+            pending.remove(written.getKey(), written.getValue());
+        }
+        flushedRows.addAndGet(batch.size());
+    }
+
+    private void writeRowByRow(List<Map.Entry<K, V>> batch) {
+        for (Map.Entry<K, V> row : batch) {
+            try {
+                writer.accept(List.of(row.getValue()));
+                flushedRows.incrementAndGet();
+            } catch (RuntimeException e) {
+                if (isTransient(e)) {
+                    // The rows not written yet stay pending
+                    throw e;
+                }
+                droppedRows.incrementAndGet();
+                log.log(Level.SEVERE, "Write-behind dropped the write of " + row.getKey(), e);
+            }
+            pending.remove(row.getKey(), row.getValue());
+        }
+    }
+
+    // Failures not caused by the rows themselves, which a later flush of the same rows can get past
+    private static boolean isTransient(RuntimeException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException;
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.log(Level.WARNING, "Write-behind flush failed; " + pending.size() + " writes stay pending", e);
+        }
+    }
+
+    int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Writes that replaced a still-pending write of the same key, i.e. UPDATEs saved.
+     */
+    long getCoalescedWrites() {
+        return coalescedWrites.get();
+    }
+
+    long getFlushedRows() {
+        return flushedRows.get();
+    }
+
+    /**
+     * Writes that failed on their own when their batch was retried row by row, and were given up.
+     */
+    long getDroppedRows() {
+        return droppedRows.get();
+    }
+
+    /**
+     * Stops the background flushes and writes everything still pending.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.jdbc.dao.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class AuthorWithBooks {
+    private Author author;
+    @Builder.Default
+    private List<Book> books = new ArrayList<>();
+}
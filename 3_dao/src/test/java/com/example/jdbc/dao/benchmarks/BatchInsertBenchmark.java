@@ -0,0 +1,75 @@
+package com.example.jdbc.dao.benchmarks;
+
+import com.example.jdbc.dao.DaoApplication;
+import com.example.jdbc.dao.dao.AuthorDao;
+import com.example.jdbc.dao.domain.Author;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.jdbc.dao.util.TestDataUtil.buildAuthor;
+
+/**
+ * Rows/sec of inserting 10k authors: one AuthorDao.create per row, createAll with JDBC batches,
+ * and createAll with COPY FROM STDIN.
+ * Runs against the in-memory H2 database from src/test/resources, where the copy case falls back to batches.
+ * To measure against the docker-compose Postgres, export SPRING_DATASOURCE_URL, SPRING_DATASOURCE_USERNAME,
+ * SPRING_DATASOURCE_PASSWORD and SPRING_DATASOURCE_DRIVER_CLASS_NAME=org.postgresql.Driver before running.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(BatchInsertBenchmark.ROWS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BatchInsertBenchmark {
+    static final int ROWS = 10_000;
+
+    @Param({"perRow", "batch", "copy"})
+    private String path;
+
+    private ConfigurableApplicationContext context;
+    private AuthorDao authorDao;
+    private JdbcTemplate jdbcTemplate;
+    private long nextId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = SpringApplication.run(DaoApplication.class,
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--app.dao.copy.enabled=" + "copy".equals(path));
+        authorDao = context.getBean(AuthorDao.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearTables() {
+        jdbcTemplate.update("DELETE FROM books");
+        jdbcTemplate.update("DELETE FROM authors");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void insert10kAuthors() {
+        List<Author> authors = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            authors.add(buildAuthor(nextId++, "Author " + nextId, 20 + i % 60));
+        }
+        if ("perRow".equals(path)) {
+            authors.forEach(authorDao::create);
+        } else {
+            authorDao.createAll(authors);
+        }
+    }
+}
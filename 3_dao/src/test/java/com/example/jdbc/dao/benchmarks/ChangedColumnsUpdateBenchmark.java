@@ -0,0 +1,121 @@
+package com.example.jdbc.dao.benchmarks;
+
+import com.example.jdbc.dao.DaoApplication;
+import com.example.jdbc.dao.dao.AuthorDao;
+import com.example.jdbc.dao.domain.Author;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.DatabaseMetaData;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.jdbc.dao.util.TestDataUtil.buildAuthor;
+
+/**
+ * Latency of one author update that changes the age only, written as:
+ * the full-row statement AuthorDaoImpl used before (SET id, name, age), update (SET name, age),
+ * and updateChanged (SET age); plus updateChanged with nothing changed, which runs no statement.
+ * <p>
+ * Runs against the in-memory H2 database from src/test/resources by default. Pointed at Postgres through the
+ * SPRING_DATASOURCE_URL / _USERNAME / _PASSWORD / _DRIVER_CLASS_NAME and SPRING_SQL_INIT_MODE=always environment
+ * variables, it also prints the WAL bytes written per update in each iteration.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ChangedColumnsUpdateBenchmark {
+    private static final int AUTHORS = 10_000;
+
+    private ConfigurableApplicationContext context;
+    private AuthorDao authorDao;
+    private JdbcTemplate jdbcTemplate;
+    private boolean postgres;
+    private final List<Author> current = new ArrayList<>(AUTHORS);
+    private long updates;
+    private String walStart;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = SpringApplication.run(DaoApplication.class,
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN");
+        authorDao = context.getBean(AuthorDao.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        postgres = "PostgreSQL".equals(jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> {
+                    DatabaseMetaData metaData = connection.getMetaData();
+                    return metaData.getDatabaseProductName();
+                }));
+
+        jdbcTemplate.update("DELETE FROM books");
+        jdbcTemplate.update("DELETE FROM authors");
+        for (long id = 1; id <= AUTHORS; id++) {
+            current.add(buildAuthor(id, "Author " + id, 20));
+        }
+        authorDao.createAll(current);
+    }
+
+    @Setup(Level.Iteration)
+    public void startIteration() {
+        updates = 0;
+        if (postgres) {
+            walStart = jdbcTemplate.queryForObject("SELECT pg_current_wal_lsn()::text", String.class);
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void endIteration() {
+        if (postgres && updates > 0) {
+            Long walBytes = jdbcTemplate.queryForObject(
+                    "SELECT pg_wal_lsn_diff(pg_current_wal_lsn(), ?::pg_lsn)::bigint", Long.class, walStart);
+            System.out.printf("%n%d WAL bytes per update%n", walBytes / updates);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void fullRowUpdate() {
+        Author changed = nextChange();
+        jdbcTemplate.update("UPDATE authors SET id = ?, name = ?, age = ? WHERE id = ?",
+                changed.getId(), changed.getName(), changed.getAge(), changed.getId());
+    }
+
+    @Benchmark
+    public void update() {
+        Author changed = nextChange();
+        authorDao.update(changed, changed.getId());
+    }
+
+    @Benchmark
+    public void updateChanged() {
+        Author original = current.get((int) (updates % AUTHORS));
+        authorDao.updateChanged(original, nextChange());
+    }
+
+    @Benchmark
+    public void updateChangedWithoutChanges() {
+        Author original = current.get((int) (updates++ % AUTHORS));
+        authorDao.updateChanged(original, buildAuthor(original.getId(), original.getName(), original.getAge()));
+    }
+
+    // The next author in turn with a different age; the list keeps what the table holds
+    private Author nextChange() {
+        int index = (int) (updates++ % AUTHORS);
+        Author original = current.get(index);
+        Author changed = buildAuthor(original.getId(), original.getName(), 20 + (original.getAge() - 19) % 60);
+        current.set(index, changed);
+        return changed;
+    }
+}
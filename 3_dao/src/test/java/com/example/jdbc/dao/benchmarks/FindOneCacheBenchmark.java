@@ -0,0 +1,71 @@
+package com.example.jdbc.dao.benchmarks;
+
+import com.example.jdbc.dao.DaoApplication;
+import com.example.jdbc.dao.dao.AuthorDao;
+import com.example.jdbc.dao.dao.impl.CachingAuthorDao;
+import com.example.jdbc.dao.domain.Author;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.jdbc.dao.util.TestDataUtil.buildAuthor;
+
+/**
+ * findOne latency with and without app.dao.cache.enabled, for lookups that repeat 2000 hot ids out of 100k authors,
+ * one in ten of them an id without a row. The hit rate is printed at the end of each cached trial.
+ * Runs against the in-memory H2 database from src/test/resources, where a query costs no network round trip.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FindOneCacheBenchmark {
+    private static final int AUTHORS = 100_000;
+    private static final int HOT_IDS = 2000;
+
+    @Param({"false", "true"})
+    private boolean cache;
+
+    private ConfigurableApplicationContext context;
+    private AuthorDao authorDao;
+    private final long[] hotIds = new long[HOT_IDS];
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = SpringApplication.run(DaoApplication.class,
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--app.dao.cache.enabled=" + cache);
+        authorDao = context.getBean(AuthorDao.class);
+
+        List<Author> authors = new ArrayList<>(AUTHORS);
+        for (long id = 1; id <= AUTHORS; id++) {
+            authors.add(buildAuthor(id, "Author " + id, 20 + (int) (id % 60)));
+        }
+        authorDao.createAll(authors);
+        for (int i = 0; i < HOT_IDS; i++) {
+            hotIds[i] = i % 10 == 0 ? AUTHORS + i : 1 + ThreadLocalRandom.current().nextLong(AUTHORS);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (authorDao instanceof CachingAuthorDao cachingAuthorDao) {
+            System.out.printf("%nhit rate %.4f%n", cachingAuthorDao.getCacheStats().hitRate());
+        }
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<Author> findOne() {
+        return authorDao.findOne(hotIds[ThreadLocalRandom.current().nextInt(HOT_IDS)]);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.jdbc.dao.benchmarks;
+
+import com.example.jdbc.dao.DaoApplication;
+import com.example.jdbc.dao.dao.AuthorDao;
+import com.example.jdbc.dao.domain.Author;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.jdbc.dao.util.TestDataUtil.buildAuthor;
+
+/**
+ * Time to resolve 1000 random author ids out of 100k: one findOne per id, against one findAllByIds call.
+ * Runs against the in-memory H2 database from src/test/resources, where a statement costs no network round trip.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class KeyLookupBenchmark {
+    private static final int AUTHORS = 100_000;
+    private static final int KEYS = 1000;
+
+    private ConfigurableApplicationContext context;
+    private AuthorDao authorDao;
+    private final List<Long> ids = new ArrayList<>(KEYS);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = SpringApplication.run(DaoApplication.class,
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN");
+        authorDao = context.getBean(AuthorDao.class);
+
+        List<Author> authors = new ArrayList<>(AUTHORS);
+        for (long id = 1; id <= AUTHORS; id++) {
+            authors.add(buildAuthor(id, "Author " + id, 20 + (int) (id % 60)));
+        }
+        authorDao.createAll(authors);
+        for (int i = 0; i < KEYS; i++) {
+            ids.add(1 + (long) (Math.random() * AUTHORS));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Author> findOnePerId() {
+        List<Author> authors = new ArrayList<>(KEYS);
+        for (Long id : ids) {
+            authorDao.findOne(id).ifPresent(authors::add);
+        }
+        return authors;
+    }
+
+    @Benchmark
+    public List<Author> findAllByIds() {
+        return authorDao.findAllByIds(ids);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.jdbc.dao.benchmarks;
+
+import com.example.jdbc.dao.DaoApplication;
+import com.example.jdbc.dao.dao.AuthorDao;
+import com.example.jdbc.dao.domain.Author;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static com.example.jdbc.dao.util.TestDataUtil.buildAuthor;
+
+/**
+ * Rows/sec of reading 1M authors with AuthorDao.parallelScan at 1 to 8 partitions, against AuthorDao.find().
+ * Runs against the in-memory H2 database from src/test/resources (see BatchInsertBenchmark for pointing it at Postgres).
+ * H2 scans are CPU-bound, so scaling stops at the number of cores.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(ParallelScanBenchmark.ROWS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParallelScanBenchmark {
+    static final int ROWS = 1_000_000;
+
+    @Param({"1", "2", "4", "8"})
+    private int parallelism;
+
+    private ConfigurableApplicationContext context;
+    private AuthorDao authorDao;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = SpringApplication.run(DaoApplication.class,
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--spring.datasource.hikari.maximum-pool-size=10",
+                "--app.dao.parallel-scan.parallelism=" + parallelism);
+        authorDao = context.getBean(AuthorDao.class);
+
+        List<Author> authors = new ArrayList<>(ROWS);
+        for (long id = 1; id <= ROWS; id++) {
+            authors.add(buildAuthor(id, "Author " + id, 20 + (int) (id % 60)));
+        }
+        authorDao.createAll(authors);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public long parallelScan() {
+        try (Stream<Author> authors = authorDao.parallelScan()) {
+            return authors.count();
+        }
+    }
+
+    @Benchmark
+    public int find() {
+        return authorDao.find().size();
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.jdbc.dao.benchmarks;
+
+import com.example.jdbc.dao.dao.impl.RowMapper.AuthorRowMapper;
+import com.example.jdbc.dao.dao.impl.RowMapper.BookRowMapper;
+import com.example.jdbc.dao.domain.Author;
+import com.example.jdbc.dao.domain.Book;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rows/sec of a full-table query per mapper, against an in-memory H2 table of 100k rows:
+ * the singleton index-based AuthorRowMapper/BookRowMapper, and a by-name builder mapper for comparison.
+ * JDBC and H2 costs are included, so the numbers show the mapper's share of a real scan.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(RowMapperBenchmark.ROWS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RowMapperBenchmark {
+    static final int ROWS = 100_000;
+
+    private static final RowMapper<Author> AUTHOR_BY_NAME = (rs, rowNum) -> Author.builder()
+            .id(rs.getLong("id"))
+            .name(rs.getString("name"))
+            .age(rs.getInt("age"))
+            .build();
+
+    private static final RowMapper<Book> BOOK_BY_NAME = (rs, rowNum) -> Book.builder()
+            .isbn(rs.getString("isbn"))
+            .title(rs.getString("title"))
+            .authorId(rs.getLong("author_id"))
+            .build();
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private final AuthorRowMapper authorRowMapper = new AuthorRowMapper();
+    private final BookRowMapper bookRowMapper = new BookRowMapper();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:rowmappers;MODE=PostgreSQL", "sa", "", true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE authors (id bigint PRIMARY KEY, name text NOT NULL, age integer)");
+        jdbcTemplate.execute("CREATE TABLE books (isbn text PRIMARY KEY, title text, author_id bigint)");
+        jdbcTemplate.execute("INSERT INTO authors SELECT x, 'Author ' || x, 20 + MOD(x, 60) FROM SYSTEM_RANGE(1, " + ROWS + ")");
+        jdbcTemplate.execute("INSERT INTO books SELECT 'isbn-' || x, 'Title ' || x, x FROM SYSTEM_RANGE(1, " + ROWS + ")");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public List<Author> authorRowMapper() {
+        return jdbcTemplate.query("SELECT id, name, age FROM authors", authorRowMapper);
+    }
+
+    @Benchmark
+    public List<Author> authorByColumnName() {
+        return jdbcTemplate.query("SELECT id, name, age FROM authors", AUTHOR_BY_NAME);
+    }
+
+    @Benchmark
+    public List<Book> bookRowMapper() {
+        return jdbcTemplate.query("SELECT isbn, title, author_id FROM books", bookRowMapper);
+    }
+
+    @Benchmark
+    public List<Book> bookByColumnName() {
+        return jdbcTemplate.query("SELECT isbn, title, author_id FROM books", BOOK_BY_NAME);
+    }
+}
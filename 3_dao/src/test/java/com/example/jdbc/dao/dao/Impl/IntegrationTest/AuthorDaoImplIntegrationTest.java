@@ -1,30 +1,47 @@
 package com.example.jdbc.dao.dao.Impl.IntegrationTest;
 
+import com.example.jdbc.dao.config.DaoProperties;
 import com.example.jdbc.dao.dao.impl.AuthorDaoImpl;
 import com.example.jdbc.dao.domain.Author;
+import com.zaxxer.hikari.HikariDataSource;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
 
 import static com.example.jdbc.dao.util.Constants.*;
 import static com.example.jdbc.dao.util.TestDataUtil.buildAuthor;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @SpringBootTest
 @ExtendWith(SpringExtension.class)
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
 public class AuthorDaoImplIntegrationTest {
     private final AuthorDaoImpl authorDaoImpl;
+    private final TransactionTemplate transactionTemplate;
+    private final DaoProperties daoProperties;
+    private final DataSource dataSource;
 
     @Autowired
-    public AuthorDaoImplIntegrationTest(AuthorDaoImpl authorDaoImpl) {
+    public AuthorDaoImplIntegrationTest(AuthorDaoImpl authorDaoImpl, TransactionTemplate transactionTemplate,
+                                        DaoProperties daoProperties, DataSource dataSource) {
         this.authorDaoImpl = authorDaoImpl;
+        this.transactionTemplate = transactionTemplate;
+        this.daoProperties = daoProperties;
+        this.dataSource = dataSource;
     }
 
     @Test
@@ -82,6 +99,17 @@ public class AuthorDaoImplIntegrationTest {
 
     }
 
+    @Test
+    public void testThatOnlyChangedAuthorColumnsAreUpdated() {
+        Author original = buildAuthor(ID, NAME, AGE);
+        authorDaoImpl.create(original);
+
+        authorDaoImpl.updateChanged(original, buildAuthor(ID_2, NAME, AGE_2));
+
+        assertThat(authorDaoImpl.findOne(ID)).isEmpty();
+        assertThat(authorDaoImpl.findOne(ID_2)).contains(buildAuthor(ID_2, NAME, AGE_2));
+    }
+
     @Test
     public void testThatAuthorCanBeDeleted() {
         Author author = buildAuthor(ID, NAME, AGE);
@@ -94,4 +122,111 @@ public class AuthorDaoImplIntegrationTest {
         assertThat(result).isEmpty();
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testThatAuthorsCanBeCreatedUpdatedAndDeletedInBatches() {
+        Author author = buildAuthor(ID, NAME, AGE);
+        Author author_2 = buildAuthor(ID_2, NAME_2, AGE_2);
+        Author author_3 = buildAuthor(ID_3, NAME_3, AGE_3);
+        authorDaoImpl.createAll(List.of(author, author_2, author_3));
+
+        assertThat(authorDaoImpl.find()).containsExactlyInAnyOrder(author, author_2, author_3);
+
+        author.setName(NAME_2);
+        author_2.setAge(AGE);
+        authorDaoImpl.updateAll(List.of(author, author_2));
+
+        assertThat(authorDaoImpl.findOne(ID)).contains(author);
+        assertThat(authorDaoImpl.findOne(ID_2)).contains(author_2);
+
+        authorDaoImpl.deleteAll(List.of(ID, ID_3));
+
+        assertThat(authorDaoImpl.find()).containsExactly(author_2);
+    }
+
+    @Test
+    public void testThatAuthorsCanBeVisitedAndStreamedWithoutMaterializingTheTable() {
+        Author author = buildAuthor(ID, NAME, AGE);
+        Author author_2 = buildAuthor(ID_2, NAME_2, AGE_2);
+        authorDaoImpl.createAll(List.of(author, author_2));
+
+        List<Author> visited = new ArrayList<>();
+        authorDaoImpl.forEach(visited::add);
+
+        assertThat(visited).containsExactlyInAnyOrder(author, author_2);
+
+        transactionTemplate.setReadOnly(true);
+        List<String> streamedNames = transactionTemplate.execute(status -> {
+            try (var authors = authorDaoImpl.stream()) {
+                return authors.map(Author::getName).toList();
+            }
+        });
+
+        assertThat(streamedNames).containsExactlyInAnyOrder(NAME, NAME_2);
+        // Outside a transaction the cursor would outlive its connection, so stream() refuses to open it
+        assertThatThrownBy(authorDaoImpl::stream).isInstanceOf(IllegalTransactionStateException.class);
+    }
+
+    @Test
+    public void testThatParallelScanReadsEveryAuthorOnce() {
+        List<Author> authors = new ArrayList<>();
+        for (long id = 1; id <= 50; id++) {
+            authors.add(buildAuthor(id, NAME + " " + id, AGE));
+        }
+        authorDaoImpl.createAll(authors);
+
+        try (var scanned = authorDaoImpl.parallelScan()) {
+            assertThat(scanned.toList()).containsExactlyInAnyOrderElementsOf(authors);
+        }
+        // Closing after a partial read stops the readers instead of waiting for the rest of the table
+        try (var scanned = authorDaoImpl.parallelScan()) {
+            assertThat(scanned.limit(5).toList()).hasSize(5);
+        }
+    }
+
+    @Test
+    public void testThatParallelScanReadersGiveUpOnAStalledConsumer() throws InterruptedException {
+        List<Author> authors = new ArrayList<>();
+        for (long id = 1; id <= 5000; id++) {
+            authors.add(buildAuthor(id, NAME + " " + id, AGE));
+        }
+        authorDaoImpl.createAll(authors);
+        daoProperties.getParallelScan().setParallelism(1);
+        daoProperties.getParallelScan().setBufferRows(2048);
+        daoProperties.getParallelScan().setConsumerTimeout(Duration.ofMillis(200));
+
+        // Never closed: the reader fills the queue, waits consumer-timeout and then returns its connection on its own
+        Iterator<Author> rows = authorDaoImpl.parallelScan().iterator();
+        assertThat(rows.next()).isNotNull();
+        HikariDataSource pool = (HikariDataSource) dataSource;
+        for (int i = 0; i < 100 && pool.getHikariPoolMXBean().getActiveConnections() > 0; i++) {
+            Thread.sleep(50);
+        }
+
+        assertThat(pool.getHikariPoolMXBean().getActiveConnections()).isZero();
+        // The rows queued before the reader stopped are still handed out, then the scan reports it was cut short
+        assertThatThrownBy(() -> rows.forEachRemaining(author -> {
+        })).isInstanceOf(CancellationException.class);
+    }
+
+    @Test
+    public void testThatAuthorsCanBeLookedUpByManyIds() {
+        List<Author> authors = new ArrayList<>();
+        for (long id = 1; id <= 1200; id++) {
+            authors.add(buildAuthor(id, NAME + " " + id, AGE));
+        }
+        authorDaoImpl.createAll(authors);
+
+        // 1101 distinct ids: one full chunk of 1000 and a remainder padded to 128; 5000 does not exist
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1; id <= 1100; id++) {
+            ids.add(id);
+        }
+        ids.add(ID);
+        ids.add(5000L);
+
+        List<Author> result = authorDaoImpl.findAllByIds(ids);
+
+        assertThat(result).containsExactlyInAnyOrderElementsOf(authors.subList(0, 1100));
+        assertThat(authorDaoImpl.findAllByIds(List.of())).isEmpty();
+    }
+}
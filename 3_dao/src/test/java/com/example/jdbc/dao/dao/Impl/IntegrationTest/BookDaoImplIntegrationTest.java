@@ -3,6 +3,7 @@ package com.example.jdbc.dao.dao.Impl.IntegrationTest;
 import com.example.jdbc.dao.dao.impl.AuthorDaoImpl;
 import com.example.jdbc.dao.dao.impl.BookDaoImpl;
 import com.example.jdbc.dao.domain.Author;
+import com.example.jdbc.dao.domain.AuthorWithBooks;
 import com.example.jdbc.dao.domain.Book;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,6 +12,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -106,4 +108,92 @@ public class BookDaoImplIntegrationTest {
 
     }
 
+    @Test
+    public void testThatBooksCanBeCreatedUpdatedAndDeletedInBatches() {
+        authDaoImpl.create(buildAuthor(ID, NAME, AGE));
+        Book book = buildBook(ISBN, TITLE, AUTHOR_ID);
+        Book book_2 = buildBook(ISBN_2, TITLE_2, AUTHOR_ID);
+        bookDaoImpl.createAll(List.of(book, book_2));
+
+        assertThat(bookDaoImpl.find()).containsExactlyInAnyOrder(book, book_2);
+
+        book.setTitle(TITLE_2);
+        bookDaoImpl.updateAll(List.of(book));
+
+        assertThat(bookDaoImpl.findOne(ISBN)).contains(book);
+
+        bookDaoImpl.deleteAll(List.of(ISBN, ISBN_2));
+
+        assertThat(bookDaoImpl.find()).isEmpty();
+    }
+
+    @Test
+    public void testThatBooksCanBeVisitedOneAtATime() {
+        authDaoImpl.create(buildAuthor(ID, NAME, AGE));
+        Book book = buildBook(ISBN, TITLE, AUTHOR_ID);
+        Book book_2 = buildBook(ISBN_2, TITLE_2, AUTHOR_ID);
+        bookDaoImpl.createAll(List.of(book, book_2));
+
+        List<Book> visited = new ArrayList<>();
+        bookDaoImpl.forEach(visited::add);
+
+        assertThat(visited).containsExactlyInAnyOrder(book, book_2);
+    }
+
+    @Test
+    public void testThatAuthorsWithTheirBooksArePagedFromOneJoin() {
+        Author author = buildAuthor(ID, NAME, AGE);
+        Author author_2 = buildAuthor(ID_2, NAME_2, AGE_2);
+        Author author_3 = buildAuthor(ID_3, NAME_3, AGE_3);
+        authDaoImpl.createAll(List.of(author, author_2, author_3));
+        Book book = buildBook(ISBN, TITLE, ID);
+        Book book_2 = buildBook(ISBN_2, TITLE_2, ID);
+        Book book_3 = buildBook(ISBN_3, TITLE_3, ID_3);
+        bookDaoImpl.createAll(List.of(book, book_2, book_3));
+
+        // Two authors per page even though the first one alone has two joined rows
+        List<AuthorWithBooks> firstPage = authDaoImpl.findWithBooks(null, 2);
+
+        assertThat(firstPage).containsExactly(
+                new AuthorWithBooks(author, List.of(book_2, book)),
+                new AuthorWithBooks(author_2, List.of()));
+
+        List<AuthorWithBooks> secondPage = authDaoImpl.findWithBooks(ID_2, 2);
+
+        assertThat(secondPage).containsExactly(new AuthorWithBooks(author_3, List.of(book_3)));
+        assertThat(authDaoImpl.findWithBooks(ID_3, 2)).isEmpty();
+        assertThat(authDaoImpl.findOneWithBooks(ID)).contains(new AuthorWithBooks(author, List.of(book_2, book)));
+
+        List<AuthorWithBooks> visited = new ArrayList<>();
+        authDaoImpl.forEachWithBooks(visited::add);
+
+        assertThat(visited).extracting(AuthorWithBooks::getAuthor).containsExactly(author, author_2, author_3);
+    }
+
+    @Test
+    public void testThatParallelScanReadsEveryBookOnce() {
+        authDaoImpl.create(buildAuthor(ID, NAME, AGE));
+        List<Book> books = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            books.add(buildBook(ISBN + "-" + i, TITLE, AUTHOR_ID));
+        }
+        bookDaoImpl.createAll(books);
+
+        try (var scanned = bookDaoImpl.parallelScan()) {
+            assertThat(scanned.toList()).containsExactlyInAnyOrderElementsOf(books);
+        }
+    }
+
+    @Test
+    public void testThatBooksCanBeLookedUpByManyIsbns() {
+        authDaoImpl.create(buildAuthor(ID, NAME, AGE));
+        Book book = buildBook(ISBN, TITLE, AUTHOR_ID);
+        Book book_2 = buildBook(ISBN_2, TITLE_2, AUTHOR_ID);
+        Book book_3 = buildBook(ISBN_3, TITLE_3, AUTHOR_ID);
+        bookDaoImpl.createAll(List.of(book, book_2, book_3));
+
+        List<Book> result = bookDaoImpl.findAllByIsbns(List.of(ISBN, ISBN_3, "missing-isbn"));
+
+        assertThat(result).containsExactlyInAnyOrder(book, book_3);
+    }
 }
@@ -0,0 +1,133 @@
+package com.example.jdbc.dao.dao.Impl.IntegrationTest;
+
+import com.example.jdbc.dao.dao.AuthorDao;
+import com.example.jdbc.dao.dao.BookDao;
+import com.example.jdbc.dao.dao.impl.CachingAuthorDao;
+import com.example.jdbc.dao.dao.impl.CachingBookDao;
+import com.example.jdbc.dao.domain.Author;
+import com.example.jdbc.dao.domain.Book;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.example.jdbc.dao.util.Constants.*;
+import static com.example.jdbc.dao.util.TestDataUtil.buildAuthor;
+import static com.example.jdbc.dao.util.TestDataUtil.buildBook;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "app.dao.cache.enabled=true")
+@ExtendWith(SpringExtension.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class CachingDaoIntegrationTest {
+    private final AuthorDao authorDao;
+    private final BookDao bookDao;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public CachingDaoIntegrationTest(AuthorDao authorDao, BookDao bookDao, MeterRegistry meterRegistry) {
+        this.authorDao = authorDao;
+        this.bookDao = bookDao;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Test
+    public void testThatRepeatedFindOneIsServedFromTheCache() {
+        assertThat(authorDao).isInstanceOf(CachingAuthorDao.class);
+        CachingAuthorDao cachingAuthorDao = (CachingAuthorDao) authorDao;
+        authorDao.create(buildAuthor(ID, NAME, AGE));
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(authorDao.findOne(ID)).contains(buildAuthor(ID, NAME, AGE));
+        }
+
+        assertThat(cachingAuthorDao.getCacheStats().loadCount()).isEqualTo(1);
+        assertThat(cachingAuthorDao.getCacheStats().hitCount()).isEqualTo(9);
+        assertThat(cachingAuthorDao.getCacheStats().hitRate()).isEqualTo(0.9);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "dao.findOne").tag("dao", "authors")
+                .tag("result", "hit").functionCounter().count()).isEqualTo(9);
+    }
+
+    @Test
+    public void testThatMissesAreCachedUntilTheAuthorIsCreated() {
+        CachingAuthorDao cachingAuthorDao = (CachingAuthorDao) authorDao;
+
+        assertThat(authorDao.findOne(ID)).isEmpty();
+        assertThat(authorDao.findOne(ID)).isEmpty();
+        assertThat(cachingAuthorDao.getCacheStats().hitCount()).isEqualTo(1);
+
+        authorDao.create(buildAuthor(ID, NAME, AGE));
+
+        assertThat(authorDao.findOne(ID)).contains(buildAuthor(ID, NAME, AGE));
+    }
+
+    @Test
+    public void testThatUpdateAndDeleteInvalidateTheCachedAuthor() {
+        authorDao.create(buildAuthor(ID, NAME, AGE));
+        authorDao.findOne(ID);
+
+        authorDao.update(buildAuthor(ID, NAME_2, AGE_2), ID);
+        assertThat(authorDao.findOne(ID)).contains(buildAuthor(ID, NAME_2, AGE_2));
+
+        authorDao.updateChanged(buildAuthor(ID, NAME_2, AGE_2), buildAuthor(ID_2, NAME_2, AGE_2));
+        assertThat(authorDao.findOne(ID)).isEmpty();
+        assertThat(authorDao.findOne(ID_2)).contains(buildAuthor(ID_2, NAME_2, AGE_2));
+
+        authorDao.delete(ID_2);
+        assertThat(authorDao.findOne(ID_2)).isEmpty();
+    }
+
+    @Test
+    public void testThatChangingAReturnedAuthorDoesNotChangeTheCachedOne() {
+        authorDao.create(buildAuthor(ID, NAME, AGE));
+
+        authorDao.findOne(ID).orElseThrow().setName(NAME_2);
+
+        assertThat(authorDao.findOne(ID)).contains(buildAuthor(ID, NAME, AGE));
+    }
+
+    @Test
+    public void testThatConcurrentMissesOnOneIsbnLoadItOnce() throws Exception {
+        CachingBookDao cachingBookDao = (CachingBookDao) bookDao;
+        authorDao.create(buildAuthor(ID, NAME, AGE));
+        bookDao.create(buildBook(ISBN, TITLE, AUTHOR_ID));
+
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<CompletableFuture<Optional<Book>>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        throw new IllegalStateException(e);
+                    }
+                    return bookDao.findOne(ISBN);
+                }, executor));
+            }
+            start.countDown();
+
+            for (CompletableFuture<Optional<Book>> result : results) {
+                assertThat(result.get()).contains(buildBook(ISBN, TITLE, AUTHOR_ID));
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(cachingBookDao.getCacheStats().loadCount()).isEqualTo(1);
+        assertThat(cachingBookDao.getCachedEntries()).isEqualTo(1);
+    }
+}
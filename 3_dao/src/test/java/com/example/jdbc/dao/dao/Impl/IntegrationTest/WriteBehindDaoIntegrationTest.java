@@ -0,0 +1,190 @@
+package com.example.jdbc.dao.dao.Impl.IntegrationTest;
+
+import com.example.jdbc.dao.config.DaoProperties;
+import com.example.jdbc.dao.dao.AuthorDao;
+import com.example.jdbc.dao.dao.BookDao;
+import com.example.jdbc.dao.dao.impl.AuthorDaoImpl;
+import com.example.jdbc.dao.dao.impl.BookDaoImpl;
+import com.example.jdbc.dao.dao.impl.WriteBehindAuthorDao;
+import com.example.jdbc.dao.dao.impl.WriteBehindBookDao;
+import com.example.jdbc.dao.domain.Author;
+import com.example.jdbc.dao.domain.Book;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static com.example.jdbc.dao.util.Constants.*;
+import static com.example.jdbc.dao.util.TestDataUtil.buildAuthor;
+import static com.example.jdbc.dao.util.TestDataUtil.buildBook;
+import static org.assertj.core.api.Assertions.assertThat;
+
+// A one hour interval keeps the scheduled flush out of the way, so each test decides when the buffer is written
+@SpringBootTest(properties = {
+        "app.dao.write-behind.enabled=true",
+        "app.dao.write-behind.flush-interval=1h"
+})
+@ExtendWith(SpringExtension.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class WriteBehindDaoIntegrationTest {
+    private final AuthorDao authorDao;
+    private final BookDao bookDao;
+    private final AuthorDaoImpl authorDaoImpl;
+    private final BookDaoImpl bookDaoImpl;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public WriteBehindDaoIntegrationTest(AuthorDao authorDao, BookDao bookDao,
+                                         AuthorDaoImpl authorDaoImpl, BookDaoImpl bookDaoImpl,
+                                         TransactionTemplate transactionTemplate) {
+        this.authorDao = authorDao;
+        this.bookDao = bookDao;
+        this.authorDaoImpl = authorDaoImpl;
+        this.bookDaoImpl = bookDaoImpl;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Test
+    public void testThatRepeatedAuthorUpdatesAreCoalescedIntoOneWrite() {
+        assertThat(authorDao).isInstanceOf(WriteBehindAuthorDao.class);
+        WriteBehindAuthorDao writeBehind = (WriteBehindAuthorDao) authorDao;
+        authorDao.create(buildAuthor(ID, NAME, AGE));
+
+        Author author = buildAuthor(ID, NAME, AGE);
+        for (int age = 1; age <= 10; age++) {
+            author.setAge(age);
+            authorDao.update(author, ID);
+        }
+
+        // Read-your-writes through the decorator while the table still holds the original row
+        assertThat(authorDao.findOne(ID)).contains(buildAuthor(ID, NAME, 10));
+        assertThat(authorDaoImpl.findOne(ID)).contains(buildAuthor(ID, NAME, AGE));
+        assertThat(writeBehind.getPendingWrites()).isEqualTo(1);
+        assertThat(writeBehind.getCoalescedWrites()).isEqualTo(9);
+
+        writeBehind.flush();
+
+        assertThat(authorDaoImpl.findOne(ID)).contains(buildAuthor(ID, NAME, 10));
+        assertThat(writeBehind.getPendingWrites()).isZero();
+        assertThat(writeBehind.getFlushedRows()).isEqualTo(1);
+    }
+
+    @Test
+    public void testThatReadsOtherThanFindOneSeeBufferedUpdates() {
+        authorDao.create(buildAuthor(ID, NAME, AGE));
+        authorDao.create(buildAuthor(ID_2, NAME_2, AGE_2));
+
+        authorDao.update(buildAuthor(ID, NAME_3, AGE_3), ID);
+
+        assertThat(authorDao.find()).containsExactlyInAnyOrder(buildAuthor(ID, NAME_3, AGE_3), buildAuthor(ID_2, NAME_2, AGE_2));
+    }
+
+    @Test
+    public void testThatDeleteDropsTheBufferedUpdate() {
+        WriteBehindAuthorDao writeBehind = (WriteBehindAuthorDao) authorDao;
+        authorDao.create(buildAuthor(ID, NAME, AGE));
+
+        authorDao.update(buildAuthor(ID, NAME_2, AGE_2), ID);
+        authorDao.delete(ID);
+        writeBehind.flush();
+
+        assertThat(authorDao.findOne(ID)).isEmpty();
+        assertThat(writeBehind.getFlushedRows()).isZero();
+    }
+
+    @Test
+    public void testThatUpdateChangingTheIdIsWrittenThrough() {
+        authorDao.create(buildAuthor(ID, NAME, AGE));
+
+        authorDao.update(buildAuthor(ID_2, NAME, AGE), ID);
+
+        assertThat(authorDaoImpl.findOne(ID)).isEmpty();
+        assertThat(authorDaoImpl.findOne(ID_2)).contains(buildAuthor(ID_2, NAME, AGE));
+    }
+
+    @Test
+    public void testThatBufferedBookUpdatesAreWrittenOnShutdown() throws Exception {
+        WriteBehindBookDao writeBehind = (WriteBehindBookDao) bookDao;
+        authorDao.create(buildAuthor(ID, NAME, AGE));
+        bookDao.create(buildBook(ISBN, TITLE, AUTHOR_ID));
+        bookDao.create(buildBook(ISBN_2, TITLE_2, AUTHOR_ID));
+
+        bookDao.update(buildBook(ISBN, TITLE_3, AUTHOR_ID), ISBN);
+        bookDao.update(buildBook(ISBN_2, TITLE_3, AUTHOR_ID), ISBN_2);
+        bookDao.update(buildBook(ISBN, TITLE_2, AUTHOR_ID), ISBN);
+
+        assertThat(bookDaoImpl.findOne(ISBN)).contains(buildBook(ISBN, TITLE, AUTHOR_ID));
+        assertThat(writeBehind.getCoalescedWrites()).isEqualTo(1);
+
+        // What the application context does on close
+        writeBehind.destroy();
+
+        assertThat(bookDaoImpl.findAllByIsbns(List.of(ISBN, ISBN_2))).containsExactlyInAnyOrder(
+                buildBook(ISBN, TITLE_2, AUTHOR_ID), buildBook(ISBN_2, TITLE_3, AUTHOR_ID));
+        assertThat(writeBehind.getFlushedRows()).isEqualTo(2);
+    }
+
+    @Test
+    public void testThatAFullBufferIsWrittenByTheUpdatingThread() {
+        DaoProperties.WriteBehind settings = new DaoProperties.WriteBehind();
+        settings.setMaxPending(2);
+        settings.setFlushInterval(Duration.ofHours(1));
+        WriteBehindAuthorDao writeBehind = new WriteBehindAuthorDao(authorDaoImpl, settings);
+        authorDaoImpl.create(buildAuthor(ID, NAME, AGE));
+        authorDaoImpl.create(buildAuthor(ID_2, NAME_2, AGE_2));
+        authorDaoImpl.create(buildAuthor(ID_3, NAME_3, AGE_3));
+
+        writeBehind.update(buildAuthor(ID, NAME, AGE_2), ID);
+        writeBehind.update(buildAuthor(ID_2, NAME_2, AGE_3), ID_2);
+        writeBehind.update(buildAuthor(ID_3, NAME_3, AGE), ID_3);
+
+        assertThat(writeBehind.getFlushedRows()).isEqualTo(2);
+        assertThat(writeBehind.getPendingWrites()).isEqualTo(1);
+        assertThat(authorDaoImpl.findOne(ID)).contains(buildAuthor(ID, NAME, AGE_2));
+        writeBehind.destroy();
+    }
+
+    @Test
+    public void testThatARowFailingOnItsOwnIsDroppedAndTheRestOfItsBatchWritten() {
+        WriteBehindBookDao writeBehind = (WriteBehindBookDao) bookDao;
+        authorDao.create(buildAuthor(ID, NAME, AGE));
+        bookDao.create(buildBook(ISBN, TITLE, AUTHOR_ID));
+        bookDao.create(buildBook(ISBN_2, TITLE_2, AUTHOR_ID));
+
+        // No author 3: the batch fails on the foreign key, and so does this row when retried on its own
+        bookDao.update(buildBook(ISBN, TITLE_3, ID_3), ISBN);
+        bookDao.update(buildBook(ISBN_2, TITLE_3, AUTHOR_ID), ISBN_2);
+        writeBehind.flush();
+
+        assertThat(bookDaoImpl.findAllByIsbns(List.of(ISBN, ISBN_2))).containsExactlyInAnyOrder(
+                buildBook(ISBN, TITLE, AUTHOR_ID), buildBook(ISBN_2, TITLE_3, AUTHOR_ID));
+        assertThat(writeBehind.getDroppedRows()).isEqualTo(1);
+        assertThat(writeBehind.getFlushedRows()).isEqualTo(1);
+        assertThat(writeBehind.getPendingWrites()).isZero();
+    }
+
+    @Test
+    public void testThatUpdatesInATransactionAreBufferedOnlyOnCommit() {
+        WriteBehindAuthorDao writeBehind = (WriteBehindAuthorDao) authorDao;
+        authorDao.create(buildAuthor(ID, NAME, AGE));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            authorDao.update(buildAuthor(ID, NAME_2, AGE), ID);
+            status.setRollbackOnly();
+        });
+        assertThat(writeBehind.getPendingWrites()).isZero();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            authorDao.update(buildAuthor(ID, NAME_3, AGE), ID);
+            assertThat(writeBehind.getPendingWrites()).isZero();
+        });
+        assertThat(authorDao.findOne(ID)).contains(buildAuthor(ID, NAME_3, AGE));
+        assertThat(writeBehind.getPendingWrites()).isEqualTo(1);
+    }
+}
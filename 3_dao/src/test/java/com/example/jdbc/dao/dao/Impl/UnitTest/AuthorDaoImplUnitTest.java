@@ -1,5 +1,6 @@
 package com.example.jdbc.dao.dao.Impl.UnitTest;
 
+import com.example.jdbc.dao.config.DaoProperties;
 import com.example.jdbc.dao.dao.impl.AuthorDaoImpl;
 import com.example.jdbc.dao.dao.impl.RowMapper.AuthorRowMapper;
 import com.example.jdbc.dao.domain.Author;
@@ -8,13 +9,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.util.List;
 
 import static com.example.jdbc.dao.util.Constants.*;
 import static com.example.jdbc.dao.util.TestDataUtil.buildAuthor;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 // Enables Mockito integration with JUnit 5 for automated mock management
 @ExtendWith(MockitoExtension.class)
@@ -24,6 +30,10 @@ public class AuthorDaoImplUnitTest {
     @Mock
     private JdbcTemplate jdbcTemplate;
 
+    // Real default settings (batch size 1000, COPY from 1000 rows) handed to the DAO constructor
+    @Spy
+    private DaoProperties daoProperties = new DaoProperties();
+
     // Injects mock dependencies into the class under test (AuthorDaoImpl)
     @InjectMocks
     private AuthorDaoImpl authorDaoImpl;
@@ -76,15 +86,38 @@ public class AuthorDaoImplUnitTest {
 
         authorDaoImpl.update(author, ID_3);
 
+        // The id stays the same, so it is not rewritten
         verify(jdbcTemplate).update(
-                eq("UPDATE authors SET id = ?, name = ?, age = ? WHERE id = ?"),
-                eq(ID_3),
+                eq("UPDATE authors SET name = ?, age = ? WHERE id = ?"),
                 eq(NAME),
                 eq(AGE),
                 eq(ID_3)
         );
     }
 
+    @Test
+    public void verifyUpdateAuthorMethodInDaoRewritesAChangedId() {
+        authorDaoImpl.update(buildAuthor(ID_2, NAME, AGE), ID);
+
+        verify(jdbcTemplate).update(
+                eq("UPDATE authors SET id = ?, name = ?, age = ? WHERE id = ?"),
+                eq(ID_2),
+                eq(NAME),
+                eq(AGE),
+                eq(ID)
+        );
+    }
+
+    @Test
+    public void verifyUpdateChangedAuthorMethodInDaoSetsOnlyChangedColumns() {
+        authorDaoImpl.updateChanged(buildAuthor(ID, NAME, AGE), buildAuthor(ID, NAME, AGE_2));
+        authorDaoImpl.updateChanged(buildAuthor(ID, NAME, AGE), buildAuthor(ID, NAME, AGE));
+
+        // The second call changes nothing and runs no statement
+        verify(jdbcTemplate).update(eq("UPDATE authors SET age = ? WHERE id = ?"), eq(AGE_2), eq(ID));
+        verifyNoMoreInteractions(jdbcTemplate);
+    }
+
     @Test
     public void verifyDeleteAuthorMethodInDaoGeneratesCorrectSql() {
         Author author = buildAuthor(ID, NAME, AGE);
@@ -96,4 +129,19 @@ public class AuthorDaoImplUnitTest {
 
 
     }
+
+    @Test
+    public void verifyCreateAllAuthorsMethodInDaoBatchesInsertsBelowCopyThreshold() {
+        List<Author> authors = List.of(buildAuthor(ID, NAME, AGE), buildAuthor(ID_2, NAME_2, AGE_2));
+
+        authorDaoImpl.createAll(authors);
+
+        // Two rows stay under the COPY threshold, so they go through a single JDBC batch
+        verify(jdbcTemplate).batchUpdate(
+                eq("INSERT INTO authors (id, name, age) VALUES (?,?,?)"),
+                eq(authors),
+                eq(1000),
+                ArgumentMatchers.<ParameterizedPreparedStatementSetter<Author>>any()
+        );
+    }
 }
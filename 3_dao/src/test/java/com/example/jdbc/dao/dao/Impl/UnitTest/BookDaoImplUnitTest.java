@@ -1,14 +1,20 @@
 package com.example.jdbc.dao.dao.Impl.UnitTest;
 
+import com.example.jdbc.dao.config.DaoProperties;
 import com.example.jdbc.dao.dao.impl.BookDaoImpl;
+import com.example.jdbc.dao.dao.impl.RowMapper.BookRowMapper;
 import com.example.jdbc.dao.domain.Book;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.util.List;
 
 import static com.example.jdbc.dao.util.Constants.*;
 import static com.example.jdbc.dao.util.TestDataUtil.buildBook;
@@ -23,6 +29,10 @@ public class BookDaoImplUnitTest {
     @Mock
     private JdbcTemplate jdbcTemplate;
 
+    // Real default settings (batch size 1000, COPY from 1000 rows) handed to the DAO constructor
+    @Spy
+    private DaoProperties daoProperties = new DaoProperties();
+
     // Injects mock dependencies into the class under test (AuthorDaoImpl)
     @InjectMocks
     private BookDaoImpl bookDaoImpl;
@@ -54,9 +64,9 @@ public class BookDaoImplUnitTest {
         // and limits the result to 1 record
         verify(jdbcTemplate).query(
                 eq("SELECT isbn, title, author_id FROM books WHERE isbn = ? LIMIT 1"),
-                // Use any instance of BookDaoImpl.BookRowMapper, a custom row mapper class
+                // Use any instance of BookRowMapper, a custom row mapper class
                 // that maps the database result set rows to Book domain objects
-                ArgumentMatchers.<BookDaoImpl.BookRowMapper>any(),
+                ArgumentMatchers.<BookRowMapper>any(),
                 eq(ISBN)
         );
     }
@@ -66,7 +76,7 @@ public class BookDaoImplUnitTest {
         bookDaoImpl.find();
 
         verify(jdbcTemplate).query(eq("SELECT isbn, title, author_id FROM books"),
-                ArgumentMatchers.<BookDaoImpl.BookRowMapper>any());
+                ArgumentMatchers.<BookRowMapper>any());
     }
 
     @Test
@@ -77,14 +87,20 @@ public class BookDaoImplUnitTest {
 
         // Verify that the JdbcTemplate.update was called with the expected SQL insert statement and parameters
         verify(jdbcTemplate).update(
-                eq("UPDATE books SET isbn = ? , title = ? , author_id = ? WHERE isbn = ?"),
-                eq(ISBN_2),
+                eq("UPDATE books SET title = ?, author_id = ? WHERE isbn = ?"),
                 eq(TITLE_2),
                 eq(AUTHOR_ID),
                 eq(ISBN_2)
         );
     }
 
+    @Test
+    public void verifyUpdateChangedBookDaoMethodSetsOnlyChangedColumns() {
+        bookDaoImpl.updateChanged(buildBook(ISBN, TITLE, AUTHOR_ID), buildBook(ISBN_2, TITLE_2, AUTHOR_ID));
+
+        verify(jdbcTemplate).update(eq("UPDATE books SET isbn = ?, title = ? WHERE isbn = ?"), eq(ISBN_2), eq(TITLE_2), eq(ISBN));
+    }
+
     @Test
     public void verifyDeleteBookDaoMethodInGeneratesCorrectSql() {
         Book book = buildBook(ISBN, TITLE, AUTHOR_ID);
@@ -95,4 +111,19 @@ public class BookDaoImplUnitTest {
         // Verify that the JdbcTemplate.update was called with the expected SQL insert statement and parameters
         verify(jdbcTemplate).update(eq("DELETE FROM books WHERE isbn = ?"), eq(ISBN));
     }
+
+    @Test
+    public void verifyCreateAllBooksMethodInDaoBatchesInsertsBelowCopyThreshold() {
+        List<Book> books = List.of(buildBook(ISBN, TITLE, AUTHOR_ID), buildBook(ISBN_2, TITLE_2, AUTHOR_ID));
+
+        bookDaoImpl.createAll(books);
+
+        // Two rows stay under the COPY threshold, so they go through a single JDBC batch
+        verify(jdbcTemplate).batchUpdate(
+                eq("INSERT INTO books (isbn, title, author_id) values (?,?,?)"),
+                eq(books),
+                eq(1000),
+                ArgumentMatchers.<ParameterizedPreparedStatementSetter<Book>>any()
+        );
+    }
 }
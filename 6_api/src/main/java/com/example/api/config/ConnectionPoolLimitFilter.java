@@ -0,0 +1,105 @@
+package com.example.api.config;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Caps the number of requests executing at once when each request runs on its own virtual thread.
+ * Platform threads are bounded by the Tomcat pool, but virtual threads are not: without a cap a burst would
+ * queue thousands of threads on the Hikari pool until they hit connectionTimeout.
+ * A request waits up to {@code acquireTimeout} for a permit and is otherwise answered 503 with Retry-After.
+ * Async requests (e.g. the NDJSON stream) keep their permit until the async work completes.
+ */
+public class ConnectionPoolLimitFilter extends OncePerRequestFilter {
+    private final Semaphore permits;
+    private final Duration acquireTimeout;
+
+    public ConnectionPoolLimitFilter(int maxConcurrentRequests, Duration acquireTimeout) {
+        this.permits = new Semaphore(maxConcurrentRequests, true);
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value());
+            return;
+        }
+
+        AtomicBoolean released = new AtomicBoolean();
+        boolean asyncStarted = false;
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleasingAsyncListener(released));
+                asyncStarted = true;
+            }
+        } finally {
+            if (!asyncStarted) {
+                release(released);
+            }
+        }
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    private void release(AtomicBoolean released) {
+        if (released.compareAndSet(false, true)) {
+            permits.release();
+        }
+    }
+
+    private final class ReleasingAsyncListener implements AsyncListener {
+        private final AtomicBoolean released;
+
+        private ReleasingAsyncListener(AtomicBoolean released) {
+            this.released = released;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release(released);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release(released);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release(released);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Re-register for the next async cycle; the permit is still held
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
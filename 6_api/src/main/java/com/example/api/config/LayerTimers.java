@@ -0,0 +1,62 @@
+package com.example.api.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The app.layer.duration timers shared by {@link LayerTimingAspect} and {@link MapperTimingAspect}, resolved once
+ * per component and method, so a call costs two clock reads and a map lookup on top of the proxy hop.
+ */
+final class LayerTimers {
+    static final String METRIC = "app.layer.duration";
+    private static final String APP_PACKAGE = "com.example.api.";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    LayerTimers(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    Object time(String layer, ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer timer = timers.computeIfAbsent(
+                new TimerKey(joinPoint.getTarget().getClass(), ((MethodSignature) joinPoint.getSignature()).getMethod()),
+                key -> Timer.builder(METRIC)
+                        .description("Time spent in service, repository and mapper calls")
+                        .tag("layer", layer)
+                        .tag("class", componentName(key.targetClass()))
+                        .tag("method", key.method().getName())
+                        .register(meterRegistry));
+
+        long startNanos = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // Spring Data repositories are JDK proxies; name them after the application interface they implement
+    private static String componentName(Class<?> targetClass) {
+        if (Proxy.isProxyClass(targetClass)) {
+            for (Class<?> type : targetClass.getInterfaces()) {
+                if (type.getName().startsWith(APP_PACKAGE)) {
+                    return type.getSimpleName();
+                }
+            }
+        }
+        return ClassUtils.getUserClass(targetClass).getSimpleName();
+    }
+
+    private record TimerKey(Class<?> targetClass, Method method) {
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.api.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * Times every call into the service implementations and the Spring Data repositories as app.layer.duration,
+ * tagged with the layer, the component (e.g. BookServiceImpl, BookRepository) and the method.
+ * Mapper calls are timed by {@link MapperTimingAspect}, which is off by default.
+ */
+@Aspect
+public class LayerTimingAspect {
+    static final String METRIC = LayerTimers.METRIC;
+
+    private final LayerTimers timers;
+
+    public LayerTimingAspect(MeterRegistry meterRegistry) {
+        this.timers = new LayerTimers(meterRegistry);
+    }
+
+    @Around("within(com.example.api.services.impl..*) && execution(public * *(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return timers.time("service", joinPoint);
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return timers.time("repository", joinPoint);
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.api.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * Times every Mapper call as app.layer.duration with layer=mapper. A list endpoint maps each row on its own,
+ * so this puts a proxy hop and a timer record around every element; it is only registered with
+ * app.metrics.mapper-timing.enabled=true, e.g. while profiling the mapping of a slow endpoint.
+ */
+@Aspect
+public class MapperTimingAspect {
+    private final LayerTimers timers;
+
+    public MapperTimingAspect(MeterRegistry meterRegistry) {
+        this.timers = new LayerTimers(meterRegistry);
+    }
+
+    @Around("execution(* com.example.api.mappers.Mapper+.*(..))")
+    public Object timeMapper(ProceedingJoinPoint joinPoint) throws Throwable {
+        return timers.time("mapper", joinPoint);
+    }
+}
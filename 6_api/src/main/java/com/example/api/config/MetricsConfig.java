@@ -0,0 +1,74 @@
+package com.example.api.config;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.jpa.boot.spi.JpaSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.List;
+
+/**
+ * Active unless app.metrics.enabled=false. Adds, on top of Spring Boot's http.server.requests timer per route:
+ * <ul>
+ *     <li>app.layer.duration: time per service and repository method, and per mapper method when
+ *     app.metrics.mapper-timing.enabled=true</li>
+ *     <li>app.request.sql.statements and app.request.entities.loaded: SQL statements and entity loads per request</li>
+ * </ul>
+ * All of them are served by /actuator/metrics.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class MetricsConfig {
+
+    @Bean
+    public LayerTimingAspect layerTimingAspect(MeterRegistry meterRegistry) {
+        return new LayerTimingAspect(meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.metrics.mapper-timing.enabled", havingValue = "true")
+    public MapperTimingAspect mapperTimingAspect(MeterRegistry meterRegistry) {
+        return new MapperTimingAspect(meterRegistry);
+    }
+
+    // Runs after the percentiles-histogram properties: a mapper call is too short and too frequent for a histogram
+    @Bean
+    public MeterFilter mapperTimerWithoutHistogram() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!LayerTimers.METRIC.equals(id.getName()) || !"mapper".equals(id.getTag("layer"))) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder().percentilesHistogram(false).build().merge(config);
+            }
+        };
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlCountingHibernateProperties() {
+        EntityLoadCounter entityLoadCounter = new EntityLoadCounter();
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter());
+            properties.put(JpaSettings.INTEGRATOR_PROVIDER, (IntegratorProvider) () -> List.of(entityLoadCounter));
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<RequestSqlMetricsFilter> requestSqlMetricsFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<RequestSqlMetricsFilter> registration =
+                new FilterRegistrationBean<>(new RequestSqlMetricsFilter(meterRegistry));
+        // Inside the connection limit, so a request rejected with 503 records nothing
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
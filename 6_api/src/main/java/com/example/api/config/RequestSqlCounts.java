@@ -0,0 +1,48 @@
+package com.example.api.config;
+
+/**
+ * Per-request tallies filled in by {@link SqlStatementCounter} and {@link EntityLoadCounter}
+ * while {@link RequestSqlMetricsFilter} has a request open on the current thread.
+ * Work handed to another thread (e.g. the NDJSON stream writer) is not counted.
+ */
+final class RequestSqlCounts {
+    private static final ThreadLocal<RequestSqlCounts> CURRENT = new ThreadLocal<>();
+
+    private long statements;
+    private long entitiesLoaded;
+
+    private RequestSqlCounts() {
+    }
+
+    static RequestSqlCounts open() {
+        RequestSqlCounts counts = new RequestSqlCounts();
+        CURRENT.set(counts);
+        return counts;
+    }
+
+    static void close() {
+        CURRENT.remove();
+    }
+
+    static void statementPrepared() {
+        RequestSqlCounts counts = CURRENT.get();
+        if (counts != null) {
+            counts.statements++;
+        }
+    }
+
+    static void entityLoaded() {
+        RequestSqlCounts counts = CURRENT.get();
+        if (counts != null) {
+            counts.entitiesLoaded++;
+        }
+    }
+
+    long statements() {
+        return statements;
+    }
+
+    long entitiesLoaded() {
+        return entitiesLoaded;
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.api.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records how many SQL statements and entity loads each request caused, tagged like http.server.requests
+ * with the HTTP method and the matched route pattern (never the raw path, to keep the tag count bounded).
+ */
+public class RequestSqlMetricsFilter extends OncePerRequestFilter {
+    static final String STATEMENTS_METRIC = "app.request.sql.statements";
+    static final String ENTITIES_LOADED_METRIC = "app.request.entities.loaded";
+    private static final String UNKNOWN_ROUTE = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+
+    public RequestSqlMetricsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestSqlCounts counts = RequestSqlCounts.open();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestSqlCounts.close();
+            Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = route != null ? route.toString() : UNKNOWN_ROUTE;
+            summary(STATEMENTS_METRIC, "JDBC statements prepared per request", request.getMethod(), uri)
+                    .record(counts.statements());
+            summary(ENTITIES_LOADED_METRIC, "Entities loaded per request", request.getMethod(), uri)
+                    .record(counts.entitiesLoaded());
+        }
+    }
+
+    // Registration is idempotent; the registry returns the existing meter for the same name and tags
+    private DistributionSummary summary(String name, String description, String method, String uri) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry);
+    }
+}
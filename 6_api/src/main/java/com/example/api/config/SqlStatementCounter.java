@@ -0,0 +1,16 @@
+package com.example.api.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts every SQL statement Hibernate prepares, including native queries and Spring Data @Modifying updates.
+ * A JDBC batch is prepared once, so it counts as one statement.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestSqlCounts.statementPrepared();
+        return sql;
+    }
+}
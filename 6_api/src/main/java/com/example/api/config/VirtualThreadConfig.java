@@ -0,0 +1,52 @@
+package com.example.api.config;
+
+import com.example.datasource.PoolSaturationMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Active when spring.threads.virtual.enabled=true. Spring Boot then runs Tomcat request handling and the
+ * applicationTaskExecutor (used for async MVC work such as StreamingResponseBody) on virtual threads.
+ * This configuration adds the concurrency cap that the bounded platform-thread pool used to provide implicitly,
+ * sized from the Hikari pool so blocked requests cannot stampede it.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    @Bean
+    public FilterRegistrationBean<ConnectionPoolLimitFilter> connectionPoolLimitFilter(
+            DataSource dataSource,
+            ObjectProvider<PoolSaturationMonitor> poolSaturationMonitor,
+            @Value("${app.concurrency.permits-per-connection:2}") int permitsPerConnection,
+            @Value("${app.concurrency.acquire-timeout-ms:1000}") long acquireTimeoutMillis) throws SQLException {
+        // With adaptive pool sizing the pool may grow to its ceiling, so the cap has to leave room for that
+        PoolSaturationMonitor monitor = poolSaturationMonitor.getIfAvailable();
+        int poolSize = monitor != null ? monitor.getMaximumPoolSizeCeiling() : maximumPoolSize(dataSource);
+        int maxConcurrentRequests = poolSize * permitsPerConnection;
+
+        FilterRegistrationBean<ConnectionPoolLimitFilter> registration = new FilterRegistrationBean<>(
+                new ConnectionPoolLimitFilter(maxConcurrentRequests, Duration.ofMillis(acquireTimeoutMillis)));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    private static int maximumPoolSize(DataSource dataSource) throws SQLException {
+        if (dataSource.isWrapperFor(HikariDataSource.class)) {
+            return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+        }
+        return DEFAULT_POOL_SIZE;
+    }
+}
@@ -1,14 +1,25 @@
 package com.example.api.controllers;
 
 import com.example.api.domain.dto.AuthorDto;
+import com.example.api.domain.dto.BulkResultDto;
+import com.example.api.domain.dto.CursorPageDto;
 import com.example.api.domain.entity.AuthorEntity;
+import com.example.api.domain.version.ResourceVersion;
 import com.example.api.mappers.Mapper;
 import com.example.api.services.AuthorService;
+import com.example.api.services.CachedResponse;
+import com.example.api.services.BulkImportService;
+import com.example.api.services.ResponseCacheService;
+import com.example.api.utils.UtilityMethods;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -18,12 +29,19 @@ import static com.example.api.path.AuthorPaths.*;
 
 @RestController
 public class AuthorController {
+    private static final int MAX_CURSOR_PAGE_SIZE = 1000;
+
     private final AuthorService authorService;
     private final Mapper<AuthorEntity, AuthorDto> authorMapper;
+    private final BulkImportService bulkImportService;
+    private final ResponseCacheService responseCacheService;
 
-    public AuthorController(AuthorService authorService, Mapper<AuthorEntity, AuthorDto> authorMapper) {
+    public AuthorController(AuthorService authorService, Mapper<AuthorEntity, AuthorDto> authorMapper,
+                            BulkImportService bulkImportService, ResponseCacheService responseCacheService) {
         this.authorService = authorService;
         this.authorMapper = authorMapper;
+        this.bulkImportService = bulkImportService;
+        this.responseCacheService = responseCacheService;
     }
 
     @PostMapping(path = AUTHORS)
@@ -34,25 +52,97 @@ public class AuthorController {
         return new ResponseEntity<>(savedAuthorDto, HttpStatus.CREATED);
     }
 
-    @GetMapping(path = LIST_AUTHORS)
-    public List<AuthorDto> listAuthors() {
-        List<AuthorEntity> authorEntities = authorService.findAll();
-        List<AuthorDto> authorDtolist = new ArrayList<>();
-        for (AuthorEntity authorEntity : authorEntities) {
-            authorDtolist.add(authorMapper.mapTo(authorEntity));
+    // Body is a JSON array of authors, read as a stream and inserted in JDBC batches
+    @PostMapping(path = AUTHORS_BULK, consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkResultDto> bulkCreateAuthors(InputStream body) {
+        try {
+            return new ResponseEntity<>(bulkImportService.importAuthors(body), HttpStatus.OK);
+        } catch (IllegalArgumentException | IOException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
         }
+    }
 
-        return authorDtolist;
+    @GetMapping(path = LIST_AUTHORS)
+    public ResponseEntity<byte[]> listAuthors(WebRequest webRequest) {
+        return cachedAuthorList(webRequest);
     }
 
     // /page-authors?size=10&page=2
     @GetMapping(path = PAGE_AUTHORS)
-    public Page<AuthorDto> pageAuthors(Pageable pageable) {
+    public Page<AuthorDto> pageAuthors(Pageable pageable, WebRequest webRequest) {
+        // The stamp covers the whole table, so it is valid for every page URL
+        if (isCollectionNotModified(webRequest)) {
+            return null;
+        }
+
         Page<AuthorEntity> authorEntities = authorService.findAll(pageable);
         return authorEntities.map(authorMapper::mapTo);   // Transform each AuthorEntity to AuthorDto using the mapper
 
     }
 
+    // /authors/cursor?size=10 then /authors/cursor?after=<nextCursor>&size=10
+    @GetMapping(path = AUTHORS_CURSOR)
+    public ResponseEntity<CursorPageDto<AuthorDto>> cursorAuthors(
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        Long afterId = null;
+        if (after != null && !after.isBlank()) {
+            try {
+                afterId = UtilityMethods.decodeCursor(after);
+            } catch (IllegalArgumentException e) {
+                return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+            }
+        }
+
+        // Fetch one extra row to learn whether another page exists without a COUNT(*) query
+        List<AuthorEntity> authorEntities = authorService.findAllAfter(afterId, size + 1);
+        boolean hasNext = authorEntities.size() > size;
+        List<AuthorEntity> pageEntities = hasNext ? authorEntities.subList(0, size) : authorEntities;
+
+        String nextCursor = hasNext
+                ? UtilityMethods.encodeCursor(pageEntities.get(pageEntities.size() - 1).getId())
+                : null;
+
+        CursorPageDto<AuthorDto> page = CursorPageDto.<AuthorDto>builder()
+                .content(getAuthorDtoList(pageEntities))
+                .size(pageEntities.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+
+        return new ResponseEntity<>(page, HttpStatus.OK);
+    }
+
+    /**
+     * Compares the request validators with the authors collection stamp and, when they match, marks the response 304.
+     * Either way the response carries the current ETag and Last-Modified.
+     * Returning null from the handler afterwards skips loading and serializing the list.
+     */
+    private boolean isCollectionNotModified(WebRequest webRequest) {
+        ResourceVersion version = authorService.findCollectionVersion();
+        return webRequest.checkNotModified(version.eTag(), version.lastModifiedMillis());
+    }
+
+    /**
+     * Body of /authors and /list-authors: 304 when the client's validators match the collection stamp,
+     * otherwise the pre-serialized (and, if accepted, gzip-compressed) bytes built for that stamp.
+     */
+    private ResponseEntity<byte[]> cachedAuthorList(WebRequest webRequest) {
+        ResourceVersion version = authorService.findCollectionVersion();
+        boolean acceptsGzip = CachedJsonResponses.acceptsGzip(webRequest);
+        if (webRequest.checkNotModified(CachedJsonResponses.eTag(version, acceptsGzip), version.lastModifiedMillis())) {
+            return null;
+        }
+
+        CachedResponse cachedResponse = responseCacheService.getOrSerialize(ResponseCacheService.AUTHOR_LIST,
+                version.eTag(), acceptsGzip, () -> getAuthorDtoList(authorService.findAll()));
+        return CachedJsonResponses.ok(cachedResponse, acceptsGzip);
+    }
+
     private List<AuthorDto> getAuthorDtoList(List<AuthorEntity> authorEntities) {
         return authorEntities  // Start with the list of AuthorEntity objects
                 .stream()  // Convert list to Stream for functional operations
@@ -61,17 +151,25 @@ public class AuthorController {
     }
 
     @GetMapping(path = AUTHORS)
-    public List<AuthorDto> authors() {
-        List<AuthorEntity> authorEntities = authorService.findAll();
-        return getAuthorDtoList(authorEntities);
+    public ResponseEntity<byte[]> authors(WebRequest webRequest) {
+        return cachedAuthorList(webRequest);
     }
 
     @GetMapping(path = AUTHOR_BY_ID)
-    public ResponseEntity<AuthorDto> authorById(@PathVariable Long id) {
+    public ResponseEntity<AuthorDto> authorById(@PathVariable Long id, WebRequest webRequest) {
         if (id == null) {
             return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
         }
 
+        // If-None-Match/If-Modified-Since are answered from the version columns, before the row is loaded
+        Optional<ResourceVersion> version = authorService.findVersionById(id);
+        if (version.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        if (webRequest.checkNotModified(version.get().eTag(), version.get().lastModifiedMillis())) {
+            return null;
+        }
+
         Optional<AuthorEntity> foundAuthorEntity = authorService.findById(id);
 
         return foundAuthorEntity.map(authorEntity -> {
@@ -109,16 +207,13 @@ public class AuthorController {
             return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
         }
 
-        if (!authorService.isExists(id)) {
-            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
-        }
-
         authorDto.setId(id);
         AuthorEntity authorEntity = authorMapper.mapFrom(authorDto);
-        AuthorEntity savedAuthorEntity = authorService.saveAuthor(authorEntity);
-        AuthorDto savedAuthorDto = authorMapper.mapTo(savedAuthorEntity);
 
-        return new ResponseEntity<>(savedAuthorDto, HttpStatus.OK);
+        // The UPDATE's row count doubles as the existence check: 0 rows is a 404, with no SELECT before the write
+        return authorService.updateAuthor(id, authorEntity)
+                .map(savedAuthorEntity -> new ResponseEntity<>(authorMapper.mapTo(savedAuthorEntity), HttpStatus.OK))
+                .orElse(new ResponseEntity<>(HttpStatus.NOT_FOUND));
     }
 
      @PatchMapping(path = PATCH_AUTHOR_BY_ID)
@@ -127,16 +222,12 @@ public class AuthorController {
              return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
          }
 
-         if (!authorService.isExists(id)) {
-             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
-         }
-
          authorDto.setId(id);
          AuthorEntity authorEntity = authorMapper.mapFrom(authorDto);
-         AuthorEntity savedAuthorEntity = authorService.partialUpdate(id, authorEntity);
-         AuthorDto savedAuthorDto = authorMapper.mapTo(savedAuthorEntity);
 
-         return new ResponseEntity<>(savedAuthorDto, HttpStatus.OK);
+         return authorService.partialUpdate(id, authorEntity)
+                 .map(savedAuthorEntity -> new ResponseEntity<>(authorMapper.mapTo(savedAuthorEntity), HttpStatus.OK))
+                 .orElse(new ResponseEntity<>(HttpStatus.NOT_FOUND));
      }
 
      @DeleteMapping(path = AUTHOR_BY_ID)
@@ -145,12 +236,10 @@ public class AuthorController {
             return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
         }
 
-        if (!authorService.isExists(id)) {
+        if (!authorService.deleteById(id)) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
 
-        authorService.deleteById(id);
-
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
 
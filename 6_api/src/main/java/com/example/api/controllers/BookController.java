@@ -1,18 +1,35 @@
 package com.example.api.controllers;
 
 import com.example.api.domain.dto.BookDto;
+import com.example.api.domain.dto.BulkResultDto;
 import com.example.api.domain.entity.BookEntity;
+import com.example.api.domain.version.ResourceVersion;
 import com.example.api.mappers.Mapper;
 import com.example.api.services.BookService;
+import com.example.api.services.BulkImportService;
+import com.example.api.services.CachedResponse;
+import com.example.api.services.ResponseCacheService;
+import com.example.api.services.UpsertOutcome;
+import com.example.api.services.UpsertResult;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 import static com.example.api.path.BookPaths.BOOKS;
+import static com.example.api.path.BookPaths.BOOKS_BULK;
+import static com.example.api.path.BookPaths.BOOKS_STREAM;
 import static com.example.api.path.BookPaths.BOOK_BY_ISBN;
 
 
@@ -20,10 +37,17 @@ import static com.example.api.path.BookPaths.BOOK_BY_ISBN;
 public class BookController {
     private final Mapper<BookEntity, BookDto> bookMapper;
     private final BookService bookService;
+    private final ObjectMapper objectMapper;
+    private final BulkImportService bulkImportService;
+    private final ResponseCacheService responseCacheService;
 
-    public BookController(Mapper<BookEntity, BookDto> bookMapper, BookService bookService) {
+    public BookController(Mapper<BookEntity, BookDto> bookMapper, BookService bookService, ObjectMapper objectMapper,
+                          BulkImportService bulkImportService, ResponseCacheService responseCacheService) {
         this.bookMapper = bookMapper;
         this.bookService = bookService;
+        this.objectMapper = objectMapper;
+        this.bulkImportService = bulkImportService;
+        this.responseCacheService = responseCacheService;
     }
 
 
@@ -38,34 +62,90 @@ public class BookController {
         bookDto.setIsbn(isbn);
         BookEntity bookEntity = bookMapper.mapFrom(bookDto);
 
-        boolean bookExisted = bookService.isBookExists(isbn);
-
-        BookEntity savedBookEntity = bookService.saveBook(bookEntity);
-        BookDto savedBookDto = bookMapper.mapTo(savedBookEntity);
+        UpsertResult<BookEntity> result;
+        try {
+            result = bookService.upsertBook(bookEntity);
+        } catch (IllegalArgumentException e) {
+            // The book references an author id that does not exist
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        // Built from the stored book and its stored author, not from the request body
+        BookDto savedBookDto = bookMapper.mapTo(result.entity());
 
-        if (bookExisted) {
+        if (result.outcome() == UpsertOutcome.UPDATED) {
             return new ResponseEntity<>(savedBookDto, HttpStatus.OK);
         } else {
             return new ResponseEntity<>(savedBookDto, HttpStatus.CREATED);
         }
     }
 
+    // Body is a JSON array of books, read as a stream and written in JDBC batches
+    @PutMapping(path = BOOKS_BULK, consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkResultDto> bulkCreateUpdateBooks(InputStream body) {
+        try {
+            return new ResponseEntity<>(bulkImportService.importBooks(body), HttpStatus.OK);
+        } catch (IllegalArgumentException | IOException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+
     @GetMapping(path = BOOKS)
-    public List<BookDto> listBooks() {
-        List<BookEntity> bookEntities = bookService.findAll();
-        return bookEntities
-                .stream()
-                .map(bookMapper::mapTo)
-                .collect(Collectors.toList());
+    public ResponseEntity<byte[]> listBooks(WebRequest webRequest) {
+        // Unchanged books and authors: 304 from one aggregate query, with no load or serialization
+        ResourceVersion version = bookService.findCollectionVersion();
+        boolean acceptsGzip = CachedJsonResponses.acceptsGzip(webRequest);
+        if (webRequest.checkNotModified(CachedJsonResponses.eTag(version, acceptsGzip), version.lastModifiedMillis())) {
+            return null;
+        }
+
+        // Changed since the client's copy but not since the last request: serve the cached bytes
+        CachedResponse cachedResponse = responseCacheService.getOrSerialize(ResponseCacheService.BOOK_LIST,
+                version.eTag(), acceptsGzip, () -> bookService.findAll()
+                        .stream()
+                        .map(bookMapper::mapTo)
+                        .collect(Collectors.toList()));
+        return CachedJsonResponses.ok(cachedResponse, acceptsGzip);
+    }
+
+    // Writes one JSON document per line while rows are read, so memory stays flat regardless of table size
+    @GetMapping(path = BOOKS_STREAM)
+    public ResponseEntity<StreamingResponseBody> streamBooks() {
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+                bookService.streamAll(bookEntity -> {
+                    try {
+                        generator.writeObject(bookMapper.mapTo(bookEntity));
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     @GetMapping(path = BOOK_BY_ISBN)
-    public ResponseEntity<BookDto> findBookByIsbn(@PathVariable String isbn) {
+    public ResponseEntity<BookDto> findBookByIsbn(@PathVariable String isbn, WebRequest webRequest) {
 
         if (isbn == null || isbn.trim().isEmpty()) {
             return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
         }
 
+        // The validators cover the embedded author too, and are read before the book is loaded
+        Optional<ResourceVersion> version = bookService.findVersionByIsbn(isbn);
+        if (version.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        if (webRequest.checkNotModified(version.get().eTag(), version.get().lastModifiedMillis())) {
+            return null;
+        }
+
         Optional<BookEntity> identifiedBookByIsbn = bookService.findById(isbn);
 
         return identifiedBookByIsbn.map(bookEntity -> {
@@ -82,17 +162,13 @@ public class BookController {
             return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
         }
 
-        if(!bookService.isBookExists(isbn)){
-            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
-        }
-
         // Overwrites the ISBN from the path variable to ensure consistency
         bookDto.setIsbn(isbn);
         BookEntity bookEntity = bookMapper.mapFrom(bookDto);
-        BookEntity savedBookEntity = bookService.partialUpdateBook(isbn, bookEntity);
-        BookDto savedBookDto = bookMapper.mapTo(savedBookEntity);
 
-        return new ResponseEntity<>(savedBookDto, HttpStatus.OK);
+        return bookService.partialUpdateBook(isbn, bookEntity)
+                .map(savedBookEntity -> new ResponseEntity<>(bookMapper.mapTo(savedBookEntity), HttpStatus.OK))
+                .orElse(new ResponseEntity<>(HttpStatus.NOT_FOUND));
 
     }
 
@@ -102,12 +178,10 @@ public class BookController {
             return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
         }
 
-        if (!bookService.isBookExists(isbn)) {
+        if (!bookService.deleteBookByIsbn(isbn)) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
 
-        bookService.deleteBookByIsbn(isbn);
-
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
 
@@ -0,0 +1,57 @@
+package com.example.api.controllers;
+
+import com.example.api.domain.version.ResourceVersion;
+import com.example.api.services.CachedResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Locale;
+
+/**
+ * Turns a {@link CachedResponse} into a response whose body is the cached array itself.
+ * ByteArrayHttpMessageConverter writes it straight to the output stream, with no serialization and no copy.
+ */
+final class CachedJsonResponses {
+    private static final String GZIP_ETAG_SUFFIX = "-gz";
+
+    private CachedJsonResponses() {
+    }
+
+    static boolean acceptsGzip(WebRequest webRequest) {
+        String acceptEncoding = webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.toLowerCase(Locale.ROOT).split(",")) {
+            String trimmed = coding.trim();
+            if (trimmed.startsWith("gzip") && !trimmed.replace(" ", "").matches("gzip;q=0(\\.0*)?")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * ETag of the representation this request gets: the gzip and identity bodies of one version are different bytes,
+     * so they must not share a strong ETag. A client accepting gzip always gets the {@code -gz} tag, also when the entry
+     * was not worth compressing; for a given version that tag still stands for exactly one byte sequence.
+     */
+    static String eTag(ResourceVersion version, boolean acceptsGzip) {
+        return acceptsGzip ? version.eTag() + GZIP_ETAG_SUFFIX : version.eTag();
+    }
+
+    static ResponseEntity<byte[]> ok(CachedResponse cachedResponse, boolean acceptsGzip) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (acceptsGzip && cachedResponse.hasGzip()) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .contentLength(cachedResponse.gzip().length)
+                    .body(cachedResponse.gzip());
+        }
+        return builder.contentLength(cachedResponse.json().length).body(cachedResponse.json());
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.api.controllers;
+
+import com.example.api.domain.dto.AuthorDto;
+import com.example.api.domain.dto.BookDto;
+import com.example.api.domain.entity.AuthorEntity;
+import com.example.api.domain.entity.BookEntity;
+import com.example.api.mappers.Mapper;
+import com.example.api.services.SearchService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import static com.example.api.path.SearchPaths.SEARCH_AUTHORS;
+import static com.example.api.path.SearchPaths.SEARCH_BOOKS;
+
+@RestController
+public class SearchController {
+    private final SearchService searchService;
+    private final Mapper<AuthorEntity, AuthorDto> authorMapper;
+    private final Mapper<BookEntity, BookDto> bookMapper;
+
+    public SearchController(SearchService searchService, Mapper<AuthorEntity, AuthorDto> authorMapper,
+                            Mapper<BookEntity, BookDto> bookMapper) {
+        this.searchService = searchService;
+        this.authorMapper = authorMapper;
+        this.bookMapper = bookMapper;
+    }
+
+    // /search/authors?q=kal&page=0&size=20, best matches first
+    @GetMapping(path = SEARCH_AUTHORS)
+    public ResponseEntity<Page<AuthorDto>> searchAuthors(@RequestParam("q") String query, Pageable pageable) {
+        if (query == null || query.trim().isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        Page<AuthorEntity> authorEntities = searchService.searchAuthors(query.trim(), pageable);
+        return new ResponseEntity<>(authorEntities.map(authorMapper::mapTo), HttpStatus.OK);
+    }
+
+    // /search/books?q=fire&page=0&size=20, best matches first
+    @GetMapping(path = SEARCH_BOOKS)
+    public ResponseEntity<Page<BookDto>> searchBooks(@RequestParam("q") String query, Pageable pageable) {
+        if (query == null || query.trim().isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        Page<BookEntity> bookEntities = searchService.searchBooks(query.trim(), pageable);
+        return new ResponseEntity<>(bookEntities.map(bookMapper::mapTo), HttpStatus.OK);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.api.controllers;
+
+import com.example.api.domain.dto.CacheStatsDto;
+import com.example.api.domain.dto.ResponseCacheStatsDto;
+import com.example.api.services.CacheStatsService;
+import com.example.api.services.ResponseCacheService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import static com.example.api.path.StatsPaths.CACHE_STATS;
+import static com.example.api.path.StatsPaths.RESPONSE_CACHE_STATS;
+
+@RestController
+public class StatsController {
+    private final CacheStatsService cacheStatsService;
+    private final ResponseCacheService responseCacheService;
+
+    public StatsController(CacheStatsService cacheStatsService, ResponseCacheService responseCacheService) {
+        this.cacheStatsService = cacheStatsService;
+        this.responseCacheService = responseCacheService;
+    }
+
+    @GetMapping(path = CACHE_STATS)
+    public CacheStatsDto cacheStats() {
+        return cacheStatsService.getCacheStats();
+    }
+
+    @GetMapping(path = RESPONSE_CACHE_STATS)
+    public ResponseCacheStatsDto responseCacheStats() {
+        return responseCacheService.getStats();
+    }
+}
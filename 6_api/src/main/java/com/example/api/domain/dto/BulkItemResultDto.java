@@ -0,0 +1,24 @@
+package com.example.api.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BulkItemResultDto {
+
+    // Position of the item in the submitted array
+    private int index;
+
+    // Generated author id or book ISBN; null when the item failed before it was written
+    private String id;
+
+    // CREATED, UPDATED or FAILED
+    private String status;
+
+    private String error;
+}
@@ -0,0 +1,32 @@
+package com.example.api.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BulkResultDto {
+
+    private int received;
+
+    private int created;
+
+    private int updated;
+
+    private int failed;
+
+    private int batchSize;
+
+    private long elapsedMillis;
+
+    // Written rows (created + updated) per second of wall-clock time spent in the import
+    private double rowsPerSecond;
+
+    private List<BulkItemResultDto> items;
+}
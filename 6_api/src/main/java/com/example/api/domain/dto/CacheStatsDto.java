@@ -0,0 +1,19 @@
+package com.example.api.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CacheStatsDto {
+
+    private boolean enabled;
+
+    private List<CacheRegionStatsDto> regions;
+}
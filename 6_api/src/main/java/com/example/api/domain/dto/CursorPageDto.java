@@ -0,0 +1,27 @@
+package com.example.api.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of a keyset (seek) paginated listing.
+ * nextCursor is an opaque token to pass back as {@code after}; it is null on the last page.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CursorPageDto<T> {
+
+    private List<T> content;
+
+    private int size;
+
+    private boolean hasNext;
+
+    private String nextCursor;
+}
@@ -0,0 +1,34 @@
+package com.example.api.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ResponseCacheStatsDto {
+
+    private boolean enabled;
+
+    private int entries;
+
+    private long hitCount;
+
+    private long missCount;
+
+    private long evictionCount;
+
+    private double hitRatio;
+
+    // Bytes written for list bodies, compressed or not
+    private long bytesServed;
+
+    // Uncompressed size minus gzip size, summed over every gzip response
+    private long bytesSavedByCompression;
+
+    // Load + serialize + compress time of the cached entries, summed over every hit
+    private long serializationMillisAvoided;
+}
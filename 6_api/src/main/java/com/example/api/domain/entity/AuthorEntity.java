@@ -1,11 +1,19 @@
 package com.example.api.domain.entity;
 
 
+import com.example.api.domain.id.PooledLoSequence;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.Instant;
 
 @Data
 @AllArgsConstructor
@@ -13,10 +21,13 @@ import lombok.NoArgsConstructor;
 @Builder
 @Entity // Marks this class as a JPA entity, representing a database table
 @Table(name = "authors") // Specifies the table name in the database
+@Cacheable // Eligible for the Hibernate second-level cache when app.cache.enabled=true
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "authors")
 public class AuthorEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "author_id_seq")
+    // One author_id_seq call reserves app.ids.block-size ids (pooled-lo); must match the sequence's INCREMENT BY
+    @PooledLoSequence(sequenceName = "author_id_seq")
     private Long id;
 
     private String name;
@@ -25,4 +36,17 @@ public class AuthorEntity {
 
     private String details;
 
+    // Incremented by Hibernate on every flushed change; part of the ETag
+    // The column default lets ddl-auto=update add it to a table that already has rows
+    @EqualsAndHashCode.Exclude
+    @Version
+    @ColumnDefault("0")
+    private long version;
+
+    // Set on insert and on every flushed change; served as Last-Modified
+    // Both are bookkeeping, so equality stays based on the mapped content
+    @EqualsAndHashCode.Exclude
+    @UpdateTimestamp
+    private Instant updatedAt;
+
 }
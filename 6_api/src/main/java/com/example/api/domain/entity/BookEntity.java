@@ -4,7 +4,14 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.Instant;
 
 @Data
 @AllArgsConstructor
@@ -12,6 +19,8 @@ import lombok.NoArgsConstructor;
 @Builder
 @Entity // Marks this class as a JPA entity, representing a database table
 @Table(name = "books") // Specifies the table name in the database
+@Cacheable // Eligible for the Hibernate second-level cache when app.cache.enabled=true
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "books")
 public class BookEntity {
 
     // Marks this field as the primary key of the entity
@@ -28,4 +37,15 @@ public class BookEntity {
     @JoinColumn(name = "author_id")
     private AuthorEntity authorEntity;
 
+    // Incremented by Hibernate on every flushed change; part of the ETag
+    @EqualsAndHashCode.Exclude
+    @Version
+    @ColumnDefault("0")
+    private long version;
+
+    // Set on insert and on every flushed change; served as Last-Modified
+    @EqualsAndHashCode.Exclude
+    @UpdateTimestamp
+    private Instant updatedAt;
+
 }
@@ -0,0 +1,30 @@
+package com.example.api.domain.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "table_versions") // One row per table behind a collection ETag ("authors", "books")
+public class TableVersionEntity {
+
+    @Id
+    private String tableName;
+
+    // Incremented after every insert, update and delete of the table has committed
+    private long version;
+
+    // Time of the latest such write; deletes included, so it can be served as the collection's Last-Modified
+    private Instant updatedAt;
+
+}
@@ -0,0 +1,18 @@
+package com.example.api.domain.event;
+
+/**
+ * Published by the author write paths so derived views (the search index) can follow the authors table.
+ * The table version is incremented inside the surrounding transaction; the other listeners run after it commits.
+ *
+ * @param name the author's name after the write; null when the author was deleted
+ */
+public record AuthorChangedEvent(Long id, String name, boolean deleted) {
+
+    public static AuthorChangedEvent saved(Long id, String name) {
+        return new AuthorChangedEvent(id, name, false);
+    }
+
+    public static AuthorChangedEvent deleted(Long id) {
+        return new AuthorChangedEvent(id, null, true);
+    }
+}
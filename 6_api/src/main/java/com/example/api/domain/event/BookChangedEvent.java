@@ -0,0 +1,18 @@
+package com.example.api.domain.event;
+
+/**
+ * Published by the book write paths so derived views (the search index) can follow the books table.
+ * The table version is incremented inside the surrounding transaction; the other listeners run after it commits.
+ *
+ * @param title the book's title after the write; null when the book was deleted
+ */
+public record BookChangedEvent(String isbn, String title, boolean deleted) {
+
+    public static BookChangedEvent saved(String isbn, String title) {
+        return new BookChangedEvent(isbn, title, false);
+    }
+
+    public static BookChangedEvent deleted(String isbn) {
+        return new BookChangedEvent(isbn, null, true);
+    }
+}
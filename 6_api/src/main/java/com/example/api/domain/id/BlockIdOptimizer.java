@@ -0,0 +1,100 @@
+package com.example.api.domain.id;
+
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.id.enhanced.AccessCallback;
+import org.hibernate.id.enhanced.Optimizer;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Pooled-lo optimizer: a sequence value {@code v} reserves the ids {@code [v, v + blockSize)}.
+ * Ids inside the current block are handed out with a single atomic increment, so concurrent inserts never block
+ * each other; only the thread that finds the block exhausted takes the lock and calls the sequence.
+ * Hibernate's own pooled-lo optimizer synchronizes every call instead.
+ */
+public class BlockIdOptimizer implements Optimizer {
+    private final String sequenceName;
+    private final int blockSize;
+    private final AtomicReference<Block> current = new AtomicReference<>(Block.EXHAUSTED);
+    private final AtomicLong blocksFetched = new AtomicLong();
+    private volatile IntegralDataTypeHolder lastSourceValue;
+
+    public BlockIdOptimizer(String sequenceName, int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Block size must be at least 1, was " + blockSize);
+        }
+        this.sequenceName = sequenceName;
+        this.blockSize = blockSize;
+    }
+
+    @Override
+    public Serializable generate(AccessCallback callback) {
+        while (true) {
+            Block block = current.get();
+            long id = block.next.getAndIncrement();
+            if (id < block.limit) {
+                return id;
+            }
+            refill(block, callback);
+        }
+    }
+
+    // Threads that lose the race wait here and then retry on the block the winner installed
+    private synchronized void refill(Block exhausted, AccessCallback callback) {
+        if (current.get() != exhausted) {
+            return;
+        }
+
+        IntegralDataTypeHolder sourceValue = callback.getNextValue();
+        long low = sourceValue.makeValue().longValue();
+        if (exhausted != Block.EXHAUSTED && Math.abs(low - exhausted.low) < blockSize) {
+            // Handing out this block would repeat ids of the previous one
+            throw new IllegalStateException(String.format(
+                    "%s returned %d after %d; its INCREMENT BY must be at least the block size %d",
+                    sequenceName, low, exhausted.low, blockSize));
+        }
+
+        lastSourceValue = sourceValue;
+        blocksFetched.incrementAndGet();
+        current.set(new Block(low, low + blockSize));
+    }
+
+    /**
+     * Number of sequence round trips made so far.
+     */
+    public long getBlocksFetched() {
+        return blocksFetched.get();
+    }
+
+    @Override
+    public IntegralDataTypeHolder getLastSourceValue() {
+        return lastSourceValue;
+    }
+
+    @Override
+    public int getIncrementSize() {
+        return blockSize;
+    }
+
+    // Makes SequenceStructure export the sequence with INCREMENT BY blockSize
+    @Override
+    public boolean applyIncrementSizeToSourceValues() {
+        return true;
+    }
+
+    private static final class Block {
+        static final Block EXHAUSTED = new Block(0, 0);
+
+        final long low;
+        final long limit;
+        final AtomicLong next;
+
+        Block(long low, long limit) {
+            this.low = low;
+            this.limit = limit;
+            this.next = new AtomicLong(low);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.api.domain.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates the annotated id from a database sequence with {@link PooledLoSequenceGenerator}:
+ * each sequence call reserves a block of app.ids.block-size ids for this JVM.
+ * The sequence must be declared with INCREMENT BY equal to the block size.
+ */
+@IdGeneratorType(PooledLoSequenceGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface PooledLoSequence {
+
+    String sequenceName();
+}
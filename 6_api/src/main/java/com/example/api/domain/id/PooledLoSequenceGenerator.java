@@ -0,0 +1,74 @@
+package com.example.api.domain.id;
+
+import org.hibernate.boot.model.naming.Identifier;
+import org.hibernate.boot.model.relational.Database;
+import org.hibernate.boot.model.relational.QualifiedSequenceName;
+import org.hibernate.boot.model.relational.SqlStringGenerationContext;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.AnnotationBasedGenerator;
+import org.hibernate.generator.GeneratorCreationContext;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.enhanced.SequenceStructure;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.lang.reflect.Member;
+import java.util.Properties;
+
+/**
+ * Id generator behind {@link PooledLoSequence}. The sequence call and its DDL come from Hibernate's
+ * {@link SequenceStructure}, which renders them through the dialect, so H2 and Postgres behave the same;
+ * the ids are handed out by a {@link BlockIdOptimizer}.
+ * The block size is read from the app.ids.block-size Hibernate setting.
+ */
+public class PooledLoSequenceGenerator implements IdentifierGenerator, AnnotationBasedGenerator<PooledLoSequence> {
+    public static final String BLOCK_SIZE_SETTING = "app.ids.block-size";
+    private static final int DEFAULT_BLOCK_SIZE = 50;
+
+    private SequenceStructure sequence;
+    private BlockIdOptimizer optimizer;
+
+    // Hibernate instantiates generators through the Spring bean container, so the setup happens in initialize
+    @Override
+    public void initialize(PooledLoSequence config, Member member, GeneratorCreationContext context) {
+        ServiceRegistry serviceRegistry = context.getServiceRegistry();
+        int blockSize = serviceRegistry.requireService(ConfigurationService.class)
+                .getSetting(BLOCK_SIZE_SETTING, StandardConverters.INTEGER, DEFAULT_BLOCK_SIZE);
+
+        QualifiedSequenceName sequenceName = new QualifiedSequenceName(
+                Identifier.toIdentifier(context.getDefaultCatalog()),
+                Identifier.toIdentifier(context.getDefaultSchema()),
+                Identifier.toIdentifier(config.sequenceName()));
+        this.sequence = new SequenceStructure(serviceRegistry.requireService(JdbcEnvironment.class),
+                "orm", sequenceName, 1, blockSize, Long.class);
+        this.optimizer = new BlockIdOptimizer(config.sequenceName(), blockSize);
+        this.sequence.configure(optimizer);
+    }
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) {
+        // Everything is set up from the annotation in initialize
+    }
+
+    @Override
+    public void registerExportables(Database database) {
+        sequence.registerExportables(database);
+    }
+
+    @Override
+    public void initialize(SqlStringGenerationContext context) {
+        sequence.initialize(context);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return optimizer.generate(sequence.buildCallback(session));
+    }
+
+    public BlockIdOptimizer getOptimizer() {
+        return optimizer;
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.api.domain.version;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * Validators for a conditional GET: the strong ETag (unquoted) and Last-Modified time of a resource or collection.
+ * The convenience constructors are used as JPQL constructor expressions, so a version is read from a few columns
+ * without loading or serializing the entities it describes.
+ *
+ * @param lastModified null when it is unknown, e.g. the rows predate the updated_at column
+ */
+public record ResourceVersion(String eTag, Instant lastModified) {
+
+    // One author row
+    public ResourceVersion(Long version, Instant updatedAt) {
+        this(tag(version, updatedAt), updatedAt);
+    }
+
+    // One book row and its author; the author id is part of the tag because re-pointing a book changes its body
+    public ResourceVersion(Long version, Instant updatedAt, Long authorId, Long authorVersion, Instant authorUpdatedAt) {
+        this(tag(version, updatedAt) + "-" + tag(authorId, null) + "-" + tag(authorVersion, authorUpdatedAt),
+                latest(updatedAt, authorUpdatedAt));
+    }
+
+    /**
+     * Validators of resources served in one body, e.g. the books table and the authors embedded in it.
+     * Last-Modified is only kept when every part has one, since an unknown part may have changed later.
+     */
+    public static ResourceVersion combine(List<ResourceVersion> parts) {
+        StringJoiner eTag = new StringJoiner("-");
+        Instant lastModified = null;
+        boolean lastModifiedKnown = true;
+        for (ResourceVersion part : parts) {
+            eTag.add(part.eTag());
+            lastModifiedKnown &= part.lastModified() != null;
+            lastModified = latest(lastModified, part.lastModified());
+        }
+        return new ResourceVersion(eTag.toString(), lastModifiedKnown ? lastModified : null);
+    }
+
+    /**
+     * Last-Modified in epoch milliseconds, or -1 when unknown (the form WebRequest.checkNotModified expects).
+     */
+    public long lastModifiedMillis() {
+        return lastModified != null ? lastModified.toEpochMilli() : -1;
+    }
+
+    private static String tag(Long value, Instant instant) {
+        String tag = value != null ? value.toString() : "0";
+        // Milliseconds match what the database keeps and what the entity reports after a reload
+        return instant != null ? tag + "." + instant.toEpochMilli() : tag;
+    }
+
+    private static Instant latest(Instant first, Instant second) {
+        if (first == null) {
+            return second;
+        }
+        return second != null && second.isAfter(first) ? second : first;
+    }
+}
@@ -3,30 +3,17 @@ package com.example.api.mappers.impl;
 import com.example.api.domain.dto.AuthorDto;
 import com.example.api.domain.entity.AuthorEntity;
 import com.example.api.mappers.Mapper;
-import org.modelmapper.ModelMapper;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 /**
  * Implementation of the Mapper interface for converting between AuthorEntity and AuthorDto.
- * Uses ModelMapper for automatic field mapping between the entity and DTO objects.
+ * Copies each field directly through getters and setters, so a mapping call does no reflection
+ * and allocates nothing beyond the target object.
  * This component is registered as a Spring bean for dependency injection.
  */
 @Component
 public class AuthorMapperImpl implements Mapper<AuthorEntity, AuthorDto> {
 
-    private final ModelMapper modelMapper;
-
-    /**
-     * Constructor for AuthorMapperImpl.
-     *
-     * @param modelMapper the ModelMapper instance injected by Spring for object mapping
-     */
-    @Autowired
-    public AuthorMapperImpl(ModelMapper modelMapper) {
-        this.modelMapper = modelMapper;
-    }
-
     /**
      * Maps an AuthorDto to an AuthorEntity.
      *
@@ -41,19 +28,7 @@ public class AuthorMapperImpl implements Mapper<AuthorEntity, AuthorDto> {
 
         authorDto.setDetails("My name is " + authorDto.getName() + " and I am " + authorDto.getAge() + " years old.");
 
-        //  ModelMapper API requires the target class type as a `Class<?>` object, not an instance of the class.
-
-        //  `.class` is Java's way of getting the `Class` object that represents the `AuthorEntity` type at runtime.
-        //  This `Class` object contains all the metadata about the `AuthorEntity` class that ModelMapper needs to:
-        //
-        //  1. Determine the target type's structure
-        //  2. Access its properties through reflection
-        //  3. Create a new instance of `AuthorEntity`
-        //  4. Map matching fields from the source (`authorDto`) to the target type
-        //
-        //  Simply using `AuthorEntity` alone wouldn't work as it's just a type name,
-        //  not a `Class` object that ModelMapper can use for reflection and instantiation.
-        return modelMapper.map(authorDto, AuthorEntity.class);
+        return toEntity(authorDto);
     }
 
     /**
@@ -67,7 +42,32 @@ public class AuthorMapperImpl implements Mapper<AuthorEntity, AuthorDto> {
         if (authorEntity == null) {
             return null;
         }
-        return modelMapper.map(authorEntity, AuthorDto.class);
+        return toDto(authorEntity);
+    }
 
+    /**
+     * Plain field copy from DTO to entity, without deriving details.
+     * Shared with BookMapperImpl for the nested author of a book.
+     */
+    static AuthorEntity toEntity(AuthorDto authorDto) {
+        AuthorEntity authorEntity = new AuthorEntity();
+        authorEntity.setId(authorDto.getId());
+        authorEntity.setName(authorDto.getName());
+        authorEntity.setAge(authorDto.getAge());
+        authorEntity.setDetails(authorDto.getDetails());
+        return authorEntity;
+    }
+
+    /**
+     * Plain field copy from entity to DTO.
+     * Shared with BookMapperImpl for the nested author of a book.
+     */
+    static AuthorDto toDto(AuthorEntity authorEntity) {
+        AuthorDto authorDto = new AuthorDto();
+        authorDto.setId(authorEntity.getId());
+        authorDto.setName(authorEntity.getName());
+        authorDto.setAge(authorEntity.getAge());
+        authorDto.setDetails(authorEntity.getDetails());
+        return authorDto;
     }
 }
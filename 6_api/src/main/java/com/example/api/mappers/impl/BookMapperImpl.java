@@ -3,31 +3,44 @@ package com.example.api.mappers.impl;
 import com.example.api.domain.dto.BookDto;
 import com.example.api.domain.entity.BookEntity;
 import com.example.api.mappers.Mapper;
-import org.modelmapper.ModelMapper;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 /**
- * Maps between BookEntity and BookDto using ModelMapper.
+ * Maps between BookEntity and BookDto with direct field copies.
+ * The nested author is mapped explicitly: BookEntity.authorEntity <-> BookDto.authorDto.
  * Spring-managed bean for entity-DTO conversion.
  */
 @Component
 public class BookMapperImpl implements Mapper<BookEntity, BookDto> {
-    private final ModelMapper modelMapper;
-
-    @Autowired
-    public BookMapperImpl(ModelMapper modelMapper) {
-        this.modelMapper = modelMapper;
-    }
 
     @Override
     public BookEntity mapFrom(BookDto bookDto) {
-        return bookDto != null ? modelMapper.map(bookDto, BookEntity.class) : null;
+        if (bookDto == null) {
+            return null;
+        }
+
+        BookEntity bookEntity = new BookEntity();
+        bookEntity.setIsbn(bookDto.getIsbn());
+        bookEntity.setTitle(bookDto.getTitle());
+        if (bookDto.getAuthorDto() != null) {
+            bookEntity.setAuthorEntity(AuthorMapperImpl.toEntity(bookDto.getAuthorDto()));
+        }
+        return bookEntity;
     }
 
     @Override
     public BookDto mapTo(BookEntity bookEntity) {
-        return bookEntity != null ? modelMapper.map(bookEntity, BookDto.class) : null;
+        if (bookEntity == null) {
+            return null;
+        }
+
+        BookDto bookDto = new BookDto();
+        bookDto.setIsbn(bookEntity.getIsbn());
+        bookDto.setTitle(bookEntity.getTitle());
+        if (bookEntity.getAuthorEntity() != null) {
+            bookDto.setAuthorDto(AuthorMapperImpl.toDto(bookEntity.getAuthorEntity()));
+        }
+        return bookDto;
     }
 
 
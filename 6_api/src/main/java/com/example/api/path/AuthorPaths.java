@@ -3,7 +3,9 @@ package com.example.api.path;
 public final class AuthorPaths {
     public static final String LIST_AUTHORS = "/list-authors";
     public static final String PAGE_AUTHORS = "/page-authors";
+    public static final String AUTHORS_CURSOR = "/authors/cursor";
     public static final String AUTHORS = "/authors";
+    public static final String AUTHORS_BULK = "/authors/bulk";
     public static final String AUTHOR_BY_ID = "/authors/{id}";
     public static final String UPDATE_AUTHOR_BY_ID = "/authors/update/{id}";
     public static final String PATCH_AUTHOR_BY_ID = "/authors/patch/{id}";
@@ -3,6 +3,8 @@ package com.example.api.path;
 public class BookPaths {
     public static final String BOOK_BY_ISBN = "/books/{isbn}";
     public static final String BOOKS = "/books";
+    public static final String BOOKS_STREAM = "/books/stream";
+    public static final String BOOKS_BULK = "/books/bulk";
 
     public static String bookByIsbnUrl(String isbn) {
         return BOOK_BY_ISBN.replace("{isbn}", isbn);
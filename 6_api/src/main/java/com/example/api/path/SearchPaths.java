@@ -0,0 +1,9 @@
+package com.example.api.path;
+
+public final class SearchPaths {
+    public static final String SEARCH_AUTHORS = "/search/authors";
+    public static final String SEARCH_BOOKS = "/search/books";
+
+    private SearchPaths() {
+    }
+}
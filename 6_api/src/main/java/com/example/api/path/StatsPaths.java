@@ -0,0 +1,9 @@
+package com.example.api.path;
+
+public final class StatsPaths {
+    public static final String CACHE_STATS = "/stats/cache";
+    public static final String RESPONSE_CACHE_STATS = "/stats/response-cache";
+
+    private StatsPaths() {
+    }
+}
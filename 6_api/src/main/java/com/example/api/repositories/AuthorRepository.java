@@ -1,11 +1,27 @@
 package com.example.api.repositories;
 
 import com.example.api.domain.entity.AuthorEntity;
+import com.example.api.domain.version.ResourceVersion;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
 @Repository
 public interface AuthorRepository extends CrudRepository<AuthorEntity, Long>, PagingAndSortingRepository<AuthorEntity, Long> {
 
@@ -18,13 +34,54 @@ public interface AuthorRepository extends CrudRepository<AuthorEntity, Long>, Pa
     // boolean existsById(ID id);
 
     // Derived query: SELECT * FROM authors WHERE age < ?
+    // Result ids are kept in the query cache; any write to authors invalidates them
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = "author-queries")
+    })
     Iterable<AuthorEntity> ageLessThan(int age);
 
     // JPQL query using entity names and parameters
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = "author-queries")
+    })
     @Query(value = "SELECT a from AuthorEntity a where a.age > ?1")
     Iterable<AuthorEntity> findAuthorsAgeGreaterThan(int i);
 
     // Native SQL query against table columns (partial, case-insensitive matching)
     @Query(value = "SELECT * FROM authors WHERE LOWER(name) LIKE CONCAT('%', LOWER(?1), '%')", nativeQuery = true)
     Iterable<AuthorEntity> findAuthorByName(String name);
+
+    // Keyset (seek) query: SELECT * FROM authors WHERE id > ? ORDER BY id LIMIT ?
+    // Walks the primary key index from the last seen id, so no OFFSET scan and no COUNT(*) query
+    List<AuthorEntity> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    // Conditional GET validators: two columns of one row, no entity is loaded
+    @Query(value = "SELECT new com.example.api.domain.version.ResourceVersion(a.version, a.updatedAt) " +
+            "FROM AuthorEntity a WHERE a.id = ?1")
+    Optional<ResourceVersion> findVersionById(Long id);
+
+    // (id, name) pairs for rebuilding the search index; only the two columns are read and no entities are managed
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query(value = "SELECT a.id, a.name FROM AuthorEntity a")
+    Stream<Object[]> streamIdAndName();
+
+    // Conditional full update in a single statement; the returned row count tells whether the author exists.
+    // Native and synchronized on a query space no entity or cached query uses, so Hibernate does not empty the authors
+    // region as it would for a bulk JPQL UPDATE; AuthorServiceImpl evicts the one changed entry instead
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "single_row_writes"))
+    @Query(value = "UPDATE authors SET name = ?2, age = ?3, details = ?4, version = version + 1, updated_at = ?5 WHERE id = ?1",
+            nativeQuery = true)
+    int updateAuthor(Long id, String name, Integer age, String details, Instant updatedAt);
+
+    // Single-statement delete; returns 0 when the author does not exist
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "single_row_writes"))
+    @Query(value = "DELETE FROM authors WHERE id = ?1", nativeQuery = true)
+    int deleteAuthorById(Long id);
 }
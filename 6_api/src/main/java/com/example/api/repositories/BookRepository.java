@@ -1,9 +1,82 @@
 package com.example.api.repositories;
 
 import com.example.api.domain.entity.BookEntity;
+import com.example.api.domain.version.ResourceVersion;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
 @Repository
 public interface BookRepository extends CrudRepository<BookEntity, String> {
+
+    // Books and their authors in one SELECT ... LEFT JOIN authors
+    // The inherited findAll() loads the eager author with one extra SELECT per distinct author (N+1)
+    @Query(value = "SELECT b FROM BookEntity b LEFT JOIN FETCH b.authorEntity")
+    List<BookEntity> findAllWithAuthor();
+
+    // Batch lookup of search hits with their authors in one statement
+    @Query(value = "SELECT b FROM BookEntity b LEFT JOIN FETCH b.authorEntity WHERE b.isbn IN ?1")
+    List<BookEntity> findAllWithAuthorByIsbnIn(Collection<String> isbns);
+
+    // Entity-graph variant of findById: the author is fetched in the same statement as the book
+    @EntityGraph(attributePaths = "authorEntity")
+    Optional<BookEntity> findWithAuthorByIsbn(String isbn);
+
+    // Cursor-style read of the whole table: rows are pulled from the driver in fetch-size chunks
+    // The author is join-fetched so each row arrives complete; must be consumed inside a transaction
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query(value = "SELECT b FROM BookEntity b LEFT JOIN FETCH b.authorEntity")
+    Stream<BookEntity> streamAll();
+
+    // Conditional GET validators of a book and the author embedded in its body
+    @Query(value = "SELECT new com.example.api.domain.version.ResourceVersion(" +
+            "b.version, b.updatedAt, a.id, a.version, a.updatedAt) " +
+            "FROM BookEntity b LEFT JOIN b.authorEntity a WHERE b.isbn = ?1")
+    Optional<ResourceVersion> findVersionByIsbn(String isbn);
+
+    // (isbn, title) pairs for rebuilding the search index; the author association is not touched
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query(value = "SELECT b.isbn, b.title FROM BookEntity b")
+    Stream<Object[]> streamIsbnAndTitle();
+
+    // Single-statement writes of one book; the returned row count tells whether the book exists.
+    // Native and synchronized on a query space no entity or cached query uses, like the author writes in AuthorRepository,
+    // so only the changed entry is evicted (by BookServiceImpl) instead of the whole books region
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "single_row_writes"))
+    @Query(value = "UPDATE books SET title = ?2, author_id = ?3, version = version + 1, updated_at = ?4 WHERE isbn = ?1",
+            nativeQuery = true)
+    int updateBook(String isbn, String title, Long authorId, Instant updatedAt);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "single_row_writes"))
+    @Query(value = "INSERT INTO books (isbn, title, author_id, version, updated_at) VALUES (?1, ?2, ?3, 0, ?4)",
+            nativeQuery = true)
+    int insertBook(String isbn, String title, Long authorId, Instant updatedAt);
+
+    // Returns 0 when the book does not exist; only the book row is removed, never its author
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "single_row_writes"))
+    @Query(value = "DELETE FROM books WHERE isbn = ?1", nativeQuery = true)
+    int deleteBookByIsbn(String isbn);
 }
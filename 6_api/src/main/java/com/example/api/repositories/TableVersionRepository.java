@@ -0,0 +1,20 @@
+package com.example.api.repositories;
+
+import com.example.api.domain.entity.TableVersionEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+@Repository
+public interface TableVersionRepository extends JpaRepository<TableVersionEntity, String> {
+
+    // The rows are seeded with the schema (data.sql), so a table always has one to increment
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE TableVersionEntity t SET t.version = t.version + 1, t.updatedAt = ?2 WHERE t.tableName = ?1")
+    void incrementVersion(String tableName, Instant updatedAt);
+}
@@ -1,6 +1,7 @@
 package com.example.api.services;
 
 import com.example.api.domain.entity.AuthorEntity;
+import com.example.api.domain.version.ResourceVersion;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -11,13 +12,23 @@ public interface AuthorService {
 
     AuthorEntity saveAuthor(AuthorEntity authorEntity);
 
+    List<AuthorEntity> saveAllAuthors(List<AuthorEntity> authorEntities);
+
     List<AuthorEntity> findAll();
 
     Page<AuthorEntity> findAll(Pageable pageable);
 
+    List<AuthorEntity> findAllAfter(Long afterId, int limit);
+
     Optional<AuthorEntity> findById(Long id);
 
-    AuthorEntity partialUpdate(Long id, AuthorEntity authorEntity);
+    Optional<AuthorEntity> updateAuthor(Long id, AuthorEntity authorEntity);
+
+    Optional<AuthorEntity> partialUpdate(Long id, AuthorEntity authorEntity);
+
+    Optional<ResourceVersion> findVersionById(Long id);
+
+    ResourceVersion findCollectionVersion();
 
     Boolean isExists(Long id);
 
@@ -27,5 +38,5 @@ public interface AuthorService {
 
     List<AuthorEntity> findAuthorsByName(String name);
 
-    void deleteById(Long id);
+    boolean deleteById(Long id);
 }
@@ -1,20 +1,32 @@
 package com.example.api.services;
 
 import com.example.api.domain.entity.BookEntity;
+import com.example.api.domain.version.ResourceVersion;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface BookService {
     BookEntity saveBook(BookEntity bookEntity);
 
+    UpsertResult<BookEntity> upsertBook(BookEntity bookEntity);
+
+    List<UpsertOutcome> upsertAllBooks(List<BookEntity> bookEntities);
+
     List<BookEntity> findAll();
 
+    void streamAll(Consumer<BookEntity> action);
+
     Optional<BookEntity> findById(String isbn);
 
+    Optional<ResourceVersion> findVersionByIsbn(String isbn);
+
+    ResourceVersion findCollectionVersion();
+
     Boolean isBookExists(String isbn);
 
-    BookEntity partialUpdateBook(String isbn, BookEntity bookEntity);
+    Optional<BookEntity> partialUpdateBook(String isbn, BookEntity bookEntity);
 
-    void deleteBookByIsbn(String isbn);
+    boolean deleteBookByIsbn(String isbn);
 }
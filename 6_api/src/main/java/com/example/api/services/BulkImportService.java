@@ -0,0 +1,12 @@
+package com.example.api.services;
+
+import com.example.api.domain.dto.BulkResultDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface BulkImportService {
+    BulkResultDto importAuthors(InputStream jsonArray) throws IOException;
+
+    BulkResultDto importBooks(InputStream jsonArray) throws IOException;
+}
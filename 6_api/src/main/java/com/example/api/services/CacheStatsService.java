@@ -0,0 +1,8 @@
+package com.example.api.services;
+
+import com.example.api.domain.dto.CacheStatsDto;
+
+public interface CacheStatsService {
+
+    CacheStatsDto getCacheStats();
+}
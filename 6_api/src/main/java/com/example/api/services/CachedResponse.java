@@ -0,0 +1,17 @@
+package com.example.api.services;
+
+/**
+ * A list response serialized once and kept as bytes, together with its gzip form when that is smaller.
+ * The arrays are shared by every request served from the entry and are written to the socket as they are,
+ * so they must never be modified.
+ *
+ * @param version            collection stamp (ETag) of the data the body was built from
+ * @param gzip               null when compression did not make the body smaller
+ * @param serializationNanos time spent loading, serializing and compressing; avoided on every hit
+ */
+public record CachedResponse(String version, byte[] json, byte[] gzip, long serializationNanos) {
+
+    public boolean hasGzip() {
+        return gzip != null;
+    }
+}
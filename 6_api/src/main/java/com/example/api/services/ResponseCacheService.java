@@ -0,0 +1,21 @@
+package com.example.api.services;
+
+import com.example.api.domain.dto.ResponseCacheStatsDto;
+
+import java.util.function.Supplier;
+
+public interface ResponseCacheService {
+    // Cache keys: one entry per distinct response body
+    String AUTHOR_LIST = "authors";
+    String BOOK_LIST = "books";
+
+    /**
+     * Returns the cached body of {@code key} if it was built for {@code version}, otherwise serializes
+     * the value from {@code body} and caches it.
+     *
+     * @param acceptsGzip whether the caller will send the gzip form; only used for the statistics
+     */
+    CachedResponse getOrSerialize(String key, String version, boolean acceptsGzip, Supplier<?> body);
+
+    ResponseCacheStatsDto getStats();
+}
@@ -0,0 +1,12 @@
+package com.example.api.services;
+
+import com.example.api.domain.entity.AuthorEntity;
+import com.example.api.domain.entity.BookEntity;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface SearchService {
+    Page<AuthorEntity> searchAuthors(String query, Pageable pageable);
+
+    Page<BookEntity> searchBooks(String query, Pageable pageable);
+}
@@ -0,0 +1,20 @@
+package com.example.api.services;
+
+import com.example.api.domain.version.ResourceVersion;
+
+/**
+ * Per-table version counters (table_versions) behind the collection ETag and Last-Modified.
+ * Every author and book write, deletes included, increments its table's row once its transaction has committed
+ * (once per request for all the transactions of an HTTP request), so the validators of a collection are read by
+ * primary key instead of aggregated over the table.
+ */
+public interface TableVersionService {
+    String AUTHORS = "authors";
+    String BOOKS = "books";
+
+    /**
+     * Combined validators of the given tables, read in one statement.
+     * Last-Modified is left out while any of the tables has not been written since its row was seeded.
+     */
+    ResourceVersion findVersion(String... tableNames);
+}
@@ -0,0 +1,9 @@
+package com.example.api.services;
+
+/**
+ * Result of a create-or-replace write, see {@link UpsertResult}.
+ */
+public enum UpsertOutcome {
+    CREATED,
+    UPDATED
+}
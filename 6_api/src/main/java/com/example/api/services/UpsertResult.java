@@ -0,0 +1,7 @@
+package com.example.api.services;
+
+/**
+ * A create-or-replace write: whether it created or updated the row, and the entity as stored.
+ */
+public record UpsertResult<T>(UpsertOutcome outcome, T entity) {
+}
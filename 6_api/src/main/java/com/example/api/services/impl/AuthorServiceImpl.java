@@ -1,43 +1,153 @@
 package com.example.api.services.impl;
 
 import com.example.api.domain.entity.AuthorEntity;
+import com.example.api.domain.event.AuthorChangedEvent;
+import com.example.api.domain.version.ResourceVersion;
 import com.example.api.repositories.AuthorRepository;
 import com.example.api.services.AuthorService;
+import com.example.api.services.SearchService;
+import com.example.api.services.TableVersionService;
 import com.example.api.utils.UtilityMethods;
+import jakarta.persistence.EntityManager;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 @Service
 public class AuthorServiceImpl implements AuthorService {
-    private final AuthorRepository authorRepository;
+    private static final int MAX_NAME_MATCHES = 1000;
+    // Cached ageLessThan/findAuthorsAgeGreaterThan results, which native author writes do not invalidate on their own
+    private static final String AUTHOR_QUERIES = "author-queries";
+    // Keeps the stored value of every column whose parameter is null
+    private static final String PATCH_AUTHOR = "UPDATE authors SET name = COALESCE(?1, name), age = COALESCE(?2, age), " +
+            "details = COALESCE(?3, details), version = version + 1, updated_at = ?4 WHERE id = ?5";
+    private static final String AUTHOR_COLUMNS = "id, name, age, details, version, updated_at";
 
-    public AuthorServiceImpl(AuthorRepository authorRepository) {
+    private final AuthorRepository authorRepository;
+    private final SearchService searchService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TableVersionService tableVersionService;
+    private final EntityManager entityManager;
+    // The patched row comes back from the UPDATE itself: RETURNING on Postgres, a FINAL TABLE select elsewhere (H2)
+    private final String patchAuthorReturningSql;
+
+    public AuthorServiceImpl(AuthorRepository authorRepository, SearchService searchService,
+                             ApplicationEventPublisher eventPublisher, TableVersionService tableVersionService,
+                             EntityManager entityManager) {
         this.authorRepository = authorRepository;
+        this.searchService = searchService;
+        this.eventPublisher = eventPublisher;
+        this.tableVersionService = tableVersionService;
+        this.entityManager = entityManager;
+        boolean postgres = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+        this.patchAuthorReturningSql = postgres
+                ? PATCH_AUTHOR + " RETURNING " + AUTHOR_COLUMNS
+                : "SELECT " + AUTHOR_COLUMNS + " FROM FINAL TABLE (" + PATCH_AUTHOR + ")";
     }
 
     /**
      * Saves new author entity. ID auto-generated by SEQUENCE.
-     * Implied transactional through JPA.
+     * The insert and the authors table version commit in one transaction.
      */
     @Override
+    @Transactional
     public AuthorEntity saveAuthor(AuthorEntity authorEntity) {
-        return authorRepository.save(authorEntity);
+        AuthorEntity savedAuthorEntity = authorRepository.save(authorEntity);
+        eventPublisher.publishEvent(AuthorChangedEvent.saved(savedAuthorEntity.getId(), savedAuthorEntity.getName()));
+        return savedAuthorEntity;
+    }
+
+    /**
+     * Inserts a chunk of new authors in one transaction.
+     * Ids come from the pooled-lo author_id_seq allocation (one sequence call per app.ids.block-size ids), and the INSERTs
+     * are flushed on commit as JDBC batches of hibernate.jdbc.batch_size.
+     */
+    @Override
+    @Transactional
+    public List<AuthorEntity> saveAllAuthors(List<AuthorEntity> authorEntities) {
+        List<AuthorEntity> savedAuthorEntities = new ArrayList<>(authorEntities.size());
+        authorRepository.saveAll(authorEntities).forEach(savedAuthorEntities::add);
+        savedAuthorEntities.forEach(savedAuthorEntity ->
+                eventPublisher.publishEvent(AuthorChangedEvent.saved(savedAuthorEntity.getId(), savedAuthorEntity.getName())));
+        return savedAuthorEntities;
     }
 
+    /**
+     * Replaces every column of an existing author with one UPDATE statement.
+     * No existence check or merge SELECT is needed: a row count of 0 means the author does not exist.
+     * Only this author's second-level cache entry is evicted, after the transaction ends.
+     *
+     * @return the written author, or empty if no author has this id
+     */
     @Override
-    public AuthorEntity partialUpdate(Long id, AuthorEntity authorEntity){
+    @Transactional
+    public Optional<AuthorEntity> updateAuthor(Long id, AuthorEntity authorEntity) {
+        int updatedRows = authorRepository.updateAuthor(
+                id, authorEntity.getName(), authorEntity.getAge(), authorEntity.getDetails(), Instant.now());
+        if (updatedRows == 0) {
+            return Optional.empty();
+        }
+
+        SecondLevelCacheEvictions.evictAfterCompletion(entityManager.getEntityManagerFactory(), AuthorEntity.class, id, AUTHOR_QUERIES);
+        eventPublisher.publishEvent(AuthorChangedEvent.saved(id, authorEntity.getName()));
+        authorEntity.setId(id);
+        return Optional.of(authorEntity);
+    }
 
-        return authorRepository.findById(id).map(existingAuthorEntity -> {
-            Optional.ofNullable(authorEntity.getName()).ifPresent(existingAuthorEntity::setName);
-            Optional.ofNullable(authorEntity.getAge()).ifPresent(existingAuthorEntity::setAge);
-            Optional.ofNullable(authorEntity.getDetails()).ifPresent(existingAuthorEntity::setDetails);
-            return authorRepository.save(existingAuthorEntity);
-        }).orElseThrow(() -> new RuntimeException("Author does not exists"));
+    /**
+     * Writes the non-null fields with one UPDATE that also returns the stored row, so the response needs no lookup
+     * before or after the write. No row back means the author does not exist.
+     *
+     * @return the updated author as stored, or empty if no author has this id
+     */
+    @Override
+    @Transactional
+    public Optional<AuthorEntity> partialUpdate(Long id, AuthorEntity authorEntity) {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery(patchAuthorReturningSql)
+                .unwrap(NativeQuery.class)
+                .setParameter(1, authorEntity.getName(), StandardBasicTypes.STRING)
+                .setParameter(2, authorEntity.getAge(), StandardBasicTypes.INTEGER)
+                .setParameter(3, authorEntity.getDetails(), StandardBasicTypes.STRING)
+                .setParameter(4, Instant.now(), StandardBasicTypes.INSTANT)
+                .setParameter(5, id, StandardBasicTypes.LONG)
+                .addScalar("id", StandardBasicTypes.LONG)
+                .addScalar("name", StandardBasicTypes.STRING)
+                .addScalar("age", StandardBasicTypes.INTEGER)
+                .addScalar("details", StandardBasicTypes.STRING)
+                .addScalar("version", StandardBasicTypes.LONG)
+                .addScalar("updated_at", StandardBasicTypes.INSTANT)
+                .getResultList();
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Object[] row = rows.getFirst();
+        AuthorEntity storedAuthorEntity = AuthorEntity.builder()
+                .id((Long) row[0])
+                .name((String) row[1])
+                .age((Integer) row[2])
+                .details((String) row[3])
+                .version((Long) row[4])
+                .updatedAt((Instant) row[5])
+                .build();
+        SecondLevelCacheEvictions.evictAfterCompletion(entityManager.getEntityManagerFactory(), AuthorEntity.class, id, AUTHOR_QUERIES);
+        eventPublisher.publishEvent(AuthorChangedEvent.saved(id, storedAuthorEntity.getName()));
+        return Optional.of(storedAuthorEntity);
     }
 
     @Override
@@ -51,6 +161,16 @@ public class AuthorServiceImpl implements AuthorService {
         return authorRepository.findAll(pageable);
     }
 
+    /**
+     * Returns up to {@code limit} authors with an id greater than {@code afterId}, ordered by id.
+     * A null afterId starts from the first author.
+     */
+    @Override
+    public List<AuthorEntity> findAllAfter(Long afterId, int limit) {
+        long startAfter = afterId != null ? afterId : Long.MIN_VALUE;
+        return authorRepository.findByIdGreaterThanOrderByIdAsc(startAfter, Limit.of(limit));
+    }
+
     @Override
     public List<AuthorEntity> findAuthorsAgeLessThan(int age) {
         Iterable<AuthorEntity> authors = authorRepository.ageLessThan(age);
@@ -63,10 +183,14 @@ public class AuthorServiceImpl implements AuthorService {
         return UtilityMethods.getAuthorEntityList(authors);
     }
 
+    /**
+     * Case-insensitive "name contains" lookup, served by the search index instead of a LIKE '%name%' table scan.
+     * Results are ranked (exact, prefix, word prefix, infix) and capped at the best {@value #MAX_NAME_MATCHES},
+     * which keeps the id IN list of the entity load far below the driver's bind parameter limit.
+     */
     @Override
     public List<AuthorEntity> findAuthorsByName(String name) {
-        Iterable<AuthorEntity> authors = authorRepository.findAuthorByName(name);
-        return UtilityMethods.getAuthorEntityList(authors);
+        return searchService.searchAuthors(name, PageRequest.of(0, MAX_NAME_MATCHES)).getContent();
     }
 
     @Override
@@ -74,15 +198,39 @@ public class AuthorServiceImpl implements AuthorService {
         return authorRepository.findById(id);
     }
 
+    /**
+     * Version and last write of one author, read without loading the row into the persistence context.
+     */
+    @Override
+    public Optional<ResourceVersion> findVersionById(Long id) {
+        return authorRepository.findVersionById(id);
+    }
+
+    @Override
+    public ResourceVersion findCollectionVersion() {
+        return tableVersionService.findVersion(TableVersionService.AUTHORS);
+    }
+
     @Override
     public Boolean isExists(Long id) {
         return authorRepository.existsById(id);
     }
 
+    /**
+     * Deletes with a single statement; a row count of 0 means the author does not exist.
+     *
+     * @return false if no author has this id
+     */
     @Override
     @Transactional
-    public void deleteById(Long id){
-        authorRepository.deleteById(id);
+    public boolean deleteById(Long id){
+        if (authorRepository.deleteAuthorById(id) == 0) {
+            return false;
+        }
+
+        SecondLevelCacheEvictions.evictAfterCompletion(entityManager.getEntityManagerFactory(), AuthorEntity.class, id, AUTHOR_QUERIES);
+        eventPublisher.publishEvent(AuthorChangedEvent.deleted(id));
+        return true;
     }
 
 }
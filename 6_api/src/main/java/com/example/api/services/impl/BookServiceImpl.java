@@ -1,27 +1,55 @@
 package com.example.api.services.impl;
 
+import com.example.api.domain.entity.AuthorEntity;
 import com.example.api.domain.entity.BookEntity;
+import com.example.api.domain.event.AuthorChangedEvent;
+import com.example.api.domain.event.BookChangedEvent;
+import com.example.api.domain.version.ResourceVersion;
 import com.example.api.repositories.BookRepository;
 import com.example.api.services.BookService;
+import com.example.api.services.TableVersionService;
+import com.example.api.services.UpsertOutcome;
+import com.example.api.services.UpsertResult;
+import jakarta.persistence.EntityManager;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 public class BookServiceImpl implements BookService {
+    private static final int MAX_UPSERT_ATTEMPTS = 3;
 
     private final BookRepository bookRepository;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final TableVersionService tableVersionService;
 
-    public BookServiceImpl(BookRepository bookRepository) {
+    public BookServiceImpl(BookRepository bookRepository, EntityManager entityManager,
+                           ApplicationEventPublisher eventPublisher, TransactionTemplate transactionTemplate,
+                           TableVersionService tableVersionService) {
         this.bookRepository = bookRepository;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.tableVersionService = tableVersionService;
     }
 
     /**
      * Creates and saves a new book entity.
-     * This method is implicitly transactional - Spring Data JPA transactions handle persistence.
+     * Runs in one transaction, so the book, a cascaded author and their table versions commit together.
      * If the book's AuthorEntity has CascadeType.ALL, saving the book may also persist/update the author.
      * The ISBN serves as the natural primary key (no auto-generation).
      *
@@ -29,25 +57,199 @@ public class BookServiceImpl implements BookService {
      * @return the saved book entity
      */
     @Override
+    @Transactional
     public BookEntity saveBook(BookEntity bookEntity) {
-        return bookRepository.save(bookEntity);
+        BookEntity savedBookEntity = bookRepository.save(bookEntity);
+        AuthorEntity savedAuthorEntity = savedBookEntity.getAuthorEntity();
+        if (savedAuthorEntity != null) {
+            eventPublisher.publishEvent(AuthorChangedEvent.saved(savedAuthorEntity.getId(), savedAuthorEntity.getName()));
+        }
+        eventPublisher.publishEvent(BookChangedEvent.saved(savedBookEntity.getIsbn(), savedBookEntity.getTitle()));
+        return savedBookEntity;
+    }
+
+    /**
+     * Creates or replaces the book with the given ISBN.
+     * Tries a single UPDATE first and uses its row count to decide: 1 row means the book existed,
+     * 0 rows means it is new and is inserted. An existing book therefore costs one statement and a new one two,
+     * with no exists-check, lock or merge SELECT. Only this book's second-level cache entry is evicted.
+     * <p>
+     * Concurrent PUTs of the same new ISBN both INSERT and all but one fail on the primary key; a failed write is
+     * retried in a new transaction, where its UPDATE finds the row. A new author (no id) is persisted with the book;
+     * an existing author is referenced by id, and the foreign key reports one that does not exist.
+     *
+     * @param bookEntity the book to write; it is not modified
+     * @return whether the book was created or updated, and the book as stored with its stored author
+     * @throws IllegalArgumentException if the book references an author id that does not exist
+     */
+    @Override
+    public UpsertResult<BookEntity> upsertBook(BookEntity bookEntity) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> upsertInTransaction(bookEntity));
+            } catch (DataIntegrityViolationException e) {
+                if (!isDuplicateKey(e) && bookEntity.getAuthorEntity() != null) {
+                    // Besides its primary key, books only has the author_id foreign key
+                    throw new IllegalArgumentException("No author with id " + bookEntity.getAuthorEntity().getId(), e);
+                }
+                if (!isDuplicateKey(e) || attempt == MAX_UPSERT_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private UpsertResult<BookEntity> upsertInTransaction(BookEntity bookEntity) {
+        AuthorEntity requestedAuthorEntity = bookEntity.getAuthorEntity();
+        AuthorEntity newAuthorEntity = persistNewAuthor(requestedAuthorEntity);
+        Long authorId = newAuthorEntity != null ? newAuthorEntity.getId()
+                : requestedAuthorEntity != null ? requestedAuthorEntity.getId() : null;
+
+        Instant now = Instant.now();
+        UpsertOutcome outcome = UpsertOutcome.UPDATED;
+        if (bookRepository.updateBook(bookEntity.getIsbn(), bookEntity.getTitle(), authorId, now) == 0) {
+            bookRepository.insertBook(bookEntity.getIsbn(), bookEntity.getTitle(), authorId, now);
+            outcome = UpsertOutcome.CREATED;
+        }
+        SecondLevelCacheEvictions.evictAfterCompletion(entityManager.getEntityManagerFactory(), BookEntity.class, bookEntity.getIsbn());
+        eventPublisher.publishEvent(BookChangedEvent.saved(bookEntity.getIsbn(), bookEntity.getTitle()));
+
+        // The foreign key has just proved the author exists; it is read for the response, from the cache when enabled
+        AuthorEntity storedAuthorEntity = newAuthorEntity != null ? newAuthorEntity
+                : authorId != null ? entityManager.find(AuthorEntity.class, authorId) : null;
+        return new UpsertResult<>(outcome, BookEntity.builder()
+                .isbn(bookEntity.getIsbn())
+                .title(bookEntity.getTitle())
+                .authorEntity(storedAuthorEntity)
+                .build());
+    }
+
+    // Persists a copy of a new author, so a retried attempt does not see the id of a rolled-back insert, and flushes it
+    // so the book's native INSERT/UPDATE can reference it; returns null for no author or an existing one
+    private AuthorEntity persistNewAuthor(AuthorEntity authorEntity) {
+        if (authorEntity == null || authorEntity.getId() != null) {
+            return null;
+        }
+        AuthorEntity newAuthorEntity = AuthorEntity.builder()
+                .name(authorEntity.getName())
+                .age(authorEntity.getAge())
+                .details(authorEntity.getDetails())
+                .build();
+        entityManager.persist(newAuthorEntity);
+        entityManager.flush();
+        eventPublisher.publishEvent(AuthorChangedEvent.saved(newAuthorEntity.getId(), newAuthorEntity.getName()));
+        return newAuthorEntity;
+    }
+
+    // A primary key violation: the INSERT lost a race with a concurrent PUT of the same ISBN
+    private static boolean isDuplicateKey(DataIntegrityViolationException e) {
+        return e.getCause() instanceof ConstraintViolationException violation
+                && violation.getKind() == ConstraintViolationException.ConstraintKind.UNIQUE;
+    }
+
+    /**
+     * Creates or replaces a chunk of books in one transaction.
+     * Existing rows are loaded with a single IN query, updated through dirty checking and the new ones persisted,
+     * so the flush on commit sends JDBC batches of UPDATEs and INSERTs (grouped by order_updates/order_inserts).
+     *
+     * @param bookEntities books to write; an ISBN repeated within the chunk updates the earlier item
+     * @return one outcome per book, in input order
+     */
+    @Override
+    @Transactional
+    public List<UpsertOutcome> upsertAllBooks(List<BookEntity> bookEntities) {
+        Map<String, BookEntity> managedBooks = new HashMap<>();
+        bookRepository.findAllById(bookEntities.stream().map(BookEntity::getIsbn).toList())
+                .forEach(existingBookEntity -> managedBooks.put(existingBookEntity.getIsbn(), existingBookEntity));
+
+        List<UpsertOutcome> outcomes = new ArrayList<>(bookEntities.size());
+        for (BookEntity bookEntity : bookEntities) {
+            AuthorEntity authorReference = resolveAuthorReference(bookEntity.getAuthorEntity());
+            BookEntity managedBookEntity = managedBooks.get(bookEntity.getIsbn());
+            eventPublisher.publishEvent(BookChangedEvent.saved(bookEntity.getIsbn(), bookEntity.getTitle()));
+
+            if (managedBookEntity != null) {
+                managedBookEntity.setTitle(bookEntity.getTitle());
+                managedBookEntity.setAuthorEntity(authorReference);
+                outcomes.add(UpsertOutcome.UPDATED);
+            } else {
+                BookEntity newBookEntity = BookEntity.builder()
+                        .isbn(bookEntity.getIsbn())
+                        .title(bookEntity.getTitle())
+                        .authorEntity(authorReference)
+                        .build();
+                entityManager.persist(newBookEntity);
+                managedBooks.put(newBookEntity.getIsbn(), newBookEntity);
+                outcomes.add(UpsertOutcome.CREATED);
+            }
+        }
+
+        return outcomes;
+    }
+
+    // Persists a new author, or returns an uninitialized proxy for an existing one so no SELECT is issued
+    private AuthorEntity resolveAuthorReference(AuthorEntity authorEntity) {
+        if (authorEntity == null) {
+            return null;
+        }
+        if (authorEntity.getId() == null) {
+            entityManager.persist(authorEntity);
+            eventPublisher.publishEvent(AuthorChangedEvent.saved(authorEntity.getId(), authorEntity.getName()));
+            return authorEntity;
+        }
+        return entityManager.getReference(AuthorEntity.class, authorEntity.getId());
     }
 
     @Override
     public List<BookEntity> findAll() {
-        Iterable<BookEntity> books = bookRepository.findAll();
-        // stream method from StreamSupport class converts the iterable result to a new sequential or parallel stream from a Spliterator.
-        // collect method from Stream class accumulates the elements of this stream into a List. The elements in the list will be in this stream's encounter order, if one exists.
-        // Collector accumulates the input elements into a new List. There are no guarantees on the type, mutability, serializability, or thread-safety of the List.
-        return StreamSupport
-                .stream(books.spliterator(), false)
-                .collect(Collectors.toList());
+        // Join-fetches the authors so listing N books is one statement instead of 1 + N
+        return bookRepository.findAllWithAuthor();
     }
 
+    /**
+     * Passes every book to {@code action} one at a time without building a List.
+     * The read-only transaction keeps the JDBC cursor open while the stream is consumed,
+     * and each book is detached once handled so the persistence context does not grow with the table.
+     *
+     * @param action callback invoked for each book, in database order
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<BookEntity> action) {
+        try (Stream<BookEntity> books = bookRepository.streamAll()) {
+            books.forEach(bookEntity -> {
+                action.accept(bookEntity);
+                entityManager.detach(bookEntity);
+            });
+        }
+    }
+
+    /**
+     * A book in the second-level cache is read from it, with its author resolved from the authors region.
+     * Otherwise the author is fetched in the same statement as the book.
+     */
     @Override
     public Optional<BookEntity> findById(String isbn) {
-        return bookRepository.findById(isbn);
+        if (entityManager.getEntityManagerFactory().getCache().contains(BookEntity.class, isbn)) {
+            return bookRepository.findById(isbn);
+        }
+        return bookRepository.findWithAuthorByIsbn(isbn);
+    }
 
+    /**
+     * Version of a book and its author from one small join, without loading either entity.
+     */
+    @Override
+    public Optional<ResourceVersion> findVersionByIsbn(String isbn) {
+        return bookRepository.findVersionByIsbn(isbn);
+    }
+
+    /**
+     * Every listed book embeds its author, so author writes change the stamp of /books too.
+     */
+    @Override
+    public ResourceVersion findCollectionVersion() {
+        return tableVersionService.findVersion(TableVersionService.BOOKS, TableVersionService.AUTHORS);
     }
 
     @Override
@@ -55,17 +257,36 @@ public class BookServiceImpl implements BookService {
         return bookRepository.existsById(isbn);
     }
 
+    /**
+     * Copies the non-null fields onto the managed book; dirty checking flushes one UPDATE on commit.
+     *
+     * @return the updated book, or empty if no book has this ISBN
+     */
     @Override
-    public BookEntity partialUpdateBook(String isbn, BookEntity bookEntity) {
-
+    @Transactional
+    public Optional<BookEntity> partialUpdateBook(String isbn, BookEntity bookEntity) {
         return bookRepository.findById(isbn).map(existingBookEntity -> {
             Optional.ofNullable(bookEntity.getTitle()).ifPresent(existingBookEntity::setTitle);
-            return bookRepository.save(existingBookEntity);
-        }).orElseThrow(() -> new RuntimeException("Author does not exists"));
+            eventPublisher.publishEvent(BookChangedEvent.saved(isbn, existingBookEntity.getTitle()));
+            return existingBookEntity;
+        });
     }
 
+    /**
+     * Deletes with a single statement; a row count of 0 means the book does not exist.
+     * Only the book row is removed; its author is left in place.
+     *
+     * @return false if no book has this ISBN
+     */
     @Override
-    public void deleteBookByIsbn(String isbn){
-        bookRepository.deleteById(isbn);
+    @Transactional
+    public boolean deleteBookByIsbn(String isbn){
+        if (bookRepository.deleteBookByIsbn(isbn) == 0) {
+            return false;
+        }
+
+        SecondLevelCacheEvictions.evictAfterCompletion(entityManager.getEntityManagerFactory(), BookEntity.class, isbn);
+        eventPublisher.publishEvent(BookChangedEvent.deleted(isbn));
+        return true;
     }
 }
@@ -0,0 +1,288 @@
+package com.example.api.services.impl;
+
+import com.example.api.domain.dto.AuthorDto;
+import com.example.api.domain.dto.BookDto;
+import com.example.api.domain.dto.BulkItemResultDto;
+import com.example.api.domain.dto.BulkResultDto;
+import com.example.api.domain.entity.AuthorEntity;
+import com.example.api.domain.entity.BookEntity;
+import com.example.api.mappers.Mapper;
+import com.example.api.services.AuthorService;
+import com.example.api.services.BookService;
+import com.example.api.services.BulkImportService;
+import com.example.api.services.UpsertOutcome;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+@Slf4j
+@Service
+public class BulkImportServiceImpl implements BulkImportService {
+    private static final String CREATED = "CREATED";
+    private static final String FAILED = "FAILED";
+
+    private final ObjectMapper objectMapper;
+    private final AuthorService authorService;
+    private final BookService bookService;
+    private final Mapper<AuthorEntity, AuthorDto> authorMapper;
+    private final Mapper<BookEntity, BookDto> bookMapper;
+    private final int batchSize;
+
+    public BulkImportServiceImpl(ObjectMapper objectMapper,
+                                 AuthorService authorService,
+                                 BookService bookService,
+                                 Mapper<AuthorEntity, AuthorDto> authorMapper,
+                                 Mapper<BookEntity, BookDto> bookMapper,
+                                 @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        this.objectMapper = objectMapper;
+        this.authorService = authorService;
+        this.bookService = bookService;
+        this.authorMapper = authorMapper;
+        this.bookMapper = bookMapper;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Inserts every author of a JSON array. Any id in the payload is ignored; ids come from author_id_seq.
+     * Items are written in chunks of hibernate.jdbc.batch_size, each chunk in its own transaction,
+     * so a failing chunk is reported per item without rolling back the chunks before it.
+     */
+    @Override
+    public BulkResultDto importAuthors(InputStream jsonArray) throws IOException {
+        long startNanos = System.nanoTime();
+        List<BulkItemResultDto> items = new ArrayList<>();
+
+        readInChunks(jsonArray, AuthorDto.class, (firstIndex, authorDtos) -> {
+            List<IndexedItem<AuthorDto>> validItems = new ArrayList<>();
+            for (int i = 0; i < authorDtos.size(); i++) {
+                ParsedItem<AuthorDto> parsedItem = authorDtos.get(i);
+                if (parsedItem.error() != null) {
+                    items.add(failedItem(firstIndex + i, null, parsedItem.error()));
+                    continue;
+                }
+                AuthorDto authorDto = parsedItem.value();
+                authorDto.setId(null);
+                validItems.add(new IndexedItem<>(firstIndex + i, authorDto));
+            }
+
+            writeOrSplit(validItems, authorItems -> {
+                List<AuthorEntity> savedAuthorEntities = authorService.saveAllAuthors(authorItems.stream()
+                        .map(authorItem -> authorMapper.mapFrom(authorItem.value()))
+                        .toList());
+                List<BulkItemResultDto> writtenItems = new ArrayList<>(savedAuthorEntities.size());
+                for (int i = 0; i < savedAuthorEntities.size(); i++) {
+                    writtenItems.add(BulkItemResultDto.builder()
+                            .index(authorItems.get(i).index())
+                            .id(String.valueOf(savedAuthorEntities.get(i).getId()))
+                            .status(CREATED)
+                            .build());
+                }
+                return writtenItems;
+            }, authorDto -> null, items);
+        });
+
+        return summarize(items, startNanos);
+    }
+
+    /**
+     * Creates or replaces every book of a JSON array, keyed by ISBN.
+     * Chunking and failure handling are the same as for {@link #importAuthors(InputStream)}.
+     */
+    @Override
+    public BulkResultDto importBooks(InputStream jsonArray) throws IOException {
+        long startNanos = System.nanoTime();
+        List<BulkItemResultDto> items = new ArrayList<>();
+
+        readInChunks(jsonArray, BookDto.class, (firstIndex, bookDtos) -> {
+            List<IndexedItem<BookDto>> validItems = new ArrayList<>();
+            for (int i = 0; i < bookDtos.size(); i++) {
+                ParsedItem<BookDto> parsedItem = bookDtos.get(i);
+                if (parsedItem.error() != null) {
+                    items.add(failedItem(firstIndex + i, null, parsedItem.error()));
+                    continue;
+                }
+                BookDto bookDto = parsedItem.value();
+                if (bookDto.getIsbn() == null || bookDto.getIsbn().trim().isEmpty()) {
+                    items.add(failedItem(firstIndex + i, null, "isbn is required"));
+                    continue;
+                }
+                validItems.add(new IndexedItem<>(firstIndex + i, bookDto));
+            }
+
+            writeOrSplit(validItems, bookItems -> {
+                List<UpsertOutcome> outcomes = bookService.upsertAllBooks(bookItems.stream()
+                        .map(bookItem -> bookMapper.mapFrom(bookItem.value()))
+                        .toList());
+                List<BulkItemResultDto> writtenItems = new ArrayList<>(outcomes.size());
+                for (int i = 0; i < outcomes.size(); i++) {
+                    writtenItems.add(BulkItemResultDto.builder()
+                            .index(bookItems.get(i).index())
+                            .id(bookItems.get(i).value().getIsbn())
+                            .status(outcomes.get(i).name())
+                            .build());
+                }
+                return writtenItems;
+            }, BookDto::getIsbn, items);
+        });
+
+        return summarize(items, startNanos);
+    }
+
+    /**
+     * Writes the items in one transaction. If it fails, each half is written again on its own, down to single items,
+     * so only the items that fail by themselves are reported FAILED and the rest of the chunk is still written.
+     * The entities are mapped again for every attempt, since a rolled-back attempt leaves ids on the ones it persisted.
+     */
+    private <T> void writeOrSplit(List<IndexedItem<T>> chunkItems, ChunkWriter<T> chunkWriter,
+                                  Function<T, String> itemId, List<BulkItemResultDto> items) {
+        if (chunkItems.isEmpty()) {
+            return;
+        }
+
+        try {
+            items.addAll(chunkWriter.write(chunkItems));
+        } catch (RuntimeException e) {
+            if (chunkItems.size() > 1) {
+                int middle = chunkItems.size() / 2;
+                writeOrSplit(chunkItems.subList(0, middle), chunkWriter, itemId, items);
+                writeOrSplit(chunkItems.subList(middle, chunkItems.size()), chunkWriter, itemId, items);
+                return;
+            }
+
+            IndexedItem<T> chunkItem = chunkItems.get(0);
+            log.warn("Bulk import item {} could not be written", chunkItem.index(), e);
+            items.add(failedItem(chunkItem.index(), itemId.apply(chunkItem.value()), failureMessage(e)));
+        }
+    }
+
+    // The exception message carries SQL and driver details, so the client gets a fixed message and the log the cause
+    private static String failureMessage(RuntimeException e) {
+        if (e instanceof DataIntegrityViolationException) {
+            return "Violates a database constraint, e.g. a value too long or a reference to a missing author";
+        }
+        return "Could not be written";
+    }
+
+    /**
+     * Reads the array one element at a time so the whole payload is never held in memory.
+     * Elements that are not JSON objects, or whose fields do not bind to the item type (e.g. "age": "abc"),
+     * are passed to the handler with an error, and reading continues with the next element.
+     *
+     * @throws IllegalArgumentException if the payload is not a JSON array
+     * @throws IOException if the payload is not well-formed JSON; chunks before the error are already written
+     */
+    private <T> void readInChunks(InputStream jsonArray, Class<T> itemType, ChunkHandler<T> chunkHandler) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(jsonArray)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("Expected a JSON array");
+            }
+
+            List<ParsedItem<T>> chunk = new ArrayList<>(batchSize);
+            int firstIndex = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new IllegalArgumentException("Unterminated JSON array");
+                }
+
+                if (token == JsonToken.START_OBJECT) {
+                    chunk.add(bindItem(objectMapper.readTree(parser), itemType));
+                } else {
+                    parser.skipChildren();
+                    chunk.add(new ParsedItem<>(null, "Item is not a JSON object"));
+                }
+
+                if (chunk.size() == batchSize) {
+                    chunkHandler.handle(firstIndex, chunk);
+                    firstIndex += chunk.size();
+                    chunk = new ArrayList<>(batchSize);
+                }
+            }
+
+            if (!chunk.isEmpty()) {
+                chunkHandler.handle(firstIndex, chunk);
+            }
+        }
+    }
+
+    /**
+     * The object is already read as a whole tree, so a binding error only fails this item
+     * and leaves the parser at the start of the next one.
+     */
+    private <T> ParsedItem<T> bindItem(JsonNode itemNode, Class<T> itemType) {
+        try {
+            return new ParsedItem<>(objectMapper.treeToValue(itemNode, itemType), null);
+        } catch (JsonProcessingException e) {
+            return new ParsedItem<>(null, e.getOriginalMessage());
+        }
+    }
+
+    private BulkResultDto summarize(List<BulkItemResultDto> items, long startNanos) {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        // Items rejected before the write are recorded ahead of their chunk, so restore input order
+        items.sort(Comparator.comparingInt(BulkItemResultDto::getIndex));
+
+        int created = 0;
+        int updated = 0;
+        int failed = 0;
+        for (BulkItemResultDto item : items) {
+            switch (item.getStatus()) {
+                case CREATED -> created++;
+                case FAILED -> failed++;
+                default -> updated++;
+            }
+        }
+
+        double elapsedSeconds = elapsedNanos / 1_000_000_000.0;
+        return BulkResultDto.builder()
+                .received(items.size())
+                .created(created)
+                .updated(updated)
+                .failed(failed)
+                .batchSize(batchSize)
+                .elapsedMillis(TimeUnit.NANOSECONDS.toMillis(elapsedNanos))
+                .rowsPerSecond(elapsedSeconds > 0 ? (created + updated) / elapsedSeconds : 0)
+                .items(items)
+                .build();
+    }
+
+    private static BulkItemResultDto failedItem(int index, String id, String error) {
+        return BulkItemResultDto.builder()
+                .index(index)
+                .id(id)
+                .status(FAILED)
+                .error(error)
+                .build();
+    }
+
+    private record ParsedItem<T>(T value, String error) {
+    }
+
+    // An item that bound without errors and its position in the payload
+    private record IndexedItem<T>(int index, T value) {
+    }
+
+    @FunctionalInterface
+    private interface ChunkHandler<T> {
+        void handle(int firstIndex, List<ParsedItem<T>> chunk);
+    }
+
+    @FunctionalInterface
+    private interface ChunkWriter<T> {
+        List<BulkItemResultDto> write(List<IndexedItem<T>> chunkItems);
+    }
+}
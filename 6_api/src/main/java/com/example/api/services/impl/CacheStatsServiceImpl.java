@@ -0,0 +1,64 @@
+package com.example.api.services.impl;
+
+import com.example.api.domain.dto.CacheRegionStatsDto;
+import com.example.api.domain.dto.CacheStatsDto;
+import com.example.api.services.CacheStatsService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class CacheStatsServiceImpl implements CacheStatsService {
+    private static final List<String> ENTITY_REGIONS = List.of("authors", "books");
+    private static final List<String> QUERY_REGIONS = List.of("author-queries");
+
+    private final Statistics statistics;
+
+    public CacheStatsServiceImpl(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * Reads hit/miss/put counters for each second-level and query cache region from Hibernate statistics.
+     * Counters are only collected when app.cache.enabled=true (hibernate.generate_statistics).
+     */
+    @Override
+    public CacheStatsDto getCacheStats() {
+        if (!statistics.isStatisticsEnabled()) {
+            return CacheStatsDto.builder().enabled(false).regions(List.of()).build();
+        }
+
+        List<CacheRegionStatsDto> regions = new ArrayList<>();
+        for (String region : ENTITY_REGIONS) {
+            regions.add(toDto(region, statistics.getDomainDataRegionStatistics(region)));
+        }
+        for (String region : QUERY_REGIONS) {
+            regions.add(toDto(region, statistics.getQueryRegionStatistics(region)));
+        }
+
+        return CacheStatsDto.builder().enabled(true).regions(regions).build();
+    }
+
+    private static CacheRegionStatsDto toDto(String region, CacheRegionStatistics regionStatistics) {
+        if (regionStatistics == null) {
+            return CacheRegionStatsDto.builder().region(region).build();
+        }
+
+        long hits = regionStatistics.getHitCount();
+        long misses = regionStatistics.getMissCount();
+        long lookups = hits + misses;
+
+        return CacheRegionStatsDto.builder()
+                .region(region)
+                .hitCount(hits)
+                .missCount(misses)
+                .putCount(regionStatistics.getPutCount())
+                .hitRatio(lookups == 0 ? 0.0 : (double) hits / lookups)
+                .build();
+    }
+}
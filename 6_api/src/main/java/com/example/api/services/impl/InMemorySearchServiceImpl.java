@@ -0,0 +1,122 @@
+package com.example.api.services.impl;
+
+import com.example.api.domain.entity.AuthorEntity;
+import com.example.api.domain.entity.BookEntity;
+import com.example.api.domain.event.AuthorChangedEvent;
+import com.example.api.domain.event.BookChangedEvent;
+import com.example.api.repositories.AuthorRepository;
+import com.example.api.repositories.BookRepository;
+import com.example.api.services.SearchService;
+import com.example.api.utils.NGramIndex;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Default search backend (app.search.backend=memory): trigram indexes over author names and book titles held in the heap.
+ * The indexes are rebuilt from the database on startup and then follow the write paths through
+ * {@link AuthorChangedEvent}/{@link BookChangedEvent}, applied only after the writing transaction commits.
+ * A lookup touches the database once, to load the entities of the requested page.
+ */
+@Service
+@ConditionalOnProperty(name = "app.search.backend", havingValue = "memory", matchIfMissing = true)
+public class InMemorySearchServiceImpl implements SearchService {
+    private final NGramIndex<Long> authorIndex = new NGramIndex<>();
+    private final NGramIndex<String> bookIndex = new NGramIndex<>();
+
+    private final AuthorRepository authorRepository;
+    private final BookRepository bookRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public InMemorySearchServiceImpl(AuthorRepository authorRepository, BookRepository bookRepository,
+                                     PlatformTransactionManager transactionManager) {
+        this.authorRepository = authorRepository;
+        this.bookRepository = bookRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Loads every (id, name) and (isbn, title) pair with a streaming projection; no entities are materialized.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            authorIndex.clear();
+            try (var rows = authorRepository.streamIdAndName()) {
+                rows.forEach(row -> authorIndex.put((Long) row[0], (String) row[1]));
+            }
+
+            bookIndex.clear();
+            try (var rows = bookRepository.streamIsbnAndTitle()) {
+                rows.forEach(row -> bookIndex.put((String) row[0], (String) row[1]));
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuthorChanged(AuthorChangedEvent event) {
+        if (event.deleted()) {
+            authorIndex.remove(event.id());
+        } else {
+            authorIndex.put(event.id(), event.name());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        if (event.deleted()) {
+            bookIndex.remove(event.isbn());
+        } else {
+            bookIndex.put(event.isbn(), event.title());
+        }
+    }
+
+    @Override
+    public Page<AuthorEntity> searchAuthors(String query, Pageable pageable) {
+        NGramIndex.Result<Long> result = search(authorIndex, query, pageable);
+        List<AuthorEntity> authorEntities = inRankOrder(result.keys(),
+                authorRepository.findAllById(result.keys()), AuthorEntity::getId);
+        return new PageImpl<>(authorEntities, pageable, result.total());
+    }
+
+    @Override
+    public Page<BookEntity> searchBooks(String query, Pageable pageable) {
+        NGramIndex.Result<String> result = search(bookIndex, query, pageable);
+        List<BookEntity> bookEntities = result.keys().isEmpty()
+                ? List.of()
+                : inRankOrder(result.keys(), bookRepository.findAllWithAuthorByIsbnIn(result.keys()), BookEntity::getIsbn);
+        return new PageImpl<>(bookEntities, pageable, result.total());
+    }
+
+    private static <K extends Comparable<K>> NGramIndex.Result<K> search(NGramIndex<K> index, String query, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return index.search(query, 0, Integer.MAX_VALUE);
+        }
+        return index.search(query, (int) pageable.getOffset(), pageable.getPageSize());
+    }
+
+    // The IN query returns rows in arbitrary order; put them back in ranked order
+    // and drop keys whose row was deleted after the index was read
+    private static <K, T> List<T> inRankOrder(List<K> rankedKeys, Iterable<T> entities, Function<T, K> keyOf) {
+        Map<K, T> entitiesByKey = new HashMap<>();
+        entities.forEach(entity -> entitiesByKey.put(keyOf.apply(entity), entity));
+        return rankedKeys.stream()
+                .map(entitiesByKey::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.api.services.impl;
+
+import com.example.api.domain.entity.AuthorEntity;
+import com.example.api.domain.entity.BookEntity;
+import com.example.api.repositories.AuthorRepository;
+import com.example.api.repositories.BookRepository;
+import com.example.api.services.SearchService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Postgres search backend (app.search.backend=pg_trgm): infix matches are answered by GIN trigram indexes on
+ * authors.name and books.title, ranked by pg_trgm similarity(). Nothing is held in memory, so every application
+ * instance sees the same results without warming an index.
+ * The pg_trgm extension and both indexes are created on startup if they are missing.
+ */
+@Service
+@ConditionalOnProperty(name = "app.search.backend", havingValue = "pg_trgm")
+public class PgTrgmSearchServiceImpl implements SearchService {
+    private static final List<String> DDL = List.of(
+            "CREATE EXTENSION IF NOT EXISTS pg_trgm",
+            "CREATE INDEX IF NOT EXISTS authors_name_trgm_idx ON authors USING gin (name gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS books_title_trgm_idx ON books USING gin (title gin_trgm_ops)");
+
+    // ILIKE '%query%' is served by the gin_trgm_ops index; similarity() only orders the matching rows
+    private static final String AUTHOR_IDS =
+            "SELECT id FROM authors WHERE name ILIKE :pattern ESCAPE '\\' " +
+            "ORDER BY similarity(name, :query) DESC, id";
+    private static final String AUTHOR_COUNT =
+            "SELECT count(*) FROM authors WHERE name ILIKE :pattern ESCAPE '\\'";
+    private static final String BOOK_ISBNS =
+            "SELECT isbn FROM books WHERE title ILIKE :pattern ESCAPE '\\' " +
+            "ORDER BY similarity(title, :query) DESC, isbn";
+    private static final String BOOK_COUNT =
+            "SELECT count(*) FROM books WHERE title ILIKE :pattern ESCAPE '\\'";
+
+    private final EntityManager entityManager;
+    private final AuthorRepository authorRepository;
+    private final BookRepository bookRepository;
+
+    public PgTrgmSearchServiceImpl(EntityManager entityManager, AuthorRepository authorRepository,
+                                   BookRepository bookRepository) {
+        this.entityManager = entityManager;
+        this.authorRepository = authorRepository;
+        this.bookRepository = bookRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void createTrigramIndexes() {
+        DDL.forEach(statement -> entityManager.createNativeQuery(statement).executeUpdate());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<AuthorEntity> searchAuthors(String query, Pageable pageable) {
+        if (query == null || query.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        List<Long> ids = page(entityManager.createNativeQuery(AUTHOR_IDS, Long.class), query, pageable);
+        long total = count(AUTHOR_COUNT, query);
+
+        Map<Long, AuthorEntity> authorsById = new HashMap<>();
+        authorRepository.findAllById(ids).forEach(authorEntity -> authorsById.put(authorEntity.getId(), authorEntity));
+        List<AuthorEntity> content = ids.stream().map(authorsById::get).filter(Objects::nonNull).toList();
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<BookEntity> searchBooks(String query, Pageable pageable) {
+        if (query == null || query.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        List<String> isbns = page(entityManager.createNativeQuery(BOOK_ISBNS, String.class), query, pageable);
+        long total = count(BOOK_COUNT, query);
+        if (isbns.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, total);
+        }
+
+        Map<String, BookEntity> booksByIsbn = new HashMap<>();
+        bookRepository.findAllWithAuthorByIsbnIn(isbns).forEach(bookEntity -> booksByIsbn.put(bookEntity.getIsbn(), bookEntity));
+        List<BookEntity> content = isbns.stream().map(booksByIsbn::get).filter(Objects::nonNull).toList();
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K> List<K> page(Query nativeQuery, String query, Pageable pageable) {
+        nativeQuery.setParameter("pattern", likePattern(query)).setParameter("query", query);
+        if (pageable.isPaged()) {
+            nativeQuery.setFirstResult((int) pageable.getOffset()).setMaxResults(pageable.getPageSize());
+        }
+        return nativeQuery.getResultList();
+    }
+
+    private long count(String countSql, String query) {
+        return ((Number) entityManager.createNativeQuery(countSql)
+                .setParameter("pattern", likePattern(query))
+                .getSingleResult()).longValue();
+    }
+
+    // Escapes LIKE wildcards so the query is matched literally
+    private static String likePattern(String query) {
+        String escaped = query.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.api.services.impl;
+
+import com.example.api.domain.dto.ResponseCacheStatsDto;
+import com.example.api.domain.event.AuthorChangedEvent;
+import com.example.api.domain.event.BookChangedEvent;
+import com.example.api.services.CachedResponse;
+import com.example.api.services.ResponseCacheService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps the serialized and gzip-compressed bodies of the full-table list endpoints.
+ * Entries are dropped when an author or book write commits, and each entry also records the collection stamp
+ * it was built from, so a write made outside these services (another instance, 7_reactive) is never served stale:
+ * the stamp no longer matches and the body is rebuilt.
+ */
+@Service
+public class ResponseCacheServiceImpl implements ResponseCacheService {
+    private final Map<String, CachedResponse> entries = new ConcurrentHashMap<>();
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder bytesServed = new LongAdder();
+    private final LongAdder bytesSavedByCompression = new LongAdder();
+    private final LongAdder serializationNanosAvoided = new LongAdder();
+
+    public ResponseCacheServiceImpl(ObjectMapper objectMapper,
+                                    @Value("${app.response-cache.enabled:true}") boolean enabled) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public CachedResponse getOrSerialize(String key, String version, boolean acceptsGzip, Supplier<?> body) {
+        CachedResponse cached = enabled ? entries.get(key) : null;
+        if (cached != null && cached.version().equals(version)) {
+            hits.increment();
+            serializationNanosAvoided.add(cached.serializationNanos());
+            recordServed(cached, acceptsGzip);
+            return cached;
+        }
+
+        // Concurrent misses may both build the body; that costs a duplicate query but never blocks a reader
+        misses.increment();
+        CachedResponse fresh = serialize(version, body.get());
+        if (enabled) {
+            entries.put(key, fresh);
+        }
+        recordServed(fresh, acceptsGzip);
+        return fresh;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuthorChanged(AuthorChangedEvent event) {
+        // Every book body embeds its author
+        evict(AUTHOR_LIST);
+        evict(BOOK_LIST);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        evict(BOOK_LIST);
+    }
+
+    @Override
+    public ResponseCacheStatsDto getStats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long lookups = hitCount + missCount;
+
+        return ResponseCacheStatsDto.builder()
+                .enabled(enabled)
+                .entries(entries.size())
+                .hitCount(hitCount)
+                .missCount(missCount)
+                .evictionCount(evictions.sum())
+                .hitRatio(lookups == 0 ? 0.0 : (double) hitCount / lookups)
+                .bytesServed(bytesServed.sum())
+                .bytesSavedByCompression(bytesSavedByCompression.sum())
+                .serializationMillisAvoided(TimeUnit.NANOSECONDS.toMillis(serializationNanosAvoided.sum()))
+                .build();
+    }
+
+    private void evict(String key) {
+        if (entries.remove(key) != null) {
+            evictions.increment();
+        }
+    }
+
+    private CachedResponse serialize(String version, Object value) {
+        long startNanos = System.nanoTime();
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(value);
+            byte[] gzip = gzip(json);
+            return new CachedResponse(version, json, gzip.length < json.length ? gzip : null, System.nanoTime() - startNanos);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void recordServed(CachedResponse response, boolean acceptsGzip) {
+        if (acceptsGzip && response.hasGzip()) {
+            bytesServed.add(response.gzip().length);
+            bytesSavedByCompression.add(response.json().length - response.gzip().length);
+        } else {
+            bytesServed.add(response.json().length);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzipStream = new GZIPOutputStream(compressed)) {
+            gzipStream.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.api.services.impl;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Second-level cache upkeep for the native single-row writes of the repositories. Hibernate does not track those
+ * statements, so the changed entry (and any query region over the table) is evicted here once the transaction ends,
+ * when a reload sees the new row. Does nothing while the cache is off (app.cache.enabled=false).
+ */
+final class SecondLevelCacheEvictions {
+
+    private SecondLevelCacheEvictions() {
+    }
+
+    static void evictAfterCompletion(EntityManagerFactory entityManagerFactory, Class<?> entityClass, Object id,
+                                     String... queryRegions) {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        if (!sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled()) {
+            return;
+        }
+
+        Runnable evict = () -> {
+            Cache cache = sessionFactory.getCache();
+            cache.evictEntityData(entityClass, id);
+            if (sessionFactory.getSessionFactoryOptions().isQueryCacheEnabled()) {
+                for (String queryRegion : queryRegions) {
+                    cache.evictQueryRegion(queryRegion);
+                }
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                evict.run();
+            }
+        });
+    }
+}
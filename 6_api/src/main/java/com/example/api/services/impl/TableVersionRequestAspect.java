@@ -0,0 +1,34 @@
+package com.example.api.services.impl;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Increments the table_versions rows once per request: the tables written by the request's committed transactions
+ * are incremented when the controller method returns, before its response is written. Controllers hold no
+ * transaction of their own, so the counter rows are never locked while a writer holds its author and book rows.
+ */
+@Aspect
+@Component
+public class TableVersionRequestAspect {
+    private final TableVersionServiceImpl tableVersionService;
+
+    public TableVersionRequestAspect(TableVersionServiceImpl tableVersionService) {
+        this.tableVersionService = tableVersionService;
+    }
+
+    @Around("within(com.example.api.controllers..*) && execution(public * *(..))")
+    public Object incrementOncePerRequest(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!tableVersionService.beginRequest()) {
+            return joinPoint.proceed();
+        }
+        try {
+            return joinPoint.proceed();
+        } finally {
+            // Also after a failure: transactions that committed before it still changed their tables
+            tableVersionService.endRequest();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.api.services.impl;
+
+import com.example.api.domain.entity.TableVersionEntity;
+import com.example.api.domain.event.AuthorChangedEvent;
+import com.example.api.domain.event.BookChangedEvent;
+import com.example.api.domain.version.ResourceVersion;
+import com.example.api.repositories.TableVersionRepository;
+import com.example.api.services.TableVersionService;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+@Service
+public class TableVersionServiceImpl implements TableVersionService {
+    // Part of a table without a row: a fixed tag and no Last-Modified
+    private static final ResourceVersion NEVER_WRITTEN = new ResourceVersion(0L, null);
+
+    // Tables written by committed transactions of the request running on this thread, see beginRequest()
+    private static final ThreadLocal<Set<String>> REQUEST_WRITES = new ThreadLocal<>();
+
+    private final TableVersionRepository tableVersionRepository;
+    private final TransactionTemplate requiresNewTransaction;
+
+    public TableVersionServiceImpl(TableVersionRepository tableVersionRepository,
+                                   PlatformTransactionManager transactionManager) {
+        this.tableVersionRepository = tableVersionRepository;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public ResourceVersion findVersion(String... tableNames) {
+        Map<String, TableVersionEntity> rowsByTable = new HashMap<>();
+        tableVersionRepository.findAllById(Arrays.asList(tableNames))
+                .forEach(row -> rowsByTable.put(row.getTableName(), row));
+
+        List<ResourceVersion> parts = Arrays.stream(tableNames)
+                .map(rowsByTable::get)
+                .map(row -> row == null ? NEVER_WRITTEN : new ResourceVersion(row.getVersion(), row.getUpdatedAt()))
+                .toList();
+        return ResourceVersion.combine(parts);
+    }
+
+    /**
+     * Starts collecting the tables written on this thread instead of incrementing them per transaction.
+     * Called by {@link TableVersionRequestAspect} around each controller call.
+     *
+     * @return false when a request is already open on this thread (a nested call), which then must not end it
+     */
+    public boolean beginRequest() {
+        if (REQUEST_WRITES.get() != null) {
+            return false;
+        }
+        // Sorted, so two requests writing both tables lock their rows in the same order
+        REQUEST_WRITES.set(new TreeSet<>());
+        return true;
+    }
+
+    /**
+     * Increments each table written since {@link #beginRequest()} once, in one short transaction of its own.
+     * A bulk import committing many chunks therefore takes each counter row once per request.
+     */
+    public void endRequest() {
+        Set<String> writtenTables = REQUEST_WRITES.get();
+        REQUEST_WRITES.remove();
+        if (writtenTables != null) {
+            increment(writtenTables);
+        }
+    }
+
+    // Plain listeners run where the event is published, i.e. inside the writing transaction
+    @EventListener
+    public void onAuthorChanged(AuthorChangedEvent event) {
+        markChanged(AUTHORS);
+    }
+
+    @EventListener
+    public void onBookChanged(BookChangedEvent event) {
+        markChanged(BOOKS);
+    }
+
+    /**
+     * Records the table as written by the current transaction. Nothing is incremented inside it: writers never hold
+     * the shared table_versions row while they hold their own row locks. Once the transaction has committed, the
+     * table is handed to the open request, or incremented right away outside of one (e.g. a service called directly);
+     * a rolled-back transaction increments nothing.
+     */
+    private void markChanged(String tableName) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            committed(Set.of(tableName));
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Set<String> changedTables = (Set<String>) TransactionSynchronizationManager.getResource(this);
+        if (changedTables == null) {
+            Set<String> tables = new TreeSet<>();
+            TransactionSynchronizationManager.bindResource(this, tables);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    committed(tables);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TableVersionServiceImpl.this);
+                }
+            });
+            changedTables = tables;
+        }
+        changedTables.add(tableName);
+    }
+
+    private void committed(Set<String> tables) {
+        Set<String> requestWrites = REQUEST_WRITES.get();
+        if (requestWrites != null) {
+            requestWrites.addAll(tables);
+            return;
+        }
+        increment(tables);
+    }
+
+    // A new transaction even in afterCommit, where the finished one is still bound to the thread
+    private void increment(Set<String> tables) {
+        if (tables.isEmpty()) {
+            return;
+        }
+        Instant now = Instant.now();
+        requiresNewTransaction.executeWithoutResult(status ->
+                tables.forEach(tableName -> tableVersionRepository.incrementVersion(tableName, now)));
+    }
+}
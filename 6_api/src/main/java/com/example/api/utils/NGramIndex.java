@@ -0,0 +1,360 @@
+package com.example.api.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory trigram inverted index answering case-insensitive infix ("contains") queries,
+ * with the same semantics as {@code LOWER(text) LIKE '%' || LOWER(query) || '%'}.
+ * Each document is split into its distinct 3-character grams, and each gram maps to the sorted int list of documents containing it,
+ * so a write finds its posting by binary search instead of scanning the list under the write lock.
+ * A query of 3+ characters only scans the posting list of its rarest gram and verifies those candidates,
+ * so the cost depends on how selective the query is rather than on the number of documents.
+ * Shorter queries union the posting lists of every gram that contains them.
+ * Reads share a read lock; writes take the write lock.
+ *
+ * @param <K> document key, e.g. author id or book ISBN; used as the final tie-breaker when ranking
+ */
+public class NGramIndex<K extends Comparable<K>> {
+    private static final int GRAM_LENGTH = 3;
+
+    private static final int SCORE_EXACT = 3;
+    private static final int SCORE_PREFIX = 2;
+    private static final int SCORE_WORD_PREFIX = 1;
+    private static final int SCORE_INFIX = 0;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, IntList> postings = new HashMap<>();
+    private final Map<K, Integer> docIdsByKey = new HashMap<>();
+    // Indexed by internal doc id; a removed document leaves a null slot that is reused by the next put
+    private final List<K> keys = new ArrayList<>();
+    private final List<String> texts = new ArrayList<>();
+    private final IntList freeDocIds = new IntList();
+
+    /**
+     * Indexes {@code text} under {@code key}, replacing any previous text for the key.
+     * A null text removes the key.
+     */
+    public void put(K key, String text) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(key);
+            if (text == null) {
+                return;
+            }
+
+            String normalized = normalize(text);
+            int docId;
+            if (freeDocIds.size() > 0) {
+                docId = freeDocIds.removeLast();
+                keys.set(docId, key);
+                texts.set(docId, normalized);
+            } else {
+                docId = keys.size();
+                keys.add(key);
+                texts.add(normalized);
+            }
+            docIdsByKey.put(key, docId);
+
+            for (String gram : grams(normalized)) {
+                postings.computeIfAbsent(gram, g -> new IntList()).addSorted(docId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(K key) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            docIdsByKey.clear();
+            keys.clear();
+            texts.clear();
+            freeDocIds.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docIdsByKey.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds every document whose text contains {@code query} (case-insensitive) and returns one page of keys.
+     * Results are ranked exact match, then prefix, then word prefix, then any other infix match;
+     * ties go to the shorter text and then to the smaller key.
+     *
+     * @param offset number of ranked matches to skip
+     * @param limit  maximum number of keys to return
+     */
+    public Result<K> search(String query, int offset, int limit) {
+        String needle = query == null ? "" : normalize(query);
+        if (needle.isEmpty()) {
+            return new Result<>(List.of(), 0);
+        }
+
+        int from = Math.max(offset, 0);
+        int to = (int) Math.min((long) from + Math.max(limit, 0), Integer.MAX_VALUE);
+
+        lock.readLock().lock();
+        try {
+            TopMatches<K> matches = new TopMatches<>(to);
+            if (needle.length() >= GRAM_LENGTH) {
+                matchByRarestGram(needle, matches);
+            } else {
+                matchByGramScan(needle, matches);
+            }
+
+            List<Match<K>> ranked = matches.ranked();
+            List<K> page = new ArrayList<>(Math.max(0, Math.min(to, ranked.size()) - from));
+            for (int i = from; i < Math.min(to, ranked.size()); i++) {
+                page.add(ranked.get(i).key());
+            }
+            return new Result<>(page, matches.total());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void matchByRarestGram(String needle, TopMatches<K> matches) {
+        IntList rarest = null;
+        for (String gram : grams(needle)) {
+            IntList posting = postings.get(gram);
+            if (posting == null) {
+                // Some gram of the query occurs in no document, so nothing can contain the query
+                return;
+            }
+            if (rarest == null || posting.size() < rarest.size()) {
+                rarest = posting;
+            }
+        }
+
+        for (int i = 0; i < rarest.size(); i++) {
+            addIfMatches(rarest.get(i), needle, matches);
+        }
+    }
+
+    private void matchByGramScan(String needle, TopMatches<K> matches) {
+        BitSet seen = new BitSet(keys.size());
+        for (Map.Entry<String, IntList> entry : postings.entrySet()) {
+            if (!entry.getKey().contains(needle)) {
+                continue;
+            }
+            IntList posting = entry.getValue();
+            for (int i = 0; i < posting.size(); i++) {
+                int docId = posting.get(i);
+                if (!seen.get(docId)) {
+                    seen.set(docId);
+                    addIfMatches(docId, needle, matches);
+                }
+            }
+        }
+    }
+
+    private void addIfMatches(int docId, String needle, TopMatches<K> matches) {
+        String text = texts.get(docId);
+        int at = text.indexOf(needle);
+        if (at >= 0) {
+            matches.add(new Match<>(keys.get(docId), score(text, needle, at), text.length()));
+        }
+    }
+
+    private void removeLocked(K key) {
+        Integer docId = docIdsByKey.remove(key);
+        if (docId == null) {
+            return;
+        }
+
+        for (String gram : grams(texts.get(docId))) {
+            IntList posting = postings.get(gram);
+            posting.removeSorted(docId);
+            if (posting.size() == 0) {
+                postings.remove(gram);
+            }
+        }
+        keys.set(docId, null);
+        texts.set(docId, null);
+        freeDocIds.add(docId);
+    }
+
+    private static int score(String text, String needle, int firstMatch) {
+        if (firstMatch == 0) {
+            return text.length() == needle.length() ? SCORE_EXACT : SCORE_PREFIX;
+        }
+        for (int at = firstMatch; at >= 0; at = text.indexOf(needle, at + 1)) {
+            if (!Character.isLetterOrDigit(text.charAt(at - 1))) {
+                return SCORE_WORD_PREFIX;
+            }
+        }
+        return SCORE_INFIX;
+    }
+
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    // Distinct grams of the text; a text shorter than a gram is indexed as a single gram
+    private static Set<String> grams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (text.length() < GRAM_LENGTH) {
+            if (!text.isEmpty()) {
+                grams.add(text);
+            }
+            return grams;
+        }
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    /**
+     * One page of ranked keys and the total number of matching documents.
+     */
+    public record Result<K>(List<K> keys, int total) {
+    }
+
+    private record Match<K>(K key, int score, int length) {
+    }
+
+    /**
+     * Counts every match but keeps only the best {@code capacity} in a bounded heap,
+     * so a broad query costs O(matches * log(page end)) instead of sorting the whole match set.
+     */
+    private static final class TopMatches<K extends Comparable<K>> {
+        // Beyond this the heap buys nothing over collecting everything and sorting once
+        private static final int MAX_HEAP_CAPACITY = 10_000;
+
+        private final Comparator<Match<K>> ranking = Comparator.<Match<K>>comparingInt(match -> -match.score())
+                .thenComparingInt(Match::length)
+                .thenComparing(Match::key);
+        private final int capacity;
+        private final PriorityQueue<Match<K>> worstFirst;
+        private final List<Match<K>> all;
+        private int total;
+
+        TopMatches(int capacity) {
+            this.capacity = capacity;
+            if (capacity <= MAX_HEAP_CAPACITY) {
+                this.worstFirst = new PriorityQueue<>(capacity + 1, ranking.reversed());
+                this.all = null;
+            } else {
+                this.worstFirst = null;
+                this.all = new ArrayList<>();
+            }
+        }
+
+        void add(Match<K> match) {
+            total++;
+            if (all != null) {
+                all.add(match);
+                return;
+            }
+            if (capacity == 0) {
+                return;
+            }
+            if (worstFirst.size() < capacity) {
+                worstFirst.add(match);
+            } else if (ranking.compare(match, worstFirst.peek()) < 0) {
+                worstFirst.poll();
+                worstFirst.add(match);
+            }
+        }
+
+        int total() {
+            return total;
+        }
+
+        List<Match<K>> ranked() {
+            List<Match<K>> ranked = all != null ? all : new ArrayList<>(worstFirst);
+            ranked.sort(ranking);
+            return ranked;
+        }
+    }
+
+    // Growable int array; 4 bytes per posting instead of a boxed set entry.
+    // Postings are kept in ascending order through addSorted/removeSorted; freeDocIds uses add/removeLast as a stack
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int get(int index) {
+            return values[index];
+        }
+
+        int size() {
+            return size;
+        }
+
+        // New doc ids are the largest so far and append; only a reused id shifts the tail
+        void addSorted(int value) {
+            if (size == 0 || values[size - 1] < value) {
+                add(value);
+                return;
+            }
+            int at = Arrays.binarySearch(values, 0, size, value);
+            if (at >= 0) {
+                return;
+            }
+            int insertAt = -at - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            System.arraycopy(values, insertAt, values, insertAt + 1, size - insertAt);
+            values[insertAt] = value;
+            size++;
+        }
+
+        void removeSorted(int value) {
+            int at = Arrays.binarySearch(values, 0, size, value);
+            if (at < 0) {
+                return;
+            }
+            System.arraycopy(values, at + 1, values, at, size - at - 1);
+            size--;
+        }
+
+        int removeLast() {
+            return values[--size];
+        }
+
+        void clear() {
+            values = new int[4];
+            size = 0;
+        }
+    }
+}
@@ -0,0 +1,6 @@
+-- One table_versions row per table behind a collection ETag, so writes only ever increment an existing row.
+-- Runs on every start; a row that is already there (also one seeded by 7_reactive) is left alone
+INSERT INTO table_versions (table_name, version, updated_at)
+SELECT 'authors', 0, NULL WHERE NOT EXISTS (SELECT 1 FROM table_versions WHERE table_name = 'authors');
+INSERT INTO table_versions (table_name, version, updated_at)
+SELECT 'books', 0, NULL WHERE NOT EXISTS (SELECT 1 FROM table_versions WHERE table_name = 'books');
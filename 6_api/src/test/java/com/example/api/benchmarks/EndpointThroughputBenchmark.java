@@ -0,0 +1,77 @@
+package com.example.api.benchmarks;
+
+import com.example.api.ApiApplication;
+import com.example.api.domain.entity.AuthorEntity;
+import com.example.api.services.AuthorService;
+import com.example.api.services.BookService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.example.api.path.AuthorPaths.AUTHORS;
+import static com.example.api.path.AuthorPaths.PAGE_AUTHORS;
+import static com.example.api.path.BookPaths.BOOKS;
+import static com.example.api.util.TestDataUtil.buildAuthor;
+import static com.example.api.util.TestDataUtil.buildBook;
+
+/**
+ * End-to-end throughput of the list endpoints through MockMvc: controller, service, repository, mapper and Jackson.
+ * Boots the full application against the in-memory H2 database from src/test/resources.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EndpointThroughputBenchmark {
+
+    @Param({"100", "1000"})
+    private int authors;
+
+    private ConfigurableApplicationContext context;
+    private MockMvc mockMvc;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = SpringApplication.run(ApiApplication.class,
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN");
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+
+        AuthorService authorService = context.getBean(AuthorService.class);
+        BookService bookService = context.getBean(BookService.class);
+        for (int i = 0; i < authors; i++) {
+            AuthorEntity author = authorService.saveAuthor(buildAuthor(null, "Author " + i, 20 + i % 60));
+            bookService.saveBook(buildBook("isbn-" + i, "Title " + i, author));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public MvcResult getAuthors() throws Exception {
+        return mockMvc.perform(MockMvcRequestBuilders.get(AUTHORS)).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult getBooks() throws Exception {
+        return mockMvc.perform(MockMvcRequestBuilders.get(BOOKS)).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult getPageAuthors() throws Exception {
+        return mockMvc.perform(MockMvcRequestBuilders.get(PAGE_AUTHORS).param("page", "1").param("size", "20")).andReturn();
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.api.benchmarks;
+
+import com.example.api.ApiApplication;
+import com.example.api.domain.entity.AuthorEntity;
+import com.example.api.domain.id.BlockIdOptimizer;
+import com.example.api.domain.id.PooledLoSequenceGenerator;
+import com.example.api.services.AuthorService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.api.util.TestDataUtil.buildAuthor;
+
+/**
+ * Inserts 10k authors per operation through AuthorService.saveAllAuthors in chunks of 50 (the bulk import path),
+ * for several app.ids.block-size values. The author_id_seq round trips per 10k inserts are printed at the end of each trial;
+ * on H2 the sequence call is in-process, so the time difference understates what the round trips cost on Postgres.
+ * Boots the full application against the in-memory H2 database from src/test/resources.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IdAllocationBenchmark {
+    private static final int INSERTS = 10_000;
+    private static final int CHUNK_SIZE = 50;
+
+    @Param({"1", "50", "1000"})
+    private int blockSize;
+
+    private ConfigurableApplicationContext context;
+    private AuthorService authorService;
+    private BlockIdOptimizer optimizer;
+    private int batch;
+    private long blocksAtStart;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = SpringApplication.run(ApiApplication.class,
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--app.ids.block-size=" + blockSize,
+                "--app.response-cache.enabled=false");
+        // The sequence has to step by the block size, as on a real database
+        context.getBean(JdbcTemplate.class).execute("ALTER SEQUENCE author_id_seq INCREMENT BY " + blockSize);
+
+        authorService = context.getBean(AuthorService.class);
+        SessionFactoryImplementor sessionFactory = context.getBean(EntityManagerFactory.class).unwrap(SessionFactoryImplementor.class);
+        optimizer = ((PooledLoSequenceGenerator) sessionFactory.getMappingMetamodel()
+                .getEntityDescriptor(AuthorEntity.class).getGenerator()).getOptimizer();
+        blocksAtStart = optimizer.getBlocksFetched();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.printf("%nblock size %d: %d author_id_seq round trips per %d inserts%n",
+                blockSize, (optimizer.getBlocksFetched() - blocksAtStart) / batch, INSERTS);
+        context.close();
+    }
+
+    @Benchmark
+    public void insert10kAuthors() {
+        for (int chunkStart = 0; chunkStart < INSERTS; chunkStart += CHUNK_SIZE) {
+            List<AuthorEntity> chunk = new ArrayList<>(CHUNK_SIZE);
+            for (int i = 0; i < CHUNK_SIZE; i++) {
+                chunk.add(buildAuthor(null, "Author " + batch + "-" + (chunkStart + i), 20 + i));
+            }
+            authorService.saveAllAuthors(chunk);
+        }
+        batch++;
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.api.benchmarks;
+
+import com.example.api.domain.dto.AuthorDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization cost of the author list and page responses.
+ * The ObjectMapper is built with Jackson2ObjectMapperBuilder, which applies the same defaults Spring Boot uses.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JacksonSerializationBenchmark {
+
+    @Param({"20", "1000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<AuthorDto> authorDtos;
+    private Page<AuthorDto> authorDtoPage;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        authorDtos = new ArrayList<>(size);
+        for (long i = 1; i <= size; i++) {
+            int age = (int) (i % 100);
+            authorDtos.add(AuthorDto.builder()
+                    .id(i)
+                    .name("Author " + i)
+                    .age(age)
+                    .details("My name is Author " + i + " and I am " + age + " years old.")
+                    .build());
+        }
+        authorDtoPage = new PageImpl<>(authorDtos, PageRequest.of(0, size), size * 10L);
+    }
+
+    @Benchmark
+    public byte[] serializeAuthorList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(authorDtos);
+    }
+
+    @Benchmark
+    public byte[] serializeAuthorPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(authorDtoPage);
+    }
+}
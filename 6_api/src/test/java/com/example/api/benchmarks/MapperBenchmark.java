@@ -0,0 +1,104 @@
+package com.example.api.benchmarks;
+
+import com.example.api.domain.dto.AuthorDto;
+import com.example.api.domain.dto.BookDto;
+import com.example.api.domain.entity.AuthorEntity;
+import com.example.api.domain.entity.BookEntity;
+import com.example.api.mappers.impl.AuthorMapperImpl;
+import com.example.api.mappers.impl.BookMapperImpl;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.convention.MatchingStrategies;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.example.api.util.Constants.*;
+import static com.example.api.util.TestDataUtil.buildAuthor;
+import static com.example.api.util.TestDataUtil.buildBook;
+
+/**
+ * Compares the direct field-copy mappers with the reflective ModelMapper (LOOSE) path they replaced.
+ * Run with: ./mvnw -Pbenchmark -DskipTests test-compile exec:exec -Djmh.include=MapperBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    private ModelMapper modelMapper;
+    private AuthorMapperImpl authorMapper;
+    private BookMapperImpl bookMapper;
+
+    private AuthorEntity authorEntity;
+    private AuthorDto authorDto;
+    private BookEntity bookEntity;
+    private BookDto bookDto;
+
+    @Setup
+    public void setUp() {
+        // Same configuration the application used before the mappers were rewritten
+        modelMapper = new ModelMapper();
+        modelMapper.getConfiguration().setMatchingStrategy(MatchingStrategies.LOOSE);
+
+        authorMapper = new AuthorMapperImpl();
+        bookMapper = new BookMapperImpl();
+
+        authorEntity = buildAuthor(TEST_ID, NAME, AGE);
+        authorEntity.setDetails("My name is " + NAME + " and I am " + AGE + " years old.");
+        authorDto = authorMapper.mapTo(authorEntity);
+        bookEntity = buildBook(ISBN, TITLE, authorEntity);
+        bookDto = bookMapper.mapTo(bookEntity);
+    }
+
+    @Benchmark
+    public AuthorDto authorMapToModelMapper() {
+        return modelMapper.map(authorEntity, AuthorDto.class);
+    }
+
+    @Benchmark
+    public AuthorDto authorMapToDirect() {
+        return authorMapper.mapTo(authorEntity);
+    }
+
+    @Benchmark
+    public AuthorEntity authorMapFromModelMapper() {
+        return modelMapper.map(authorDto, AuthorEntity.class);
+    }
+
+    @Benchmark
+    public AuthorEntity authorMapFromDirect() {
+        return authorMapper.mapFrom(authorDto);
+    }
+
+    @Benchmark
+    public BookDto bookMapToModelMapper() {
+        return modelMapper.map(bookEntity, BookDto.class);
+    }
+
+    @Benchmark
+    public BookDto bookMapToDirect() {
+        return bookMapper.mapTo(bookEntity);
+    }
+
+    @Benchmark
+    public BookEntity bookMapFromModelMapper() {
+        return modelMapper.map(bookDto, BookEntity.class);
+    }
+
+    @Benchmark
+    public BookEntity bookMapFromDirect() {
+        return bookMapper.mapFrom(bookDto);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MapperBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
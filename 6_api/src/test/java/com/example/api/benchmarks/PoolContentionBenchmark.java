@@ -0,0 +1,71 @@
+package com.example.api.benchmarks;
+
+import com.example.api.ApiApplication;
+import com.example.datasource.PoolSaturationMonitor;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Latency distribution (read p0.99) of a borrow-query-release cycle with 32 threads sharing a pool that starts at
+ * 4 connections: fixed at 4, or adaptively sized up to 32 by the 0_datasource sizer.
+ * H2 answers in microseconds, so each borrow also holds the connection for 500 us to stand in for a Postgres round trip.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(32)
+@State(Scope.Benchmark)
+public class PoolContentionBenchmark {
+    private static final long SIMULATED_ROUND_TRIP_NANOS = TimeUnit.MICROSECONDS.toNanos(500);
+
+    @Param({"fixed", "adaptive"})
+    private String poolSizing;
+
+    private ConfigurableApplicationContext context;
+    private JdbcTemplate jdbcTemplate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = SpringApplication.run(ApiApplication.class,
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--spring.datasource.hikari.maximum-pool-size=4",
+                "--spring.datasource.hikari.minimum-idle=4",
+                "--app.datasource.sample-interval=250ms",
+                "--app.datasource.adaptive.enabled=" + "adaptive".equals(poolSizing),
+                "--app.datasource.adaptive.min-pool-size=4",
+                "--app.datasource.adaptive.max-pool-size=32",
+                "--app.datasource.adaptive.target-wait=1ms");
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.printf("%n%s pool ended at %d connections%n", poolSizing,
+                context.getBean(PoolSaturationMonitor.class).getDataSource().getHikariConfigMXBean().getMaximumPoolSize());
+        context.close();
+    }
+
+    @Benchmark
+    public Long borrowQueryRelease() {
+        return jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery("SELECT count(*) FROM authors")) {
+                resultSet.next();
+                LockSupport.parkNanos(SIMULATED_ROUND_TRIP_NANOS);
+                return resultSet.getLong(1);
+            }
+        });
+    }
+}
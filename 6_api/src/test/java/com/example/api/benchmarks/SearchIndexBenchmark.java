@@ -0,0 +1,49 @@
+package com.example.api.benchmarks;
+
+import com.example.api.utils.NGramIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookup latency of the in-memory trigram index behind /search/authors, for selective and broad infix queries.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+@State(Scope.Benchmark)
+public class SearchIndexBenchmark {
+    private static final String[] FIRST_NAMES = {"Sanjeev", "Deepak", "Abdul", "Amish", "Ruskin", "Vikram", "Kiran", "Arundhati"};
+    private static final String[] LAST_NAMES = {"Sanyal", "Kalam", "Tripathi", "Bond", "Seth", "Desai", "Roy", "Ghosh"};
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    private NGramIndex<Long> index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        index = new NGramIndex<>();
+        for (long id = 1; id <= size; id++) {
+            String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                    + LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " " + Long.toString(id, 36);
+            index.put(id, name);
+        }
+    }
+
+    // Rare infix: the base-36 suffix is close to unique, so only a short posting list is verified
+    @Benchmark
+    public NGramIndex.Result<Long> selectiveInfix() {
+        return index.search("k3x", 0, 20);
+    }
+
+    // Common infix: roughly one name in eight matches and the whole match set is ranked
+    @Benchmark
+    public NGramIndex.Result<Long> broadInfix() {
+        return index.search("anya", 0, 20);
+    }
+}
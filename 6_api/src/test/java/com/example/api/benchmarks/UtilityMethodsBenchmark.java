@@ -0,0 +1,43 @@
+package com.example.api.benchmarks;
+
+import com.example.api.domain.entity.AuthorEntity;
+import com.example.api.utils.UtilityMethods;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.api.util.TestDataUtil.buildAuthor;
+
+/**
+ * Cost of turning the Iterable returned by CrudRepository into a List, as every author list endpoint does.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UtilityMethodsBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int size;
+
+    private Iterable<AuthorEntity> authors;
+
+    @Setup
+    public void setUp() {
+        List<AuthorEntity> source = new ArrayList<>(size);
+        for (long i = 1; i <= size; i++) {
+            source.add(buildAuthor(i, "Author " + i, (int) (i % 100)));
+        }
+        // Hide the List type so the conversion cannot take a shortcut through Collection
+        authors = source::iterator;
+    }
+
+    @Benchmark
+    public List<AuthorEntity> getAuthorEntityList() {
+        return UtilityMethods.getAuthorEntityList(authors);
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.api.benchmarks;
+
+import com.example.api.ApiApplication;
+import com.example.api.domain.entity.AuthorEntity;
+import com.example.api.services.AuthorService;
+import com.example.api.services.BookService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.api.path.AuthorPaths.AUTHORS;
+import static com.example.api.path.BookPaths.bookByIsbnUrl;
+import static com.example.api.util.TestDataUtil.buildAuthor;
+import static com.example.api.util.TestDataUtil.buildBook;
+
+/**
+ * Load comparison of the two request execution modes over real HTTP on an embedded Tomcat:
+ * platform threads (bounded Tomcat pool) versus virtual threads (spring.threads.virtual.enabled=true,
+ * capped by ConnectionPoolLimitFilter). 256 client threads issue blocking requests concurrently,
+ * so the Tomcat pool (200 threads) and the Hikari pool (10 connections) are both contended.
+ * Compare the throughput and, with -prof gc or -bm sample, the tail latency of each mode.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@Threads(256)
+@State(Scope.Benchmark)
+public class VirtualThreadLoadBenchmark {
+    private static final int AUTHORS_COUNT = 200;
+
+    @Param({"false", "true"})
+    private boolean virtualThreads;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private String baseUrl;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = SpringApplication.run(ApiApplication.class,
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                // Queue instead of shedding load so both modes serve every request
+                "--app.concurrency.acquire-timeout-ms=30000");
+        baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        AuthorService authorService = context.getBean(AuthorService.class);
+        BookService bookService = context.getBean(BookService.class);
+        for (int i = 0; i < AUTHORS_COUNT; i++) {
+            AuthorEntity author = authorService.saveAuthor(buildAuthor(null, "Author " + i, 20 + i % 60));
+            bookService.saveBook(buildBook("isbn-" + i, "Title " + i, author));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        httpClient.close();
+        context.close();
+    }
+
+    @Benchmark
+    public int getAuthors() throws Exception {
+        return get(AUTHORS);
+    }
+
+    @Benchmark
+    public int getBookByIsbn() throws Exception {
+        return get(bookByIsbnUrl("isbn-" + ThreadLocalRandom.current().nextInt(AUTHORS_COUNT)));
+    }
+
+    private int get(String path) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(path + " returned " + response.statusCode());
+        }
+        return response.statusCode();
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.api.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConnectionPoolLimitFilterTests {
+
+    @Test
+    public void testThatPermitIsReleasedAfterSynchronousRequest() throws Exception {
+        ConnectionPoolLimitFilter filter = new ConnectionPoolLimitFilter(1, Duration.ofMillis(10));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/authors"), response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(filter.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    public void testThatSaturatedFilterAnswers503WithRetryAfter() throws Exception {
+        ConnectionPoolLimitFilter filter = new ConnectionPoolLimitFilter(0, Duration.ofMillis(10));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/authors"), response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+    }
+
+    @Test
+    public void testThatAsyncRequestHoldsPermitUntilComplete() throws Exception {
+        ConnectionPoolLimitFilter filter = new ConnectionPoolLimitFilter(1, Duration.ofMillis(10));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/books/stream");
+        request.setAsyncSupported(true);
+
+        filter.doFilter(request, new MockHttpServletResponse(),
+                (servletRequest, servletResponse) -> ((HttpServletRequest) servletRequest).startAsync());
+        assertThat(filter.availablePermits()).isZero();
+
+        request.getAsyncContext().complete();
+        assertThat(filter.availablePermits()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.api.config;
+
+import com.example.api.services.BookService;
+import com.example.api.util.TestDataUtil;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import static com.example.api.path.BookPaths.BOOK_BY_ISBN;
+import static com.example.api.path.BookPaths.bookByIsbnUrl;
+import static com.example.api.util.Constants.*;
+
+// Mapper timing is off by default; turned on here so its timer is covered too
+@SpringBootTest(properties = "app.metrics.mapper-timing.enabled=true")
+@ExtendWith(SpringExtension.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@AutoConfigureMockMvc
+public class MetricsIntegrationTests {
+    private static final String METRICS = "/actuator/metrics/";
+
+    private final MockMvc mockMvc;
+    private final BookService bookService;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    public MetricsIntegrationTests(MockMvc mockMvc, BookService bookService, EntityManagerFactory entityManagerFactory) {
+        this.mockMvc = mockMvc;
+        this.bookService = bookService;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Test
+    public void testThatRequestsRecordSqlStatementsEntityLoadsAndLayerTimings() throws Exception {
+        bookService.saveBook(TestDataUtil.buildBook(ISBN, TITLE, TestDataUtil.buildAuthor(null, NAME, AGE)));
+        // Read cold, so the book and its author are loaded from the database
+        entityManagerFactory.getCache().evictAll();
+
+        mockMvc.perform(MockMvcRequestBuilders.get(bookByIsbnUrl(ISBN)))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        // Version lookup + book-with-author fetch; one book and its author materialized
+        mockMvc.perform(MockMvcRequestBuilders.get(METRICS + RequestSqlMetricsFilter.STATEMENTS_METRIC)
+                        .param("tag", "uri:" + BOOK_BY_ISBN))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.measurements[?(@.statistic == 'COUNT')].value").value(1.0))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.measurements[?(@.statistic == 'TOTAL')].value").value(2.0));
+        mockMvc.perform(MockMvcRequestBuilders.get(METRICS + RequestSqlMetricsFilter.ENTITIES_LOADED_METRIC)
+                        .param("tag", "uri:" + BOOK_BY_ISBN))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.measurements[?(@.statistic == 'TOTAL')].value").value(2.0));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(METRICS + LayerTimingAspect.METRIC)
+                        .param("tag", "class:BookServiceImpl").param("tag", "method:findById"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.measurements[?(@.statistic == 'COUNT')].value").value(1.0));
+        mockMvc.perform(MockMvcRequestBuilders.get(METRICS + LayerTimingAspect.METRIC)
+                        .param("tag", "layer:repository").param("tag", "class:BookRepository"))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+        mockMvc.perform(MockMvcRequestBuilders.get(METRICS + LayerTimingAspect.METRIC)
+                        .param("tag", "class:BookMapperImpl").param("tag", "method:mapTo"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.measurements[?(@.statistic == 'COUNT')].value").value(1.0));
+        mockMvc.perform(MockMvcRequestBuilders.get(METRICS + "http.server.requests")
+                        .param("tag", "uri:" + BOOK_BY_ISBN))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+    }
+}
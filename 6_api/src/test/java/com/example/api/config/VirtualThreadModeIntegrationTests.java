@@ -0,0 +1,52 @@
+package com.example.api.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.util.concurrent.Future;
+
+import static com.example.api.path.AuthorPaths.AUTHORS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.threads.virtual.enabled=true")
+@ExtendWith(SpringExtension.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@AutoConfigureMockMvc
+public class VirtualThreadModeIntegrationTests {
+
+    private final MockMvc mockMvc;
+    private final FilterRegistrationBean<ConnectionPoolLimitFilter> connectionPoolLimitFilter;
+    private final AsyncTaskExecutor applicationTaskExecutor;
+
+    @Autowired
+    public VirtualThreadModeIntegrationTests(MockMvc mockMvc,
+                                             FilterRegistrationBean<ConnectionPoolLimitFilter> connectionPoolLimitFilter,
+                                             AsyncTaskExecutor applicationTaskExecutor) {
+        this.mockMvc = mockMvc;
+        this.connectionPoolLimitFilter = connectionPoolLimitFilter;
+        this.applicationTaskExecutor = applicationTaskExecutor;
+    }
+
+    @Test
+    public void testThatVirtualModeCapsRequestsAtPoolSizeAndRunsAsyncWorkOnVirtualThreads() throws Exception {
+        // Default Hikari pool of 10 connections x 2 permits per connection
+        assertThat(connectionPoolLimitFilter.getFilter().availablePermits()).isEqualTo(20);
+
+        mockMvc.perform(MockMvcRequestBuilders.get(AUTHORS))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+        assertThat(connectionPoolLimitFilter.getFilter().availablePermits()).isEqualTo(20);
+
+        Future<Boolean> isVirtual = applicationTaskExecutor.submit(() -> Thread.currentThread().isVirtual());
+        assertThat(isVirtual.get()).isTrue();
+    }
+}
@@ -1,25 +1,40 @@
 package com.example.api.controllers;
 
 import com.example.api.domain.entity.AuthorEntity;
+import com.example.api.domain.version.ResourceVersion;
 import com.example.api.services.AuthorService;
 import com.example.api.util.TestDataUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import java.util.List;
+
 import static com.example.api.path.AuthorPaths.*;
+import static com.example.api.path.StatsPaths.CACHE_STATS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static com.example.api.util.Constants.AGE;
+import static com.example.api.util.Constants.AGE_2;
+import static com.example.api.util.Constants.AGE_3;
 import static com.example.api.util.Constants.NAME;
 import static com.example.api.util.Constants.NAME_2;
+import static com.example.api.util.Constants.NAME_3;
 
 // Loads the full Spring application context for integration testing
 @SpringBootTest
@@ -35,6 +50,7 @@ public class AuthorControllerIntegrationTests {
     private final MockMvc mockMvc;
     private final ObjectMapper objectMapper;
     private final AuthorService authorService;
+    private final EntityManagerFactory entityManagerFactory;
     // Build a test AuthorEntity and serialize it to JSON
     private final AuthorEntity testAuthorEntity = TestDataUtil.buildAuthor(null, NAME, AGE);
 
@@ -44,10 +60,12 @@ public class AuthorControllerIntegrationTests {
     // Your current constructor-based injection is correct and will use the bean from `MapperConfig`
     // as long as it is annotated with `@Configuration` and provides an `@Bean` of type `ObjectMapper`.
     @Autowired
-    public AuthorControllerIntegrationTests(MockMvc mockMvc, ObjectMapper objectMapper, AuthorService authorService) {
+    public AuthorControllerIntegrationTests(MockMvc mockMvc, ObjectMapper objectMapper, AuthorService authorService,
+                                            EntityManagerFactory entityManagerFactory) {
         this.mockMvc = mockMvc;
         this.objectMapper = objectMapper;
         this.authorService = authorService;
+        this.entityManagerFactory = entityManagerFactory;
     }
 
     @Test
@@ -180,4 +198,303 @@ public class AuthorControllerIntegrationTests {
                 )
                 .andExpect(MockMvcResultMatchers.status().isNotFound());
     }
+
+    @Test
+    public void testThatUpdateAndPatchMissingAuthorReturnHttpStatus404() throws Exception {
+        String authorDtoJsonAsString = objectMapper.writeValueAsString(TestDataUtil.buildAuthor(null, NAME_2, AGE_2));
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.put(updateAuthorByIdUrl(999L))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(authorDtoJsonAsString)
+                )
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.patch(patchAuthorByIdUrl(999L))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(authorDtoJsonAsString)
+                )
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.delete(authorByIdUrl(999L))
+                )
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+    }
+
+    @Test
+    public void testThatBulkCreateAuthorsReportsPerItemResults() throws Exception {
+        String authorsJsonArray = objectMapper.writeValueAsString(List.of(
+                testAuthorEntity,
+                TestDataUtil.buildAuthor(null, NAME_2, AGE_2),
+                "not an author",
+                TestDataUtil.buildAuthor(null, NAME_3, AGE_3)));
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.post(AUTHORS_BULK)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(authorsJsonArray)
+                )
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.received").value(4))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.created").value(3))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.failed").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.rowsPerSecond").isNumber())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].status").value("CREATED"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].id").isNotEmpty())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[2].status").value("FAILED"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[3].index").value(3));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(AUTHORS))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.length()").value(3));
+    }
+
+    @Test
+    public void testThatBulkCreateAuthorsReportsUnbindableItemAndContinues() throws Exception {
+        String authorsJsonArray = "[{\"name\":\"" + NAME + "\",\"age\":\"abc\"},"
+                + objectMapper.writeValueAsString(TestDataUtil.buildAuthor(null, NAME_2, AGE_2)) + "]";
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.post(AUTHORS_BULK)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(authorsJsonArray)
+                )
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.received").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.created").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.failed").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].status").value("FAILED"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].error").isNotEmpty())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[1].status").value("CREATED"));
+    }
+
+    @Test
+    public void testThatBulkCreateAuthorsRejectsNonArrayBody() throws Exception {
+        mockMvc.perform(
+                        MockMvcRequestBuilders.post(AUTHORS_BULK)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(testAuthorEntity))
+                )
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+    }
+
+    @Test
+    public void testThatCursorAuthorsWalksAllPagesWithContinuationToken() throws Exception {
+        authorService.saveAuthor(testAuthorEntity);
+        authorService.saveAuthor(TestDataUtil.buildAuthor(null, NAME_2, AGE_2));
+        authorService.saveAuthor(TestDataUtil.buildAuthor(null, NAME_3, AGE_3));
+
+        String firstPage = mockMvc.perform(
+                        MockMvcRequestBuilders.get(AUTHORS_CURSOR)
+                                .param("size", "2")
+                ).andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content.length()").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].name").value(NAME))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[1].name").value(NAME_2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.hasNext").value(true))
+                .andReturn().getResponse().getContentAsString();
+
+        String nextCursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get(AUTHORS_CURSOR)
+                                .param("after", nextCursor)
+                                .param("size", "2")
+                ).andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content.length()").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].name").value(NAME_3))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.hasNext").value(false))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    public void testThatCursorAuthorsRejectsInvalidCursor() throws Exception {
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get(AUTHORS_CURSOR)
+                                .param("after", "not-a-cursor")
+                )
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+    }
+
+    @Test
+    public void testThatAuthorByIdIsServedFromSecondLevelCacheAndRefreshedAfterPatch() throws Exception {
+        AuthorEntity savedAuthorEntity = authorService.saveAuthor(testAuthorEntity);
+        Long extractedId = savedAuthorEntity.getId();
+
+        mockMvc.perform(MockMvcRequestBuilders.get(authorByIdUrl(extractedId)))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+        mockMvc.perform(MockMvcRequestBuilders.get(authorByIdUrl(extractedId)))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        mockMvc.perform(MockMvcRequestBuilders.get(CACHE_STATS))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.enabled").value(true))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.regions[?(@.region == 'authors')].hitCount").value(contains(greaterThanOrEqualTo(1))));
+
+        String authorDtoJsonAsString = objectMapper.writeValueAsString(TestDataUtil.buildAuthor(extractedId, NAME_2, null));
+        mockMvc.perform(
+                        MockMvcRequestBuilders.patch(patchAuthorByIdUrl(extractedId))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(authorDtoJsonAsString)
+                )
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        // The cached entry must have been replaced by the write
+        mockMvc.perform(MockMvcRequestBuilders.get(authorByIdUrl(extractedId)))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.name").value(NAME_2));
+    }
+
+    @Test
+    public void testThatPutAndDeleteKeepOtherAuthorsInSecondLevelCache() throws Exception {
+        Long updatedId = authorService.saveAuthor(testAuthorEntity).getId();
+        Long deletedId = authorService.saveAuthor(TestDataUtil.buildAuthor(null, NAME_2, AGE_2)).getId();
+        Long untouchedId = authorService.saveAuthor(TestDataUtil.buildAuthor(null, NAME_3, AGE_3)).getId();
+        for (Long id : List.of(updatedId, deletedId, untouchedId)) {
+            mockMvc.perform(MockMvcRequestBuilders.get(authorByIdUrl(id)))
+                    .andExpect(MockMvcResultMatchers.status().isOk());
+        }
+
+        String authorDtoJsonAsString = objectMapper.writeValueAsString(TestDataUtil.buildAuthor(null, NAME_3, AGE));
+        mockMvc.perform(
+                        MockMvcRequestBuilders.put(updateAuthorByIdUrl(updatedId))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(authorDtoJsonAsString)
+                )
+                .andExpect(MockMvcResultMatchers.status().isOk());
+        mockMvc.perform(MockMvcRequestBuilders.delete(authorByIdUrl(deletedId)))
+                .andExpect(MockMvcResultMatchers.status().isNoContent());
+
+        // Single-row writes only evict their own entry; a bulk JPQL statement would have emptied the region
+        assertThat(entityManagerFactory.getCache().contains(AuthorEntity.class, untouchedId)).isTrue();
+        mockMvc.perform(MockMvcRequestBuilders.get(authorByIdUrl(deletedId)))
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+        mockMvc.perform(MockMvcRequestBuilders.get(authorByIdUrl(updatedId)))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.name").value(NAME_3));
+    }
+
+    @Test
+    public void testThatAuthorWritesTakeOneStatementEach() throws Exception {
+        Long extractedId = authorService.saveAuthor(testAuthorEntity).getId();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // Each write is one conditional statement on authors, plus the increment of its table_versions row
+        statistics.clear();
+        mockMvc.perform(
+                        MockMvcRequestBuilders.put(updateAuthorByIdUrl(extractedId))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(TestDataUtil.buildAuthor(null, NAME_2, AGE_2)))
+                )
+                .andExpect(MockMvcResultMatchers.status().isOk());
+        assertThat(statistics.getPrepareStatementCount()).as("PUT /authors/{id}").isEqualTo(2);
+
+        // The PATCH response is the row returned by its UPDATE, including the column it left alone
+        statistics.clear();
+        mockMvc.perform(
+                        MockMvcRequestBuilders.patch(patchAuthorByIdUrl(extractedId))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(TestDataUtil.buildAuthor(null, NAME_3, null)))
+                )
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.name").value(NAME_3))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.age").value(AGE_2));
+        assertThat(statistics.getPrepareStatementCount()).as("PATCH /authors/{id}").isEqualTo(2);
+
+        statistics.clear();
+        mockMvc.perform(MockMvcRequestBuilders.delete(authorByIdUrl(extractedId)))
+                .andExpect(MockMvcResultMatchers.status().isNoContent());
+        assertThat(statistics.getPrepareStatementCount()).as("DELETE /authors/{id}").isEqualTo(2);
+    }
+
+    @Test
+    public void testThatCachedAgeQueryIsInvalidatedBySaveAuthor() throws Exception {
+        authorService.saveAuthor(testAuthorEntity);
+
+        mockMvc.perform(MockMvcRequestBuilders.get(AUTHORS_AGE_GREATER_THAN.replace("{age}", "50")))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.length()").value(1));
+
+        authorService.saveAuthor(TestDataUtil.buildAuthor(null, NAME_2, AGE_2));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(AUTHORS_AGE_GREATER_THAN.replace("{age}", "50")))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.length()").value(2));
+    }
+
+    @Test
+    public void testThatAuthorByIdAnswers304ForCurrentValidatorsOnly() throws Exception {
+        Long extractedId = authorService.saveAuthor(testAuthorEntity).getId();
+
+        MvcResult firstResult = mockMvc.perform(MockMvcRequestBuilders.get(authorByIdUrl(extractedId)))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().exists(HttpHeaders.ETAG))
+                .andReturn();
+        String eTag = firstResult.getResponse().getHeader(HttpHeaders.ETAG);
+        String lastModified = firstResult.getResponse().getHeader(HttpHeaders.LAST_MODIFIED);
+
+        mockMvc.perform(MockMvcRequestBuilders.get(authorByIdUrl(extractedId)).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.content().string(""));
+        mockMvc.perform(MockMvcRequestBuilders.get(authorByIdUrl(extractedId)).header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+                .andExpect(MockMvcResultMatchers.status().isNotModified());
+
+        String authorDtoJsonAsString = objectMapper.writeValueAsString(TestDataUtil.buildAuthor(extractedId, NAME_2, null));
+        mockMvc.perform(
+                        MockMvcRequestBuilders.patch(patchAuthorByIdUrl(extractedId))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(authorDtoJsonAsString)
+                )
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        // The patch bumped the version, so the old ETag no longer matches
+        mockMvc.perform(MockMvcRequestBuilders.get(authorByIdUrl(extractedId)).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.name").value(NAME_2));
+    }
+
+    @Test
+    public void testThatAuthorListsAnswer304UntilTheTableChanges() throws Exception {
+        authorService.saveAuthor(testAuthorEntity);
+
+        String eTag = mockMvc.perform(MockMvcRequestBuilders.get(AUTHORS))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(MockMvcRequestBuilders.get(AUTHORS).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(MockMvcResultMatchers.status().isNotModified());
+        mockMvc.perform(MockMvcRequestBuilders.get(LIST_AUTHORS).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(MockMvcResultMatchers.status().isNotModified());
+
+        authorService.saveAuthor(TestDataUtil.buildAuthor(null, NAME_2, AGE_2));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(AUTHORS).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.length()").value(2));
+    }
+
+    @Test
+    public void testThatDeletingAnAuthorMovesTheListValidators() throws Exception {
+        authorService.saveAuthor(testAuthorEntity);
+        Long deletedId = authorService.saveAuthor(TestDataUtil.buildAuthor(null, NAME_2, AGE_2)).getId();
+        ResourceVersion before = authorService.findCollectionVersion();
+
+        String eTag = mockMvc.perform(MockMvcRequestBuilders.get(AUTHORS))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(MockMvcRequestBuilders.delete(authorByIdUrl(deletedId)))
+                .andExpect(MockMvcResultMatchers.status().isNoContent());
+
+        // A delete leaves no row behind, but it still increments the table version and its last-write time
+        ResourceVersion after = authorService.findCollectionVersion();
+        assertThat(after.eTag()).isNotEqualTo(before.eTag());
+        assertThat(after.lastModified()).isAfter(before.lastModified());
+        mockMvc.perform(MockMvcRequestBuilders.get(AUTHORS).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.length()").value(1));
+    }
 }
@@ -1,25 +1,52 @@
 package com.example.api.controllers;
 
+import com.example.api.domain.dto.AuthorDto;
+import com.example.api.domain.dto.BookDto;
 import com.example.api.domain.entity.AuthorEntity;
 import com.example.api.domain.entity.BookEntity;
 import com.example.api.services.BookService;
+import com.example.api.services.UpsertOutcome;
+import com.example.api.services.UpsertResult;
 import com.example.api.util.TestDataUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPInputStream;
+
+import static com.example.api.path.AuthorPaths.patchAuthorByIdUrl;
 import static com.example.api.path.BookPaths.BOOKS;
+import static com.example.api.path.BookPaths.BOOKS_BULK;
+import static com.example.api.path.BookPaths.BOOKS_STREAM;
 import static com.example.api.path.BookPaths.bookByIsbnUrl;
+import static com.example.api.path.StatsPaths.RESPONSE_CACHE_STATS;
 import static com.example.api.util.Constants.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.not;
 
 @SpringBootTest
 @ExtendWith(SpringExtension.class)
@@ -30,15 +57,18 @@ public class BookControllerIntegrationTests {
     private final MockMvc mockMvc;
     private final ObjectMapper objectMapper;
     private final BookService bookService;
+    private final EntityManagerFactory entityManagerFactory;
     private final AuthorEntity testAuthorEntity = TestDataUtil.buildAuthor(null, NAME, AGE);
     private final BookEntity testBookEntity = TestDataUtil.buildBook(ISBN, TITLE, testAuthorEntity);
 
 
     @Autowired
-    public BookControllerIntegrationTests(MockMvc mockMvc, ObjectMapper objectMapper, BookService bookService) {
+    public BookControllerIntegrationTests(MockMvc mockMvc, ObjectMapper objectMapper, BookService bookService,
+                                          EntityManagerFactory entityManagerFactory) {
         this.mockMvc = mockMvc;
         this.objectMapper = objectMapper;
         this.bookService = bookService;
+        this.entityManagerFactory = entityManagerFactory;
     }
 
     @Test
@@ -113,6 +143,186 @@ public class BookControllerIntegrationTests {
                 .andExpect(MockMvcResultMatchers.jsonPath("$.title").value(updateBookEntity.getTitle()));
     }
 
+    @Test
+    public void testThatUpsertBookReusesExistingAuthorById() throws Exception {
+        BookEntity createBookEntity = bookService.saveBook(testBookEntity);
+        Long authorId = createBookEntity.getAuthorEntity().getId();
+
+        BookDto bookDto = BookDto.builder()
+                .isbn(ISBN_2)
+                .title(TITLE_2)
+                .authorDto(AuthorDto.builder().id(authorId).name(NAME).age(AGE).build())
+                .build();
+        String bookJsonAsString = objectMapper.writeValueAsString(bookDto);
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.put(bookByIsbnUrl(ISBN_2))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(bookJsonAsString)
+                ).andExpect(MockMvcResultMatchers.status().isCreated())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.authorDto.id").value(authorId));
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get(bookByIsbnUrl(ISBN_2))
+                ).andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.title").value(TITLE_2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.authorDto.id").value(authorId));
+    }
+
+    @Test
+    public void testThatUpsertBookRespondsWithTheStoredAuthor() throws Exception {
+        Long authorId = bookService.saveBook(testBookEntity).getAuthorEntity().getId();
+
+        // The author is referenced by id; the other author fields in the body are not written
+        BookDto bookDto = BookDto.builder()
+                .isbn(ISBN_2)
+                .title(TITLE_2)
+                .authorDto(AuthorDto.builder().id(authorId).name(NAME_2).age(AGE_2).build())
+                .build();
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.put(bookByIsbnUrl(ISBN_2))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(bookDto))
+                ).andExpect(MockMvcResultMatchers.status().isCreated())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.authorDto.id").value(authorId))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.authorDto.name").value(NAME))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.authorDto.age").value(AGE));
+    }
+
+    @Test
+    public void testThatUpsertBookWithUnknownAuthorIdReturnsHttpStatus400() throws Exception {
+        BookDto bookDto = BookDto.builder()
+                .title(TITLE)
+                .authorDto(AuthorDto.builder().id(999L).build())
+                .build();
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.put(bookByIsbnUrl(ISBN))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(bookDto))
+                ).andExpect(MockMvcResultMatchers.status().isBadRequest());
+
+        mockMvc.perform(MockMvcRequestBuilders.get(bookByIsbnUrl(ISBN)))
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+    }
+
+    @Test
+    public void testThatConcurrentUpsertsOfANewIsbnCreateItOnce() throws Exception {
+        int writers = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        List<CompletableFuture<UpsertResult<BookEntity>>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < writers; i++) {
+                String title = TITLE + " " + i;
+                results.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        throw new IllegalStateException(e);
+                    }
+                    return bookService.upsertBook(TestDataUtil.buildBook(ISBN, title, null));
+                }, executor));
+            }
+            start.countDown();
+
+            // Losers of the INSERT race are retried as updates instead of failing on the duplicate key
+            long created = 0;
+            for (CompletableFuture<UpsertResult<BookEntity>> result : results) {
+                if (result.get().outcome() == UpsertOutcome.CREATED) {
+                    created++;
+                }
+            }
+            assertThat(created).isEqualTo(1);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testThatDeleteBookKeepsItsAuthorAndOtherCachedBooks() throws Exception {
+        BookEntity savedBookEntity = bookService.saveBook(testBookEntity);
+        bookService.saveBook(TestDataUtil.buildBook(ISBN_2, TITLE_2, savedBookEntity.getAuthorEntity()));
+        mockMvc.perform(MockMvcRequestBuilders.get(bookByIsbnUrl(ISBN_2)))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        mockMvc.perform(MockMvcRequestBuilders.delete(bookByIsbnUrl(ISBN)))
+                .andExpect(MockMvcResultMatchers.status().isNoContent());
+
+        assertThat(entityManagerFactory.getCache().contains(BookEntity.class, ISBN_2)).isTrue();
+        mockMvc.perform(MockMvcRequestBuilders.get(bookByIsbnUrl(ISBN_2)))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.authorDto.name").value(NAME));
+    }
+
+    @Test
+    public void testThatPartialUpdateMissingBookReturnsHttpStatus404() throws Exception {
+        String bookJsonAsString = objectMapper.writeValueAsString(testBookEntity);
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.patch(bookByIsbnUrl(ISBN_2))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(bookJsonAsString)
+                ).andExpect(MockMvcResultMatchers.status().isNotFound());
+    }
+
+    @Test
+    public void testThatBulkCreateUpdateBooksReportsPerItemResults() throws Exception {
+        bookService.saveBook(testBookEntity);
+
+        String booksJsonArray = objectMapper.writeValueAsString(List.of(
+                BookDto.builder().isbn(ISBN).title(TITLE_2).build(),
+                BookDto.builder().isbn(ISBN_2).title(TITLE).build(),
+                BookDto.builder().title(TITLE).build()));
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.put(BOOKS_BULK)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(booksJsonArray)
+                ).andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.updated").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.created").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.failed").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].status").value("UPDATED"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[1].status").value("CREATED"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[2].error").value("isbn is required"));
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get(bookByIsbnUrl(ISBN))
+                ).andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.title").value(TITLE_2));
+    }
+
+    @Test
+    public void testThatBulkCreateUpdateBooksFailsOnlyTheItemsOfAChunkThatFailOnTheirOwn() throws Exception {
+        Long authorId = bookService.saveBook(testBookEntity).getAuthorEntity().getId();
+
+        String booksJsonArray = objectMapper.writeValueAsString(List.of(
+                BookDto.builder().isbn(ISBN_2).title(TITLE_2).authorDto(AuthorDto.builder().id(authorId).build()).build(),
+                BookDto.builder().isbn(ISBN_3).title(TITLE_3).authorDto(AuthorDto.builder().id(authorId + 1000).build()).build(),
+                BookDto.builder().isbn(ISBN).title(TITLE_3).build()));
+
+        // The chunk fails on the book whose author does not exist; its halves are retried and the other two written
+        mockMvc.perform(
+                        MockMvcRequestBuilders.put(BOOKS_BULK)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(booksJsonArray)
+                ).andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.created").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.updated").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.failed").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].status").value("CREATED"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[1].status").value("FAILED"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[1].id").value(ISBN_3))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[1].error").value(
+                        "Violates a database constraint, e.g. a value too long or a reference to a missing author"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[2].status").value("UPDATED"));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(BOOKS))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.length()").value(2));
+    }
+
     @Test
     public void testThatDeleteBookByIsbnReturnsHttpsStatus204() throws Exception {
         bookService.saveBook(TestDataUtil.buildBook(ISBN_2, TITLE, testAuthorEntity));
@@ -126,4 +336,171 @@ public class BookControllerIntegrationTests {
         ).andExpect(MockMvcResultMatchers.status().isNotFound());
     }
 
+    @Test
+    public void testThatStreamBooksReturnsOneJsonDocumentPerLine() throws Exception {
+        bookService.saveBook(testBookEntity);
+        bookService.saveBook(TestDataUtil.buildBook(ISBN_2, TITLE_2, testAuthorEntity));
+
+        // StreamingResponseBody is written on an async thread, so dispatch the async result first
+        MvcResult mvcResult = mockMvc.perform(
+                        MockMvcRequestBuilders.get(BOOKS_STREAM)
+                ).andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(mvcResult))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("isbn").asText()).isIn(ISBN, ISBN_2);
+        assertThat(objectMapper.readTree(lines[1]).get("title").asText()).isIn(TITLE, TITLE_2);
+    }
+
+    @Test
+    public void testThatBookReadEndpointsLoadAuthorsInTheSameStatement() throws Exception {
+        bookService.saveBook(testBookEntity);
+        bookService.saveBook(TestDataUtil.buildBook(ISBN_2, TITLE_2, TestDataUtil.buildAuthor(null, NAME_2, AGE_2)));
+        bookService.saveBook(TestDataUtil.buildBook(ISBN_3, TITLE_3, TestDataUtil.buildAuthor(null, NAME_3, AGE_3)));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // Start each request cold so authors cannot be served from the second-level cache
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+        mockMvc.perform(MockMvcRequestBuilders.get(BOOKS))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.length()").value(3))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[*].authorDto.name").value(containsInAnyOrder(NAME, NAME_2, NAME_3)));
+        // One aggregate for the conditional-GET stamp, then books and authors in a single join
+        assertThat(statistics.getPrepareStatementCount()).as("GET /books").isEqualTo(2);
+
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+        mockMvc.perform(MockMvcRequestBuilders.get(bookByIsbnUrl(ISBN_2)))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.authorDto.name").value(NAME_2));
+        assertThat(statistics.getPrepareStatementCount()).as("GET /books/{isbn}").isEqualTo(2);
+
+        // Warm: the book and its author come from the second-level cache, leaving only the version query
+        statistics.clear();
+        mockMvc.perform(MockMvcRequestBuilders.get(bookByIsbnUrl(ISBN_2)))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.authorDto.name").value(NAME_2));
+        assertThat(statistics.getPrepareStatementCount()).as("GET /books/{isbn}, cached").isEqualTo(1);
+
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+        MvcResult mvcResult = mockMvc.perform(MockMvcRequestBuilders.get(BOOKS_STREAM)).andReturn();
+        mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(mvcResult))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+        assertThat(statistics.getPrepareStatementCount()).as("GET /books/stream").isEqualTo(1);
+    }
+
+    @Test
+    public void testThatListBooksAnswers304UntilABookOrItsAuthorChanges() throws Exception {
+        BookEntity savedBookEntity = bookService.saveBook(testBookEntity);
+
+        MvcResult firstResult = mockMvc.perform(MockMvcRequestBuilders.get(BOOKS))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().exists(HttpHeaders.ETAG))
+                .andExpect(MockMvcResultMatchers.header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn();
+        String eTag = firstResult.getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(MockMvcRequestBuilders.get(BOOKS).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.content().string(""));
+        mockMvc.perform(MockMvcRequestBuilders.get(bookByIsbnUrl(ISBN)))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        // Renaming the author changes the body of every book that embeds it
+        String authorPatch = objectMapper.writeValueAsString(AuthorDto.builder().name(NAME_2).build());
+        mockMvc.perform(
+                        MockMvcRequestBuilders.patch(patchAuthorByIdUrl(savedBookEntity.getAuthorEntity().getId()))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(authorPatch)
+                ).andExpect(MockMvcResultMatchers.status().isOk());
+
+        mockMvc.perform(MockMvcRequestBuilders.get(BOOKS).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].authorDto.name").value(NAME_2));
+    }
+
+    @Test
+    public void testThatFindBookByIsbnAnswers304ForCurrentETagOnly() throws Exception {
+        bookService.saveBook(testBookEntity);
+
+        String eTag = mockMvc.perform(MockMvcRequestBuilders.get(bookByIsbnUrl(ISBN)))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(MockMvcRequestBuilders.get(bookByIsbnUrl(ISBN)).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(MockMvcResultMatchers.status().isNotModified());
+
+        String bookJsonAsString = objectMapper.writeValueAsString(BookDto.builder().title(TITLE_2).build());
+        mockMvc.perform(
+                        MockMvcRequestBuilders.put(bookByIsbnUrl(ISBN))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(bookJsonAsString)
+                ).andExpect(MockMvcResultMatchers.status().isOk());
+
+        mockMvc.perform(MockMvcRequestBuilders.get(bookByIsbnUrl(ISBN)).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, not(eTag)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.title").value(TITLE_2));
+    }
+
+    @Test
+    public void testThatListBooksIsServedFromResponseCacheUntilABookChanges() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            bookService.saveBook(TestDataUtil.buildBook(ISBN + "-" + i, TITLE, TestDataUtil.buildAuthor(null, NAME, AGE)));
+        }
+
+        String identityETag = mockMvc.perform(MockMvcRequestBuilders.get(BOOKS))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.length()").value(5))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        MvcResult gzipResult = mockMvc.perform(MockMvcRequestBuilders.get(BOOKS).header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn();
+        try (GZIPInputStream gzipStream = new GZIPInputStream(new ByteArrayInputStream(gzipResult.getResponse().getContentAsByteArray()))) {
+            assertThat(objectMapper.readTree(gzipStream).size()).isEqualTo(5);
+        }
+        // Different bytes, so a different strong ETag; each still validates its own representation
+        String gzipETag = gzipResult.getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(gzipETag).isNotEqualTo(identityETag).endsWith("-gz\"");
+        mockMvc.perform(MockMvcRequestBuilders.get(BOOKS)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, gzipETag))
+                .andExpect(MockMvcResultMatchers.status().isNotModified());
+        mockMvc.perform(MockMvcRequestBuilders.get(BOOKS).header(HttpHeaders.IF_NONE_MATCH, identityETag))
+                .andExpect(MockMvcResultMatchers.status().isNotModified());
+
+        mockMvc.perform(MockMvcRequestBuilders.get(RESPONSE_CACHE_STATS))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.missCount").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.hitCount").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.bytesSavedByCompression").value(greaterThan(0)));
+
+        String bookJsonAsString = objectMapper.writeValueAsString(BookDto.builder().title(TITLE_2).build());
+        mockMvc.perform(
+                        MockMvcRequestBuilders.put(bookByIsbnUrl(ISBN + "-0"))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(bookJsonAsString)
+                ).andExpect(MockMvcResultMatchers.status().isOk());
+
+        // The write evicted the entry, so the next request serializes the new state
+        mockMvc.perform(MockMvcRequestBuilders.get(BOOKS))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[?(@.isbn == '" + ISBN + "-0')].title").value(contains(TITLE_2)));
+        mockMvc.perform(MockMvcRequestBuilders.get(RESPONSE_CACHE_STATS))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.missCount").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.evictionCount").value(greaterThan(0)));
+    }
 }
@@ -0,0 +1,97 @@
+package com.example.api.controllers;
+
+import com.example.api.domain.entity.AuthorEntity;
+import com.example.api.services.AuthorService;
+import com.example.api.services.BookService;
+import com.example.api.util.TestDataUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import static com.example.api.path.SearchPaths.SEARCH_AUTHORS;
+import static com.example.api.path.SearchPaths.SEARCH_BOOKS;
+import static com.example.api.util.Constants.*;
+
+@SpringBootTest
+@ExtendWith(SpringExtension.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@AutoConfigureMockMvc
+public class SearchControllerIntegrationTests {
+
+    private final MockMvc mockMvc;
+    private final AuthorService authorService;
+    private final BookService bookService;
+
+    @Autowired
+    public SearchControllerIntegrationTests(MockMvc mockMvc, AuthorService authorService, BookService bookService) {
+        this.mockMvc = mockMvc;
+        this.authorService = authorService;
+        this.bookService = bookService;
+    }
+
+    @Test
+    public void testThatSearchAuthorsReturnsRankedPage() throws Exception {
+        authorService.saveAuthor(TestDataUtil.buildAuthor(null, NAME_2, AGE_2));   // Sanjeev Sanyal
+        authorService.saveAuthor(TestDataUtil.buildAuthor(null, NAME_3, AGE_3));   // J Sai Deepak
+        authorService.saveAuthor(TestDataUtil.buildAuthor(null, "Saibal Roy", AGE));
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get(SEARCH_AUTHORS)
+                                .param("q", "SAI")
+                                .param("size", "1")
+                ).andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content.length()").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].name").value("Saibal Roy"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totalElements").value(2));
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get(SEARCH_AUTHORS)
+                                .param("q", "SAI")
+                                .param("size", "1")
+                                .param("page", "1")
+                ).andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].name").value(NAME_3));
+    }
+
+    @Test
+    public void testThatSearchIndexFollowsUpdatesAndDeletes() throws Exception {
+        AuthorEntity savedAuthorEntity = authorService.saveAuthor(TestDataUtil.buildAuthor(null, NAME, AGE));
+
+        authorService.partialUpdate(savedAuthorEntity.getId(), TestDataUtil.buildAuthor(null, NAME_2, null));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(SEARCH_AUTHORS).param("q", "kalam"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content.length()").value(0));
+        mockMvc.perform(MockMvcRequestBuilders.get(SEARCH_AUTHORS).param("q", "sanyal"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].id").value(savedAuthorEntity.getId()));
+
+        authorService.deleteById(savedAuthorEntity.getId());
+
+        mockMvc.perform(MockMvcRequestBuilders.get(SEARCH_AUTHORS).param("q", "sanyal"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content.length()").value(0));
+    }
+
+    @Test
+    public void testThatSearchBooksMatchesTitleInfix() throws Exception {
+        bookService.saveBook(TestDataUtil.buildBook(ISBN, TITLE, TestDataUtil.buildAuthor(null, NAME, AGE)));
+        bookService.saveBook(TestDataUtil.buildBook(ISBN_2, TITLE_2, TestDataUtil.buildAuthor(null, NAME, AGE)));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(SEARCH_BOOKS).param("q", "of fir"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content.length()").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].isbn").value(ISBN))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].authorDto.name").value(NAME));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(SEARCH_BOOKS).param("q", " "))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.api.domain.id;
+
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.id.enhanced.AccessCallback;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BlockIdOptimizerTests {
+
+    @Test
+    public void testThatIdsAreHandedOutFromTheSequenceValueUpwards() {
+        BlockIdOptimizer optimizer = new BlockIdOptimizer("author_id_seq", 3);
+        FakeSequence sequence = new FakeSequence(3);
+
+        for (long expected : new long[]{1, 2, 3, 4, 5, 6, 7}) {
+            assertThat(optimizer.generate(sequence)).isEqualTo(expected);
+        }
+        assertThat(optimizer.getBlocksFetched()).isEqualTo(3);
+        assertThat(sequence.calls.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void testThatConcurrentCallersGetUniqueIdsWithOneSequenceCallPerBlock() throws Exception {
+        BlockIdOptimizer optimizer = new BlockIdOptimizer("author_id_seq", 50);
+        FakeSequence sequence = new FakeSequence(50);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            Future<?>[] futures = new Future<?>[8];
+            for (int t = 0; t < futures.length; t++) {
+                futures[t] = executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        ids.add((Long) optimizer.generate(sequence));
+                    }
+                });
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(ids).hasSize(80_000);
+        assertThat(sequence.calls.get()).isEqualTo(80_000 / 50);
+    }
+
+    @Test
+    public void testThatASequenceIncrementingByLessThanTheBlockSizeIsRejected() {
+        BlockIdOptimizer optimizer = new BlockIdOptimizer("author_id_seq", 50);
+        FakeSequence sequence = new FakeSequence(1);
+
+        for (int i = 0; i < 50; i++) {
+            optimizer.generate(sequence);
+        }
+        assertThatThrownBy(() -> optimizer.generate(sequence))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("author_id_seq");
+    }
+
+    // Sequence starting at 1, like author_id_seq
+    private static final class FakeSequence implements AccessCallback {
+        private final long increment;
+        private final AtomicLong next = new AtomicLong(1);
+        private final AtomicLong calls = new AtomicLong();
+
+        FakeSequence(long increment) {
+            this.increment = increment;
+        }
+
+        @Override
+        public IntegralDataTypeHolder getNextValue() {
+            calls.incrementAndGet();
+            return IdentifierGeneratorHelper.getIntegralDataTypeHolder(Long.class)
+                    .initialize(next.getAndAdd(increment));
+        }
+
+        @Override
+        public String getTenantIdentifier() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.api.mappers;
+
+import com.example.api.domain.dto.AuthorDto;
+import com.example.api.domain.dto.BookDto;
+import com.example.api.domain.entity.AuthorEntity;
+import com.example.api.domain.entity.BookEntity;
+import com.example.api.mappers.impl.AuthorMapperImpl;
+import com.example.api.mappers.impl.BookMapperImpl;
+import org.junit.jupiter.api.Test;
+
+import static com.example.api.util.Constants.*;
+import static com.example.api.util.TestDataUtil.buildAuthor;
+import static com.example.api.util.TestDataUtil.buildBook;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MapperImplTests {
+    private final AuthorMapperImpl authorMapper = new AuthorMapperImpl();
+    private final BookMapperImpl bookMapper = new BookMapperImpl();
+
+    @Test
+    public void testThatAuthorMapFromDerivesDetailsAndCopiesFields() {
+        AuthorDto authorDto = AuthorDto.builder().id(TEST_ID).name(NAME).age(AGE).build();
+
+        AuthorEntity authorEntity = authorMapper.mapFrom(authorDto);
+
+        assertThat(authorEntity.getId()).isEqualTo(TEST_ID);
+        assertThat(authorEntity.getName()).isEqualTo(NAME);
+        assertThat(authorEntity.getAge()).isEqualTo(AGE);
+        assertThat(authorEntity.getDetails()).isEqualTo("My name is " + NAME + " and I am " + AGE + " years old.");
+    }
+
+    @Test
+    public void testThatBookMapToMapsNestedAuthor() {
+        BookEntity bookEntity = buildBook(ISBN, TITLE, buildAuthor(TEST_ID, NAME, AGE));
+
+        BookDto bookDto = bookMapper.mapTo(bookEntity);
+
+        assertThat(bookDto.getIsbn()).isEqualTo(ISBN);
+        assertThat(bookDto.getTitle()).isEqualTo(TITLE);
+        assertThat(bookDto.getAuthorDto()).isEqualTo(AuthorDto.builder().id(TEST_ID).name(NAME).age(AGE).build());
+    }
+
+    @Test
+    public void testThatBookMapFromMapsNestedAuthorAndRoundTrips() {
+        BookEntity bookEntity = buildBook(ISBN, TITLE, buildAuthor(TEST_ID, NAME, AGE));
+
+        BookEntity roundTripped = bookMapper.mapFrom(bookMapper.mapTo(bookEntity));
+
+        assertThat(roundTripped).isEqualTo(bookEntity);
+    }
+
+    @Test
+    public void testThatNullInputsMapToNull() {
+        assertThat(authorMapper.mapTo(null)).isNull();
+        assertThat(authorMapper.mapFrom(null)).isNull();
+        assertThat(bookMapper.mapTo(null)).isNull();
+        assertThat(bookMapper.mapFrom(null)).isNull();
+        assertThat(bookMapper.mapTo(buildBook(ISBN, TITLE, null)).getAuthorDto()).isNull();
+    }
+}
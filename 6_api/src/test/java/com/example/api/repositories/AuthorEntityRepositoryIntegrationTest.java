@@ -135,4 +135,16 @@ public class AuthorEntityRepositoryIntegrationTest {
         assertThat(result).hasSize(1).containsExactly(authorEntity);
     }
 
+
+    @Test
+    public void testThatAuthorsSavedTogetherGetConsecutiveIdsFromOneSequenceBlock() {
+        List<AuthorEntity> savedAuthorEntities = List.of(
+                authorRepository.save(buildAuthor(null, NAME, AGE)),
+                authorRepository.save(buildAuthor(null, NAME_2, AGE_2)),
+                authorRepository.save(buildAuthor(null, NAME_3, AGE_3)));
+
+        Long firstId = savedAuthorEntities.get(0).getId();
+        assertThat(savedAuthorEntities).extracting(AuthorEntity::getId)
+                .containsExactly(firstId, firstId + 1, firstId + 2);
+    }
 }
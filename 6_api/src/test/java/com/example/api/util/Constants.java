@@ -18,6 +18,8 @@ public final class Constants {
     // BOOK 2
     public static final String ISBN_2 = "1000-tfl-998";
     public static final String TITLE_2 = "My Journey: Transforming Dreams Into Actions";
+    public static final String ISBN_3 = "1000-tfl-997";
+    public static final String TITLE_3 = "Land of the Seven Rivers";
 
     private Constants() {
     }
@@ -0,0 +1,77 @@
+package com.example.api.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static com.example.api.util.Constants.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class NGramIndexTests {
+    private final NGramIndex<Long> index = new NGramIndex<>();
+
+    @Test
+    public void testThatSearchMatchesInfixCaseInsensitivelyAndRanksPrefixFirst() {
+        index.put(1L, "Sai Kalam");
+        index.put(2L, NAME);          // APJ Kalam
+        index.put(3L, "Kalamkari Studio");
+        index.put(4L, NAME_2);
+
+        NGramIndex.Result<Long> result = index.search("KALAM", 0, 10);
+
+        assertThat(result.total()).isEqualTo(3);
+        // Prefix match first, then word-prefix matches (shorter text first)
+        assertThat(result.keys()).containsExactly(3L, 1L, 2L);
+    }
+
+    @Test
+    public void testThatShortQueriesAndShortTextsAreSearchable() {
+        index.put(1L, "Al");
+        index.put(2L, NAME_3);        // J Sai Deepak
+
+        assertThat(index.search("al", 0, 10).keys()).containsExactly(1L);
+        assertThat(index.search("j", 0, 10).keys()).containsExactly(2L);
+        assertThat(index.search("ai d", 0, 10).keys()).containsExactly(2L);
+    }
+
+    @Test
+    public void testThatPutReplacesAndRemoveDropsDocuments() {
+        index.put(1L, NAME);
+        index.put(1L, NAME_2);
+        index.put(2L, NAME);
+        index.remove(2L);
+
+        assertThat(index.search("kalam", 0, 10).total()).isZero();
+        assertThat(index.search("sanyal", 0, 10).keys()).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void testThatRemovedSlotsAreReusedWithoutLosingPostings() {
+        for (long id = 1; id <= 10; id++) {
+            index.put(id, "Author " + id);
+        }
+        index.remove(3L);
+        index.remove(7L);
+        // Takes one of the freed internal slots, so its postings are inserted mid-list
+        index.put(11L, "Author 11");
+        index.remove(11L);
+        index.put(12L, "Author 12");
+
+        assertThat(index.search("author", 0, 20).total()).isEqualTo(9);
+        assertThat(index.search("author 1", 0, 20).keys()).containsExactly(1L, 10L, 12L);
+        assertThat(index.search("author 7", 0, 20).total()).isZero();
+    }
+
+    @Test
+    public void testThatSearchPagesThroughRankedMatches() {
+        for (long id = 1; id <= 25; id++) {
+            index.put(id, "Author " + id);
+        }
+
+        NGramIndex.Result<Long> secondPage = index.search("author", 10, 10);
+
+        assertThat(secondPage.total()).isEqualTo(25);
+        assertThat(secondPage.keys()).hasSize(10);
+        assertThat(index.search("author", 20, 10).keys()).hasSize(5);
+        assertThat(index.search("author", 30, 10).keys()).isEmpty();
+    }
+}
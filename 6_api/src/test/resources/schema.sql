@@ -4,12 +4,22 @@ CREATE TABLE IF NOT EXISTS authors (
     id BIGINT PRIMARY KEY,
     name VARCHAR(255),
     age INTEGER,
-    details VARCHAR(255)
+    details VARCHAR(255),
+    version BIGINT DEFAULT 0 NOT NULL,
+    updated_at TIMESTAMP(6) WITH TIME ZONE
 );
 
 CREATE TABLE IF NOT EXISTS books (
     isbn VARCHAR(255) PRIMARY KEY,
     title VARCHAR(255),
     author_id BIGINT,
+    version BIGINT DEFAULT 0 NOT NULL,
+    updated_at TIMESTAMP(6) WITH TIME ZONE,
     FOREIGN KEY (author_id) REFERENCES authors(id)
 );
+
+CREATE TABLE IF NOT EXISTS table_versions (
+    table_name VARCHAR(255) PRIMARY KEY,
+    version BIGINT NOT NULL,
+    updated_at TIMESTAMP(6) WITH TIME ZONE
+);
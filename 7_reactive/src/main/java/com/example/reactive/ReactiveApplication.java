@@ -0,0 +1,20 @@
+package com.example.reactive;
+
+import lombok.extern.java.Log;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+@Log
+public class ReactiveApplication implements CommandLineRunner {
+
+    public static void main(String[] args) {
+        SpringApplication.run(ReactiveApplication.class, args);
+    }
+
+    @Override
+    public void run(String... args) {
+        log.info("...Spring Boot Reactive API...");
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.reactive.controllers;
+
+import com.example.reactive.domain.dto.AuthorDto;
+import com.example.reactive.domain.dto.CursorPageDto;
+import com.example.reactive.domain.entity.AuthorEntity;
+import com.example.reactive.mappers.Mapper;
+import com.example.reactive.services.AuthorService;
+import com.example.reactive.utils.UtilityMethods;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static com.example.reactive.path.AuthorPaths.*;
+
+/**
+ * Reactive counterpart of the 6_api AuthorController on the same routes.
+ * List endpoints return a Flux: with Accept: application/x-ndjson each author is written as soon as it is read,
+ * and rows are only pulled from the database as fast as the client consumes them.
+ */
+@RestController
+public class AuthorController {
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private final AuthorService authorService;
+    private final Mapper<AuthorEntity, AuthorDto> authorMapper;
+
+    public AuthorController(AuthorService authorService, Mapper<AuthorEntity, AuthorDto> authorMapper) {
+        this.authorService = authorService;
+        this.authorMapper = authorMapper;
+    }
+
+    @PostMapping(path = AUTHORS)
+    public Mono<ResponseEntity<AuthorDto>> createAuthor(@RequestBody AuthorDto author) {
+        AuthorEntity authorEntity = authorMapper.mapFrom(author);
+        return authorService.saveAuthor(authorEntity)
+                .map(savedAuthorEntity -> new ResponseEntity<>(authorMapper.mapTo(savedAuthorEntity), HttpStatus.CREATED));
+    }
+
+    @GetMapping(path = LIST_AUTHORS, produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<AuthorDto> listAuthors() {
+        return authorService.findAll().map(authorMapper::mapTo);
+    }
+
+    // /page-authors?size=10&page=2
+    @GetMapping(path = PAGE_AUTHORS)
+    public Mono<ResponseEntity<Page<AuthorDto>>> pageAuthors(
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            return Mono.just(new ResponseEntity<>(HttpStatus.BAD_REQUEST));
+        }
+
+        return authorService.findAll(PageRequest.of(page, size))
+                .map(authorEntities -> new ResponseEntity<>(authorEntities.map(authorMapper::mapTo), HttpStatus.OK));
+    }
+
+    // /authors/cursor?size=10 then /authors/cursor?after=<nextCursor>&size=10
+    @GetMapping(path = AUTHORS_CURSOR)
+    public Mono<ResponseEntity<CursorPageDto<AuthorDto>>> cursorAuthors(
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            return Mono.just(new ResponseEntity<>(HttpStatus.BAD_REQUEST));
+        }
+
+        Long afterId = null;
+        if (after != null && !after.isBlank()) {
+            try {
+                afterId = UtilityMethods.decodeCursor(after);
+            } catch (IllegalArgumentException e) {
+                return Mono.just(new ResponseEntity<>(HttpStatus.BAD_REQUEST));
+            }
+        }
+
+        // Fetch one extra row to learn whether another page exists without a COUNT(*) query
+        return authorService.findAllAfter(afterId, size + 1)
+                .collectList()
+                .map(authorEntities -> {
+                    boolean hasNext = authorEntities.size() > size;
+                    List<AuthorEntity> pageEntities = hasNext ? authorEntities.subList(0, size) : authorEntities;
+
+                    String nextCursor = hasNext
+                            ? UtilityMethods.encodeCursor(pageEntities.get(pageEntities.size() - 1).getId())
+                            : null;
+
+                    CursorPageDto<AuthorDto> cursorPage = CursorPageDto.<AuthorDto>builder()
+                            .content(pageEntities.stream().map(authorMapper::mapTo).toList())
+                            .size(pageEntities.size())
+                            .hasNext(hasNext)
+                            .nextCursor(nextCursor)
+                            .build();
+
+                    return new ResponseEntity<>(cursorPage, HttpStatus.OK);
+                });
+    }
+
+    @GetMapping(path = AUTHORS, produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<AuthorDto> authors() {
+        return authorService.findAll().map(authorMapper::mapTo);
+    }
+
+    @GetMapping(path = AUTHOR_BY_ID)
+    public Mono<ResponseEntity<AuthorDto>> authorById(@PathVariable Long id) {
+        return authorService.findById(id)
+                .map(authorEntity -> new ResponseEntity<>(authorMapper.mapTo(authorEntity), HttpStatus.OK))
+                .defaultIfEmpty(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    @GetMapping(path = AUTHORS_AGE_LESS_THAN, produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<AuthorDto> findAuthorsAgeLessThan(@PathVariable int age) {
+        return authorService.findAuthorsAgeLessThan(age).map(authorMapper::mapTo);
+    }
+
+    @GetMapping(path = AUTHORS_AGE_GREATER_THAN, produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<AuthorDto> findAuthorsAgeGreaterThan(@PathVariable int age) {
+        return authorService.findAuthorsAgeGreaterThan(age).map(authorMapper::mapTo);
+    }
+
+    // /authors/search?name=sample
+    @GetMapping(path = AUTHORS_BY_NAME)
+    public Mono<ResponseEntity<List<AuthorDto>>> findAuthorsByName(@RequestParam("name") String name) {
+        if (name == null || name.trim().isEmpty() || name.trim().equals(",")) {
+            return Mono.just(new ResponseEntity<>(HttpStatus.BAD_REQUEST));
+        }
+
+        return authorService.findAuthorsByName(name)
+                .map(authorMapper::mapTo)
+                .collectList()
+                .map(authorDtos -> new ResponseEntity<>(authorDtos, HttpStatus.OK));
+    }
+
+    @PutMapping(path = UPDATE_AUTHOR_BY_ID)
+    public Mono<ResponseEntity<AuthorDto>> updateAuthorById(@PathVariable Long id, @RequestBody AuthorDto authorDto) {
+        authorDto.setId(id);
+        AuthorEntity authorEntity = authorMapper.mapFrom(authorDto);
+
+        // The UPDATE's row count doubles as the existence check
+        return authorService.updateAuthor(id, authorEntity)
+                .map(savedAuthorEntity -> new ResponseEntity<>(authorMapper.mapTo(savedAuthorEntity), HttpStatus.OK))
+                .defaultIfEmpty(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    @PatchMapping(path = PATCH_AUTHOR_BY_ID)
+    public Mono<ResponseEntity<AuthorDto>> patchAuthorById(@PathVariable Long id, @RequestBody AuthorDto authorDto) {
+        authorDto.setId(id);
+        AuthorEntity authorEntity = authorMapper.mapFrom(authorDto);
+
+        return authorService.partialUpdate(id, authorEntity)
+                .map(savedAuthorEntity -> new ResponseEntity<>(authorMapper.mapTo(savedAuthorEntity), HttpStatus.OK))
+                .defaultIfEmpty(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    @DeleteMapping(path = AUTHOR_BY_ID)
+    public Mono<ResponseEntity<Void>> deleteAuthorById(@PathVariable Long id) {
+        return authorService.deleteById(id)
+                .map(deleted -> new ResponseEntity<Void>(deleted ? HttpStatus.NO_CONTENT : HttpStatus.NOT_FOUND));
+    }
+
+}
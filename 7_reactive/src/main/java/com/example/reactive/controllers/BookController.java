@@ -0,0 +1,83 @@
+package com.example.reactive.controllers;
+
+import com.example.reactive.domain.dto.BookDto;
+import com.example.reactive.domain.entity.BookEntity;
+import com.example.reactive.mappers.Mapper;
+import com.example.reactive.services.BookService;
+import com.example.reactive.services.UpsertOutcome;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static com.example.reactive.path.BookPaths.BOOKS;
+import static com.example.reactive.path.BookPaths.BOOKS_STREAM;
+import static com.example.reactive.path.BookPaths.BOOK_BY_ISBN;
+
+/**
+ * Reactive counterpart of the 6_api BookController on the same routes.
+ */
+@RestController
+public class BookController {
+    private final Mapper<BookEntity, BookDto> bookMapper;
+    private final BookService bookService;
+
+    public BookController(Mapper<BookEntity, BookDto> bookMapper, BookService bookService) {
+        this.bookMapper = bookMapper;
+        this.bookService = bookService;
+    }
+
+    @PutMapping(path = BOOK_BY_ISBN)
+    public Mono<ResponseEntity<BookDto>> createUpdateBookByIsbn(@PathVariable String isbn, @RequestBody BookDto bookDto) {
+        if (isbn.trim().isEmpty()) {
+            return Mono.just(new ResponseEntity<>(HttpStatus.BAD_REQUEST));
+        }
+
+        // Overwrites the ISBN from the path variable to ensure consistency
+        bookDto.setIsbn(isbn);
+        BookEntity bookEntity = bookMapper.mapFrom(bookDto);
+
+        // UPDATE first and INSERT only when no row matched, so the status comes from the row count
+        return bookService.upsertBook(bookEntity)
+                .map(result -> new ResponseEntity<>(bookMapper.mapTo(result.entity()),
+                        result.outcome() == UpsertOutcome.UPDATED ? HttpStatus.OK : HttpStatus.CREATED));
+    }
+
+    @GetMapping(path = BOOKS, produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<BookDto> listBooks() {
+        return bookService.findAll().map(bookMapper::mapTo);
+    }
+
+    // One JSON document per line, written as rows arrive; a slow reader slows the query rather than filling memory
+    @GetMapping(path = BOOKS_STREAM, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<BookDto> streamBooks() {
+        return bookService.findAll().map(bookMapper::mapTo);
+    }
+
+    @GetMapping(path = BOOK_BY_ISBN)
+    public Mono<ResponseEntity<BookDto>> findBookByIsbn(@PathVariable String isbn) {
+        return bookService.findById(isbn)
+                .map(bookEntity -> new ResponseEntity<>(bookMapper.mapTo(bookEntity), HttpStatus.OK))
+                .defaultIfEmpty(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    @PatchMapping(path = BOOK_BY_ISBN)
+    public Mono<ResponseEntity<BookDto>> partialUpdateBookByIsbn(@PathVariable String isbn, @RequestBody BookDto bookDto) {
+        // Overwrites the ISBN from the path variable to ensure consistency
+        bookDto.setIsbn(isbn);
+        BookEntity bookEntity = bookMapper.mapFrom(bookDto);
+
+        return bookService.partialUpdateBook(isbn, bookEntity)
+                .map(savedBookEntity -> new ResponseEntity<>(bookMapper.mapTo(savedBookEntity), HttpStatus.OK))
+                .defaultIfEmpty(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    @DeleteMapping(path = BOOK_BY_ISBN)
+    public Mono<ResponseEntity<Void>> deleteBookByIsbn(@PathVariable String isbn) {
+        return bookService.deleteBookByIsbn(isbn)
+                .map(deleted -> new ResponseEntity<Void>(deleted ? HttpStatus.NO_CONTENT : HttpStatus.NOT_FOUND));
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.example.reactive.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class AuthorDto {
+    private Long id;
+
+    private String name;
+
+    private Integer age;
+
+    private String details;
+}
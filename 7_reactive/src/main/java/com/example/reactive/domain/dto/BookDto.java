@@ -0,0 +1,20 @@
+package com.example.reactive.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BookDto {
+
+    private String isbn;
+
+    private String title;
+
+    private AuthorDto authorDto;
+
+}
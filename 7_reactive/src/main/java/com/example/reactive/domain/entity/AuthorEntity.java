@@ -0,0 +1,40 @@
+package com.example.reactive.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.Instant;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Table("authors") // Same table as the JPA AuthorEntity in 6_api
+public class AuthorEntity {
+
+    // Left null on insert so the column default (nextval('author_id_seq')) assigns it
+    @Id
+    private Long id;
+
+    private String name;
+
+    private Integer age;
+
+    private String details;
+
+    // Same version/updated_at columns the 6_api ETags are built from; save() checks and increments the version
+    @EqualsAndHashCode.Exclude
+    @Version
+    private Long version;
+
+    // Set by the service on every write
+    @EqualsAndHashCode.Exclude
+    private Instant updatedAt;
+
+}
@@ -0,0 +1,45 @@
+package com.example.reactive.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.Instant;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Table("books") // Same table as the JPA BookEntity in 6_api
+public class BookEntity {
+
+    @Id
+    private String isbn;
+
+    private String title;
+
+    // R2DBC has no relationship mapping, so the foreign key is a plain column
+    @Column("author_id")
+    private Long authorId;
+
+    // Same version/updated_at columns the 6_api ETags are built from; save() checks and increments the version
+    @EqualsAndHashCode.Exclude
+    @Version
+    private Long version;
+
+    // Set by the service on every write
+    @EqualsAndHashCode.Exclude
+    private Instant updatedAt;
+
+    // Not persisted; filled in by BookServiceImpl from authorId
+    @Transient
+    private AuthorEntity authorEntity;
+
+}
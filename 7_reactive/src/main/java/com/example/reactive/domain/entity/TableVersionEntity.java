@@ -0,0 +1,26 @@
+package com.example.reactive.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.Instant;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Table("table_versions") // Same table as the JPA TableVersionEntity in 6_api
+public class TableVersionEntity {
+
+    @Id
+    private String tableName;
+
+    private long version;
+
+    private Instant updatedAt;
+
+}
@@ -0,0 +1,9 @@
+package com.example.reactive.mappers;
+
+public interface Mapper<A, B> {
+
+    A mapFrom(B b);
+
+    B mapTo(A a);
+
+}
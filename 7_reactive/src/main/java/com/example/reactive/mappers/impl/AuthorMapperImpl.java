@@ -0,0 +1,73 @@
+package com.example.reactive.mappers.impl;
+
+import com.example.reactive.domain.dto.AuthorDto;
+import com.example.reactive.domain.entity.AuthorEntity;
+import com.example.reactive.mappers.Mapper;
+import org.springframework.stereotype.Component;
+
+/**
+ * Implementation of the Mapper interface for converting between AuthorEntity and AuthorDto.
+ * Copies each field directly through getters and setters, so a mapping call does no reflection
+ * and allocates nothing beyond the target object.
+ * This component is registered as a Spring bean for dependency injection.
+ */
+@Component
+public class AuthorMapperImpl implements Mapper<AuthorEntity, AuthorDto> {
+
+    /**
+     * Maps an AuthorDto to an AuthorEntity.
+     *
+     * @param authorDto the AuthorDto to map
+     * @return the corresponding AuthorEntity, or null if the input is null
+     */
+    @Override
+    public AuthorEntity mapFrom(AuthorDto authorDto) {
+        if (authorDto == null) {
+            return null;
+        }
+
+        authorDto.setDetails("My name is " + authorDto.getName() + " and I am " + authorDto.getAge() + " years old.");
+
+        return toEntity(authorDto);
+    }
+
+    /**
+     * Maps an AuthorEntity to an AuthorDto.
+     *
+     * @param authorEntity the AuthorEntity to map
+     * @return the corresponding AuthorDto, or null if the input is null
+     */
+    @Override
+    public AuthorDto mapTo(AuthorEntity authorEntity) {
+        if (authorEntity == null) {
+            return null;
+        }
+        return toDto(authorEntity);
+    }
+
+    /**
+     * Plain field copy from DTO to entity, without deriving details.
+     * Shared with BookMapperImpl for the nested author of a book.
+     */
+    static AuthorEntity toEntity(AuthorDto authorDto) {
+        AuthorEntity authorEntity = new AuthorEntity();
+        authorEntity.setId(authorDto.getId());
+        authorEntity.setName(authorDto.getName());
+        authorEntity.setAge(authorDto.getAge());
+        authorEntity.setDetails(authorDto.getDetails());
+        return authorEntity;
+    }
+
+    /**
+     * Plain field copy from entity to DTO.
+     * Shared with BookMapperImpl for the nested author of a book.
+     */
+    static AuthorDto toDto(AuthorEntity authorEntity) {
+        AuthorDto authorDto = new AuthorDto();
+        authorDto.setId(authorEntity.getId());
+        authorDto.setName(authorEntity.getName());
+        authorDto.setAge(authorEntity.getAge());
+        authorDto.setDetails(authorEntity.getDetails());
+        return authorDto;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.reactive.mappers.impl;
+
+import com.example.reactive.domain.dto.BookDto;
+import com.example.reactive.domain.entity.BookEntity;
+import com.example.reactive.mappers.Mapper;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maps between BookEntity and BookDto with direct field copies.
+ * The nested author is mapped explicitly: BookEntity.authorEntity <-> BookDto.authorDto.
+ * Spring-managed bean for entity-DTO conversion.
+ */
+@Component
+public class BookMapperImpl implements Mapper<BookEntity, BookDto> {
+
+    @Override
+    public BookEntity mapFrom(BookDto bookDto) {
+        if (bookDto == null) {
+            return null;
+        }
+
+        BookEntity bookEntity = new BookEntity();
+        bookEntity.setIsbn(bookDto.getIsbn());
+        bookEntity.setTitle(bookDto.getTitle());
+        if (bookDto.getAuthorDto() != null) {
+            bookEntity.setAuthorEntity(AuthorMapperImpl.toEntity(bookDto.getAuthorDto()));
+        }
+        return bookEntity;
+    }
+
+    @Override
+    public BookDto mapTo(BookEntity bookEntity) {
+        if (bookEntity == null) {
+            return null;
+        }
+
+        BookDto bookDto = new BookDto();
+        bookDto.setIsbn(bookEntity.getIsbn());
+        bookDto.setTitle(bookEntity.getTitle());
+        if (bookEntity.getAuthorEntity() != null) {
+            bookDto.setAuthorDto(AuthorMapperImpl.toDto(bookEntity.getAuthorEntity()));
+        }
+        return bookDto;
+    }
+
+
+}
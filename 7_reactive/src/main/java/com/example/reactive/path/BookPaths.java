@@ -0,0 +1,12 @@
+package com.example.reactive.path;
+
+// Same routes as 6_api so clients can switch between the blocking and reactive stacks
+public class BookPaths {
+    public static final String BOOK_BY_ISBN = "/books/{isbn}";
+    public static final String BOOKS = "/books";
+    public static final String BOOKS_STREAM = "/books/stream";
+
+    public static String bookByIsbnUrl(String isbn) {
+        return BOOK_BY_ISBN.replace("{isbn}", isbn);
+    }
+}
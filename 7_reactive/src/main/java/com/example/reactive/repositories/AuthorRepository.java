@@ -0,0 +1,41 @@
+package com.example.reactive.repositories;
+
+import com.example.reactive.domain.entity.AuthorEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+@Repository
+public interface AuthorRepository extends ReactiveCrudRepository<AuthorEntity, Long> {
+
+    Flux<AuthorEntity> findAllBy(Pageable pageable);
+
+    Flux<AuthorEntity> findByAgeLessThan(int age);
+
+    Flux<AuthorEntity> findByAgeGreaterThan(int age);
+
+    Flux<AuthorEntity> findByNameContainingIgnoreCase(String name);
+
+    // Keyset pagination: seeks past the last seen id on the primary key index instead of skipping OFFSET rows
+    @Query("SELECT * FROM authors ORDER BY id LIMIT :limit")
+    Flux<AuthorEntity> findFirstPage(int limit);
+
+    @Query("SELECT * FROM authors WHERE id > :afterId ORDER BY id LIMIT :limit")
+    Flux<AuthorEntity> findPageAfter(Long afterId, int limit);
+
+    // Returns the number of rows updated, so 0 means no author has this id
+    @Modifying
+    @Query("UPDATE authors SET name = :name, age = :age, details = :details, " +
+            "version = version + 1, updated_at = :updatedAt WHERE id = :id")
+    Mono<Integer> updateAuthor(Long id, String name, Integer age, String details, Instant updatedAt);
+
+    @Modifying
+    @Query("DELETE FROM authors WHERE id = :id")
+    Mono<Integer> deleteAuthorById(Long id);
+}
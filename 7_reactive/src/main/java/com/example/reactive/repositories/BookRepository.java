@@ -0,0 +1,24 @@
+package com.example.reactive.repositories;
+
+import com.example.reactive.domain.entity.BookEntity;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+@Repository
+public interface BookRepository extends ReactiveCrudRepository<BookEntity, String> {
+
+    // Returns the number of rows updated, so 0 means the book has to be inserted
+    @Modifying
+    @Query("UPDATE books SET title = :title, author_id = :authorId, " +
+            "version = version + 1, updated_at = :updatedAt WHERE isbn = :isbn")
+    Mono<Integer> updateBook(String isbn, String title, Long authorId, Instant updatedAt);
+
+    @Modifying
+    @Query("DELETE FROM books WHERE isbn = :isbn")
+    Mono<Integer> deleteBookByIsbn(String isbn);
+}
@@ -0,0 +1,29 @@
+package com.example.reactive.repositories;
+
+import com.example.reactive.domain.entity.TableVersionEntity;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+@Repository
+public interface TableVersionRepository extends ReactiveCrudRepository<TableVersionEntity, String> {
+    String AUTHORS = "authors";
+    String BOOKS = "books";
+
+    // The rows are seeded by schema.sql, so a table always has one to increment
+    @Modifying
+    @Query("UPDATE table_versions SET version = version + 1, updated_at = :updatedAt WHERE table_name = :tableName")
+    Mono<Integer> incrementVersion(String tableName, Instant updatedAt);
+
+    /**
+     * Records a write to the table. Must run in the writing transaction, after its row changes,
+     * so the counter row is the last lock the transaction takes.
+     */
+    default Mono<Void> increment(String tableName) {
+        return incrementVersion(tableName, Instant.now()).then();
+    }
+}
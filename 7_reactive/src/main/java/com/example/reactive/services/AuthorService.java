@@ -0,0 +1,32 @@
+package com.example.reactive.services;
+
+import com.example.reactive.domain.entity.AuthorEntity;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface AuthorService {
+
+    Mono<AuthorEntity> saveAuthor(AuthorEntity authorEntity);
+
+    Flux<AuthorEntity> findAll();
+
+    Mono<Page<AuthorEntity>> findAll(Pageable pageable);
+
+    Flux<AuthorEntity> findAllAfter(Long afterId, int limit);
+
+    Mono<AuthorEntity> findById(Long id);
+
+    Mono<AuthorEntity> updateAuthor(Long id, AuthorEntity authorEntity);
+
+    Mono<AuthorEntity> partialUpdate(Long id, AuthorEntity authorEntity);
+
+    Flux<AuthorEntity> findAuthorsAgeLessThan(int age);
+
+    Flux<AuthorEntity> findAuthorsAgeGreaterThan(int age);
+
+    Flux<AuthorEntity> findAuthorsByName(String name);
+
+    Mono<Boolean> deleteById(Long id);
+}
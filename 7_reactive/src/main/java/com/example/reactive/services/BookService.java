@@ -0,0 +1,19 @@
+package com.example.reactive.services;
+
+import com.example.reactive.domain.entity.BookEntity;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface BookService {
+    Mono<BookEntity> saveBook(BookEntity bookEntity);
+
+    Mono<UpsertResult<BookEntity>> upsertBook(BookEntity bookEntity);
+
+    Flux<BookEntity> findAll();
+
+    Mono<BookEntity> findById(String isbn);
+
+    Mono<BookEntity> partialUpdateBook(String isbn, BookEntity bookEntity);
+
+    Mono<Boolean> deleteBookByIsbn(String isbn);
+}
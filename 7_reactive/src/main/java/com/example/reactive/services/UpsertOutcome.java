@@ -0,0 +1,9 @@
+package com.example.reactive.services;
+
+/**
+ * Result of a create-or-replace write, derived from the affected row count.
+ */
+public enum UpsertOutcome {
+    CREATED,
+    UPDATED
+}
@@ -0,0 +1,130 @@
+package com.example.reactive.services.impl;
+
+import com.example.reactive.domain.entity.AuthorEntity;
+import com.example.reactive.repositories.AuthorRepository;
+import com.example.reactive.repositories.TableVersionRepository;
+import com.example.reactive.services.AuthorService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static com.example.reactive.repositories.TableVersionRepository.AUTHORS;
+
+@Service
+public class AuthorServiceImpl implements AuthorService {
+    private final AuthorRepository authorRepository;
+    private final TableVersionRepository tableVersionRepository;
+
+    public AuthorServiceImpl(AuthorRepository authorRepository, TableVersionRepository tableVersionRepository) {
+        this.authorRepository = authorRepository;
+        this.tableVersionRepository = tableVersionRepository;
+    }
+
+    /**
+     * The write and the authors table version commit together; the same applies to every write below.
+     */
+    @Override
+    @Transactional
+    public Mono<AuthorEntity> saveAuthor(AuthorEntity authorEntity) {
+        authorEntity.setUpdatedAt(Instant.now());
+        return authorRepository.save(authorEntity)
+                .flatMap(savedAuthorEntity -> tableVersionRepository.increment(AUTHORS).thenReturn(savedAuthorEntity));
+    }
+
+    /**
+     * Rows are emitted as the driver reads them and only as fast as the subscriber requests,
+     * so a slow client holds back the query instead of buffering the table in memory.
+     */
+    @Override
+    public Flux<AuthorEntity> findAll() {
+        return authorRepository.findAll();
+    }
+
+    @Override
+    public Mono<Page<AuthorEntity>> findAll(Pageable pageable) {
+        return authorRepository.findAllBy(pageable)
+                .collectList()
+                .zipWith(authorRepository.count())
+                .map(contentAndTotal -> new PageImpl<>(contentAndTotal.getT1(), pageable, contentAndTotal.getT2()));
+    }
+
+    /**
+     * Returns up to {@code limit} authors with an id greater than {@code afterId}, ordered by id.
+     * A null afterId starts from the first author.
+     */
+    @Override
+    public Flux<AuthorEntity> findAllAfter(Long afterId, int limit) {
+        if (afterId == null) {
+            return authorRepository.findFirstPage(limit);
+        }
+        return authorRepository.findPageAfter(afterId, limit);
+    }
+
+    @Override
+    public Mono<AuthorEntity> findById(Long id) {
+        return authorRepository.findById(id);
+    }
+
+    /**
+     * Replaces every column with a single UPDATE; the row count doubles as the existence check.
+     * The row is then read back, so the result carries the new version and update time.
+     *
+     * @return empty if no author has this id
+     */
+    @Override
+    @Transactional
+    public Mono<AuthorEntity> updateAuthor(Long id, AuthorEntity authorEntity) {
+        return authorRepository.updateAuthor(
+                        id, authorEntity.getName(), authorEntity.getAge(), authorEntity.getDetails(), Instant.now())
+                .filter(updatedRows -> updatedRows > 0)
+                .flatMap(updatedRows -> tableVersionRepository.increment(AUTHORS).then(authorRepository.findById(id)));
+    }
+
+    @Override
+    @Transactional
+    public Mono<AuthorEntity> partialUpdate(Long id, AuthorEntity authorEntity) {
+        return authorRepository.findById(id).flatMap(existingAuthorEntity -> {
+            Optional.ofNullable(authorEntity.getName()).ifPresent(existingAuthorEntity::setName);
+            Optional.ofNullable(authorEntity.getAge()).ifPresent(existingAuthorEntity::setAge);
+            Optional.ofNullable(authorEntity.getDetails()).ifPresent(existingAuthorEntity::setDetails);
+            existingAuthorEntity.setUpdatedAt(Instant.now());
+            return authorRepository.save(existingAuthorEntity);
+        }).flatMap(savedAuthorEntity -> tableVersionRepository.increment(AUTHORS).thenReturn(savedAuthorEntity));
+    }
+
+    @Override
+    public Flux<AuthorEntity> findAuthorsAgeLessThan(int age) {
+        return authorRepository.findByAgeLessThan(age);
+    }
+
+    @Override
+    public Flux<AuthorEntity> findAuthorsAgeGreaterThan(int age) {
+        return authorRepository.findByAgeGreaterThan(age);
+    }
+
+    @Override
+    public Flux<AuthorEntity> findAuthorsByName(String name) {
+        return authorRepository.findByNameContainingIgnoreCase(name);
+    }
+
+    /**
+     * Deletes with a single statement and increments the table version when a row was removed.
+     *
+     * @return false if no author has this id
+     */
+    @Override
+    @Transactional
+    public Mono<Boolean> deleteById(Long id) {
+        return authorRepository.deleteAuthorById(id)
+                .flatMap(deletedRows -> deletedRows > 0
+                        ? tableVersionRepository.increment(AUTHORS).thenReturn(true)
+                        : Mono.just(false));
+    }
+}
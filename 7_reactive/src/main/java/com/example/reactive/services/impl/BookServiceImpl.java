@@ -0,0 +1,162 @@
+package com.example.reactive.services.impl;
+
+import com.example.reactive.domain.entity.AuthorEntity;
+import com.example.reactive.domain.entity.BookEntity;
+import com.example.reactive.repositories.AuthorRepository;
+import com.example.reactive.repositories.BookRepository;
+import com.example.reactive.repositories.TableVersionRepository;
+import com.example.reactive.services.BookService;
+import com.example.reactive.services.UpsertOutcome;
+import com.example.reactive.services.UpsertResult;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.example.reactive.repositories.TableVersionRepository.AUTHORS;
+import static com.example.reactive.repositories.TableVersionRepository.BOOKS;
+
+@Service
+public class BookServiceImpl implements BookService {
+    // Books per author lookup when listing; one IN query per batch instead of one query per book
+    private static final int AUTHOR_BATCH_SIZE = 100;
+
+    private final BookRepository bookRepository;
+    private final AuthorRepository authorRepository;
+    private final R2dbcEntityTemplate entityTemplate;
+    private final TableVersionRepository tableVersionRepository;
+
+    public BookServiceImpl(BookRepository bookRepository, AuthorRepository authorRepository,
+                           R2dbcEntityTemplate entityTemplate, TableVersionRepository tableVersionRepository) {
+        this.bookRepository = bookRepository;
+        this.authorRepository = authorRepository;
+        this.entityTemplate = entityTemplate;
+        this.tableVersionRepository = tableVersionRepository;
+    }
+
+    @Override
+    @Transactional
+    public Mono<BookEntity> saveBook(BookEntity bookEntity) {
+        return upsertBook(bookEntity).map(UpsertResult::entity);
+    }
+
+    /**
+     * Same semantics as the JPA version: UPDATE by ISBN first and INSERT only when no row matched.
+     * A new author (no id) is inserted first; an author with an id is referenced as is.
+     * The table versions are incremented last, authors before books, in the same order as 6_api.
+     * The stored book is read back in the same transaction, so the result carries the row as written.
+     */
+    @Override
+    @Transactional
+    public Mono<UpsertResult<BookEntity>> upsertBook(BookEntity bookEntity) {
+        bookEntity.setUpdatedAt(Instant.now());
+        boolean newAuthor = bookEntity.getAuthorEntity() != null && bookEntity.getAuthorEntity().getId() == null;
+        return resolveAuthorId(bookEntity)
+                .then(Mono.defer(() -> bookRepository.updateBook(
+                        bookEntity.getIsbn(), bookEntity.getTitle(), bookEntity.getAuthorId(), bookEntity.getUpdatedAt())))
+                .flatMap(updatedRows -> updatedRows > 0
+                        ? Mono.just(UpsertOutcome.UPDATED)
+                        // The ISBN is assigned by the client, so save() would issue an UPDATE; insert explicitly
+                        : entityTemplate.insert(bookEntity).thenReturn(UpsertOutcome.CREATED))
+                .flatMap(outcome -> (newAuthor ? tableVersionRepository.increment(AUTHORS) : Mono.<Void>empty())
+                        .then(tableVersionRepository.increment(BOOKS))
+                        .then(findById(bookEntity.getIsbn()))
+                        .map(savedBookEntity -> new UpsertResult<>(outcome, savedBookEntity)));
+    }
+
+    /**
+     * Books are streamed as they are read; authors are loaded with one IN query per
+     * {@value #AUTHOR_BATCH_SIZE} books, so demand from the client still bounds how much is read ahead.
+     */
+    @Override
+    public Flux<BookEntity> findAll() {
+        return bookRepository.findAll()
+                .buffer(AUTHOR_BATCH_SIZE)
+                .concatMap(this::withAuthors);
+    }
+
+    @Override
+    public Mono<BookEntity> findById(String isbn) {
+        return bookRepository.findById(isbn)
+                .flatMap(bookEntity -> bookEntity.getAuthorId() == null
+                        ? Mono.just(bookEntity)
+                        : authorRepository.findById(bookEntity.getAuthorId())
+                        .doOnNext(bookEntity::setAuthorEntity)
+                        .thenReturn(bookEntity));
+    }
+
+    @Override
+    @Transactional
+    public Mono<BookEntity> partialUpdateBook(String isbn, BookEntity bookEntity) {
+        return findById(isbn).flatMap(existingBookEntity -> {
+            if (bookEntity.getTitle() != null) {
+                existingBookEntity.setTitle(bookEntity.getTitle());
+            }
+            return bookRepository.updateBook(
+                            isbn, existingBookEntity.getTitle(), existingBookEntity.getAuthorId(), Instant.now())
+                    .then(tableVersionRepository.increment(BOOKS))
+                    .thenReturn(existingBookEntity);
+        });
+    }
+
+    /**
+     * Deletes with a single statement and increments the table version when a row was removed.
+     * Only the book row is removed; its author is left in place.
+     *
+     * @return false if no book has this ISBN
+     */
+    @Override
+    @Transactional
+    public Mono<Boolean> deleteBookByIsbn(String isbn) {
+        return bookRepository.deleteBookByIsbn(isbn)
+                .flatMap(deletedRows -> deletedRows > 0
+                        ? tableVersionRepository.increment(BOOKS).thenReturn(true)
+                        : Mono.just(false));
+    }
+
+    private Mono<Void> resolveAuthorId(BookEntity bookEntity) {
+        AuthorEntity authorEntity = bookEntity.getAuthorEntity();
+        if (authorEntity == null) {
+            return Mono.empty();
+        }
+        if (authorEntity.getId() != null) {
+            bookEntity.setAuthorId(authorEntity.getId());
+            return Mono.empty();
+        }
+        authorEntity.setUpdatedAt(Instant.now());
+        return authorRepository.save(authorEntity)
+                .doOnNext(savedAuthorEntity -> {
+                    bookEntity.setAuthorEntity(savedAuthorEntity);
+                    bookEntity.setAuthorId(savedAuthorEntity.getId());
+                })
+                .then();
+    }
+
+    private Flux<BookEntity> withAuthors(List<BookEntity> bookEntities) {
+        List<Long> authorIds = bookEntities.stream()
+                .map(BookEntity::getAuthorId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (authorIds.isEmpty()) {
+            return Flux.fromIterable(bookEntities);
+        }
+
+        return authorRepository.findAllById(authorIds)
+                .collect(Collectors.toMap(AuthorEntity::getId, Function.identity()))
+                .flatMapIterable(authorsById -> attachAuthors(bookEntities, authorsById));
+    }
+
+    private static List<BookEntity> attachAuthors(List<BookEntity> bookEntities, Map<Long, AuthorEntity> authorsById) {
+        bookEntities.forEach(bookEntity -> bookEntity.setAuthorEntity(authorsById.get(bookEntity.getAuthorId())));
+        return bookEntities;
+    }
+}
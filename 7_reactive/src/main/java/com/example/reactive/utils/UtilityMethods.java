@@ -0,0 +1,26 @@
+package com.example.reactive.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public class UtilityMethods {
+
+    /**
+     * Encodes the last seen id of a keyset page as an opaque, URL-safe continuation token.
+     */
+    public static String encodeCursor(Long lastId) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(lastId.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a continuation token produced by {@link #encodeCursor(Long)}.
+     *
+     * @throws IllegalArgumentException if the token is not a valid cursor
+     */
+    public static Long decodeCursor(String cursor) {
+        String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        return Long.valueOf(decoded);
+    }
+}
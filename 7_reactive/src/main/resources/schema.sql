@@ -0,0 +1,44 @@
+-- Same tables as the JPA entities in 6_api; each statement is a no-op when 6_api already created them
+CREATE SEQUENCE IF NOT EXISTS author_id_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS authors (
+    id BIGINT PRIMARY KEY,
+    name VARCHAR(255),
+    age INTEGER,
+    details VARCHAR(255),
+    version BIGINT DEFAULT 0 NOT NULL,
+    updated_at TIMESTAMP(6) WITH TIME ZONE
+);
+
+-- R2DBC inserts without an id and reads it back. Each insert takes a whole nextval() block, which never overlaps
+-- the ids Hibernate's pooled optimizer hands out from its own blocks, so both stacks can write to the same table
+ALTER TABLE authors ALTER COLUMN id SET DEFAULT nextval('author_id_seq');
+
+CREATE TABLE IF NOT EXISTS books (
+    isbn VARCHAR(255) PRIMARY KEY,
+    title VARCHAR(255),
+    author_id BIGINT,
+    version BIGINT DEFAULT 0 NOT NULL,
+    updated_at TIMESTAMP(6) WITH TIME ZONE,
+    FOREIGN KEY (author_id) REFERENCES authors(id)
+);
+
+-- Version and last-write columns behind the ETag/Last-Modified validators of 6_api; added to tables created before them
+ALTER TABLE authors ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE authors ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP(6) WITH TIME ZONE;
+ALTER TABLE books ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE books ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP(6) WITH TIME ZONE;
+
+-- One version counter and last-write time per table, behind the collection ETag/Last-Modified of 6_api.
+-- Both modules increment it on every author/book write. The rows are seeded here (and by 6_api's data.sql),
+-- so a write only ever updates an existing row
+CREATE TABLE IF NOT EXISTS table_versions (
+    table_name VARCHAR(255) PRIMARY KEY,
+    version BIGINT NOT NULL,
+    updated_at TIMESTAMP(6) WITH TIME ZONE
+);
+
+INSERT INTO table_versions (table_name, version, updated_at)
+SELECT 'authors', 0, NULL WHERE NOT EXISTS (SELECT 1 FROM table_versions WHERE table_name = 'authors');
+INSERT INTO table_versions (table_name, version, updated_at)
+SELECT 'books', 0, NULL WHERE NOT EXISTS (SELECT 1 FROM table_versions WHERE table_name = 'books');
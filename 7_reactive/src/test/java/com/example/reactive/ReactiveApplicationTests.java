@@ -0,0 +1,14 @@
+package com.example.reactive;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+@SpringBootTest
+@DirtiesContext
+class ReactiveApplicationTests {
+
+    @Test
+    void contextLoads() {
+    }
+}
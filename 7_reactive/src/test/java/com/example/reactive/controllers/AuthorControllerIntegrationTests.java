@@ -0,0 +1,286 @@
+package com.example.reactive.controllers;
+
+import com.example.reactive.domain.dto.AuthorDto;
+import com.example.reactive.domain.dto.CursorPageDto;
+import com.example.reactive.domain.entity.AuthorEntity;
+import com.example.reactive.domain.entity.TableVersionEntity;
+import com.example.reactive.repositories.TableVersionRepository;
+import com.example.reactive.services.AuthorService;
+import com.example.reactive.util.TestDataUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import static com.example.reactive.path.AuthorPaths.*;
+import static com.example.reactive.util.Constants.AGE;
+import static com.example.reactive.util.Constants.AGE_2;
+import static com.example.reactive.util.Constants.AGE_3;
+import static com.example.reactive.util.Constants.NAME;
+import static com.example.reactive.util.Constants.NAME_2;
+import static com.example.reactive.util.Constants.NAME_3;
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Same scenarios as the 6_api AuthorControllerIntegrationTests, driven through WebTestClient
+@SpringBootTest
+@ExtendWith(SpringExtension.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@AutoConfigureWebTestClient
+public class AuthorControllerIntegrationTests {
+    private final WebTestClient webTestClient;
+    private final AuthorService authorService;
+    private final TableVersionRepository tableVersionRepository;
+    private final AuthorEntity testAuthorEntity = TestDataUtil.buildAuthor(null, NAME, AGE);
+
+    @Autowired
+    public AuthorControllerIntegrationTests(WebTestClient webTestClient, AuthorService authorService,
+                                            TableVersionRepository tableVersionRepository) {
+        this.webTestClient = webTestClient;
+        this.authorService = authorService;
+        this.tableVersionRepository = tableVersionRepository;
+    }
+
+    private AuthorEntity saveAuthor(AuthorEntity authorEntity) {
+        return authorService.saveAuthor(authorEntity).block();
+    }
+
+    @Test
+    public void testThatCreateAuthorReturnsHttp201AndSavedAuthorSuccessfully() {
+        webTestClient.post().uri(AUTHORS)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(TestDataUtil.buildAuthorDto(null, NAME, AGE))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.id").isNumber()
+                .jsonPath("$.name").isEqualTo(NAME)
+                .jsonPath("$.age").isEqualTo(AGE);
+    }
+
+    @Test
+    public void testThatListAuthorsReturnsHttpsStatus200() {
+        saveAuthor(testAuthorEntity);
+
+        webTestClient.get().uri(AUTHORS)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].id").isNumber()
+                .jsonPath("$[0].name").isEqualTo(NAME)
+                .jsonPath("$[0].age").isEqualTo(AGE);
+    }
+
+    @Test
+    public void testThatFindAuthorByIdReturnsHttpsStatus200() {
+        Long extractedId = saveAuthor(testAuthorEntity).getId();
+
+        webTestClient.get().uri(authorByIdUrl(extractedId))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.name").isEqualTo(NAME)
+                .jsonPath("$.age").isEqualTo(AGE);
+    }
+
+    @Test
+    public void testThatFullUpdateAuthorByIdReturnsHttpsStatus200() {
+        Long extractedId = saveAuthor(testAuthorEntity).getId();
+
+        webTestClient.put().uri(updateAuthorByIdUrl(extractedId))
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(TestDataUtil.buildAuthorDto(extractedId, NAME_2, AGE_2))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.name").isEqualTo(NAME_2);
+    }
+
+    @Test
+    public void testThatFindAuthorsByNameReturnsHttpsStatus200AndAuthors() {
+        saveAuthor(testAuthorEntity);
+
+        webTestClient.get().uri(uriBuilder -> uriBuilder.path(AUTHORS_BY_NAME).queryParam("name", NAME).build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].name").isEqualTo(NAME)
+                .jsonPath("$[0].age").isEqualTo(AGE);
+    }
+
+    @Test
+    public void testThatFindAuthorsByNameReturnsEmptyListForEmptyName() {
+        webTestClient.get().uri(uriBuilder -> uriBuilder.path(AUTHORS_BY_NAME).queryParam("name", "").build())
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    public void testThatPatchAuthorByIdReturnsHttpsStatus200() {
+        Long extractedId = saveAuthor(testAuthorEntity).getId();
+
+        // Partial update with only some fields
+        webTestClient.patch().uri(patchAuthorByIdUrl(extractedId))
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(TestDataUtil.buildAuthorDto(extractedId, NAME_2, null))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(extractedId)
+                .jsonPath("$.name").isEqualTo(NAME_2)
+                .jsonPath("$.age").isEqualTo(AGE); // Age should remain unchanged
+    }
+
+    @Test
+    public void testThatDeleteAuthorByIdReturnsHttpStatus204() {
+        Long extractedId = saveAuthor(testAuthorEntity).getId();
+
+        webTestClient.delete().uri(authorByIdUrl(extractedId))
+                .exchange()
+                .expectStatus().isNoContent();
+
+        // Verify the author is deleted by attempting to fetch it
+        webTestClient.get().uri(authorByIdUrl(extractedId))
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    public void testThatUpdateAndPatchMissingAuthorReturnHttpStatus404() {
+        AuthorDto authorDto = TestDataUtil.buildAuthorDto(null, NAME_2, AGE_2);
+
+        webTestClient.put().uri(updateAuthorByIdUrl(999L))
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(authorDto)
+                .exchange()
+                .expectStatus().isNotFound();
+
+        webTestClient.patch().uri(patchAuthorByIdUrl(999L))
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(authorDto)
+                .exchange()
+                .expectStatus().isNotFound();
+
+        webTestClient.delete().uri(authorByIdUrl(999L))
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    public void testThatPageAuthorsReturnsRequestedPageAndTotal() {
+        saveAuthor(testAuthorEntity);
+        saveAuthor(TestDataUtil.buildAuthor(null, NAME_2, AGE_2));
+        saveAuthor(TestDataUtil.buildAuthor(null, NAME_3, AGE_3));
+
+        webTestClient.get().uri(uriBuilder -> uriBuilder.path(PAGE_AUTHORS)
+                        .queryParam("page", 1)
+                        .queryParam("size", 2)
+                        .build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content.length()").isEqualTo(1)
+                .jsonPath("$.totalElements").isEqualTo(3);
+    }
+
+    @Test
+    public void testThatCursorAuthorsWalksAllPagesWithContinuationToken() {
+        saveAuthor(testAuthorEntity);
+        saveAuthor(TestDataUtil.buildAuthor(null, NAME_2, AGE_2));
+        saveAuthor(TestDataUtil.buildAuthor(null, NAME_3, AGE_3));
+
+        CursorPageDto<AuthorDto> firstPage = webTestClient.get()
+                .uri(uriBuilder -> uriBuilder.path(AUTHORS_CURSOR).queryParam("size", 2).build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(new ParameterizedTypeReference<CursorPageDto<AuthorDto>>() {
+                })
+                .returnResult().getResponseBody();
+
+        assertThat(firstPage).isNotNull();
+        assertThat(firstPage.getContent()).extracting(AuthorDto::getName).containsExactly(NAME, NAME_2);
+        assertThat(firstPage.isHasNext()).isTrue();
+
+        webTestClient.get()
+                .uri(uriBuilder -> uriBuilder.path(AUTHORS_CURSOR)
+                        .queryParam("after", firstPage.getNextCursor())
+                        .queryParam("size", 2)
+                        .build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content.length()").isEqualTo(1)
+                .jsonPath("$.content[0].name").isEqualTo(NAME_3)
+                .jsonPath("$.hasNext").isEqualTo(false)
+                .jsonPath("$.nextCursor").doesNotExist();
+    }
+
+    @Test
+    public void testThatCursorAuthorsRejectsInvalidCursor() {
+        webTestClient.get()
+                .uri(uriBuilder -> uriBuilder.path(AUTHORS_CURSOR).queryParam("after", "not-a-cursor").build())
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    public void testThatListAuthorsStreamsNdjsonOnDemand() {
+        saveAuthor(testAuthorEntity);
+        saveAuthor(TestDataUtil.buildAuthor(null, NAME_2, AGE_2));
+        saveAuthor(TestDataUtil.buildAuthor(null, NAME_3, AGE_3));
+
+        Flux<AuthorDto> authors = webTestClient.get().uri(AUTHORS)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(AuthorDto.class)
+                .getResponseBody();
+
+        // Request one element at a time: each line is decoded and delivered only when asked for
+        StepVerifier.create(authors, 1)
+                .expectNextMatches(authorDto -> NAME.equals(authorDto.getName()))
+                .thenRequest(1)
+                .expectNextMatches(authorDto -> NAME_2.equals(authorDto.getName()))
+                .thenRequest(1)
+                .expectNextMatches(authorDto -> NAME_3.equals(authorDto.getName()))
+                .verifyComplete();
+    }
+
+    @Test
+    public void testThatAuthorWritesIncrementTheSharedTableVersion() {
+        Long extractedId = saveAuthor(testAuthorEntity).getId();
+
+        webTestClient.delete().uri(authorByIdUrl(extractedId))
+                .exchange()
+                .expectStatus().isNoContent();
+        webTestClient.delete().uri(authorByIdUrl(extractedId))
+                .exchange()
+                .expectStatus().isNotFound();
+
+        // Insert and delete; the second delete removed nothing. 6_api builds its collection ETags from this row
+        assertThat(tableVersionRepository.findById(TableVersionRepository.AUTHORS).block())
+                .extracting(TableVersionEntity::getVersion)
+                .isEqualTo(2L);
+    }
+
+    @Test
+    public void testThatUpdateAuthorReturnsTheStoredRow() {
+        AuthorEntity savedAuthorEntity = saveAuthor(testAuthorEntity);
+
+        AuthorEntity updatedAuthorEntity = authorService.updateAuthor(savedAuthorEntity.getId(),
+                TestDataUtil.buildAuthor(null, NAME_2, AGE_2)).block();
+
+        // The UPDATE increments the version in SQL, so it only shows up when the row is read back
+        assertThat(updatedAuthorEntity.getName()).isEqualTo(NAME_2);
+        assertThat(updatedAuthorEntity.getVersion()).isEqualTo(savedAuthorEntity.getVersion() + 1);
+    }
+}
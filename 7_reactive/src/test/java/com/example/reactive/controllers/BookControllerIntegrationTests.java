@@ -0,0 +1,182 @@
+package com.example.reactive.controllers;
+
+import com.example.reactive.domain.dto.AuthorDto;
+import com.example.reactive.domain.dto.BookDto;
+import com.example.reactive.domain.entity.AuthorEntity;
+import com.example.reactive.domain.entity.BookEntity;
+import com.example.reactive.services.BookService;
+import com.example.reactive.util.TestDataUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import static com.example.reactive.path.BookPaths.BOOKS;
+import static com.example.reactive.path.BookPaths.BOOKS_STREAM;
+import static com.example.reactive.path.BookPaths.bookByIsbnUrl;
+import static com.example.reactive.util.Constants.*;
+
+// Same scenarios as the 6_api BookControllerIntegrationTests, driven through WebTestClient
+@SpringBootTest
+@ExtendWith(SpringExtension.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@AutoConfigureWebTestClient
+public class BookControllerIntegrationTests {
+
+    private final WebTestClient webTestClient;
+    private final BookService bookService;
+    private final AuthorEntity testAuthorEntity = TestDataUtil.buildAuthor(null, NAME, AGE);
+    private final BookEntity testBookEntity = TestDataUtil.buildBook(ISBN, TITLE, testAuthorEntity);
+    private final AuthorDto testAuthorDto = TestDataUtil.buildAuthorDto(null, NAME, AGE);
+
+    @Autowired
+    public BookControllerIntegrationTests(WebTestClient webTestClient, BookService bookService) {
+        this.webTestClient = webTestClient;
+        this.bookService = bookService;
+    }
+
+    private BookEntity saveBook(BookEntity bookEntity) {
+        return bookService.saveBook(bookEntity).block();
+    }
+
+    @Test
+    public void testThatCreateBookWithValidAuthorSavedSuccessfully() {
+        webTestClient.put().uri(bookByIsbnUrl(ISBN_2))
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(TestDataUtil.buildBookDto(ISBN_2, TITLE, testAuthorDto))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.isbn").isEqualTo(ISBN_2)
+                .jsonPath("$.title").isEqualTo(TITLE)
+                .jsonPath("$.authorDto.id").isNumber();
+    }
+
+    @Test
+    public void testThatUpdateBookWithValidAuthorSavedSuccessfully() {
+        BookEntity createBookEntity = saveBook(testBookEntity);
+
+        webTestClient.put().uri(bookByIsbnUrl(ISBN))
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(TestDataUtil.buildBookDto(createBookEntity.getIsbn(), TITLE + "updated", testAuthorDto))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.isbn").isEqualTo(ISBN)
+                .jsonPath("$.title").isEqualTo(TITLE + "updated");
+    }
+
+    @Test
+    public void testThatListBooksReturnsHttpsStatus200() {
+        saveBook(testBookEntity);
+
+        webTestClient.get().uri(BOOKS)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].isbn").isEqualTo(ISBN)
+                .jsonPath("$[0].title").isEqualTo(TITLE)
+                .jsonPath("$[0].authorDto.name").isEqualTo(NAME);
+    }
+
+    @Test
+    public void testThatFindBooksByIsbnReturnsHttpsStatus200() {
+        BookEntity createBookEntity = saveBook(testBookEntity);
+
+        webTestClient.get().uri(bookByIsbnUrl(createBookEntity.getIsbn()))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.isbn").isEqualTo(ISBN)
+                .jsonPath("$.title").isEqualTo(TITLE)
+                .jsonPath("$.authorDto.name").isEqualTo(NAME);
+    }
+
+    @Test
+    public void testThatPartialUpdateBookWithValidAuthorSavedSuccessfully() {
+        BookEntity createBookEntity = saveBook(testBookEntity);
+
+        webTestClient.patch().uri(bookByIsbnUrl(ISBN))
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(TestDataUtil.buildBookDto(createBookEntity.getIsbn(), TITLE + " partial", null))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.isbn").isEqualTo(ISBN)
+                .jsonPath("$.title").isEqualTo(TITLE + " partial")
+                .jsonPath("$.authorDto.name").isEqualTo(NAME);
+    }
+
+    @Test
+    public void testThatUpsertBookReusesExistingAuthorById() {
+        BookEntity createBookEntity = saveBook(testBookEntity);
+        Long authorId = createBookEntity.getAuthorEntity().getId();
+
+        webTestClient.put().uri(bookByIsbnUrl(ISBN_2))
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(TestDataUtil.buildBookDto(ISBN_2, TITLE_2, TestDataUtil.buildAuthorDto(authorId, NAME, AGE)))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.authorDto.id").isEqualTo(authorId);
+
+        webTestClient.get().uri(bookByIsbnUrl(ISBN_2))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.title").isEqualTo(TITLE_2)
+                .jsonPath("$.authorDto.id").isEqualTo(authorId);
+    }
+
+    @Test
+    public void testThatPartialUpdateMissingBookReturnsHttpStatus404() {
+        webTestClient.patch().uri(bookByIsbnUrl(ISBN_2))
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(TestDataUtil.buildBookDto(ISBN_2, TITLE, testAuthorDto))
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    public void testThatDeleteBookByIsbnReturnsHttpsStatus204() {
+        saveBook(TestDataUtil.buildBook(ISBN_2, TITLE, testAuthorEntity));
+
+        webTestClient.delete().uri(bookByIsbnUrl(ISBN_2))
+                .exchange()
+                .expectStatus().isNoContent();
+
+        webTestClient.delete().uri(bookByIsbnUrl(ISBN_2))
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    public void testThatStreamBooksEmitsOneDocumentPerBookOnDemand() {
+        AuthorEntity savedAuthorEntity = saveBook(testBookEntity).getAuthorEntity();
+        saveBook(TestDataUtil.buildBook(ISBN_2, TITLE_2, savedAuthorEntity));
+        saveBook(TestDataUtil.buildBook(ISBN_3, TITLE_3, savedAuthorEntity));
+
+        Flux<BookDto> books = webTestClient.get().uri(BOOKS_STREAM)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(BookDto.class)
+                .getResponseBody();
+
+        // Every line carries its author, which is loaded in batches rather than per book
+        StepVerifier.create(books, 2)
+                .expectNextCount(2)
+                .thenRequest(1)
+                .expectNextMatches(bookDto -> bookDto.getAuthorDto() != null
+                        && savedAuthorEntity.getId().equals(bookDto.getAuthorDto().getId()))
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.reactive.util;
+
+public final class Constants {
+    // AUTHOR 1
+    public static final Long TEST_ID = 1L;
+    public static final String NAME = "APJ Kalam";
+    public static final int AGE = 100;
+    // AUTHOR 2
+    public static final String NAME_2 = "Sanjeev Sanyal";
+    public static final int AGE_2 = 55;
+    // AUTHOR 2
+    public static final String NAME_3 = "J Sai Deepak";
+    public static final int AGE_3 = 39;
+    // BOOK 1
+    public static final String ISBN = "1000-tfl-999";
+    public static final String TITLE = "Wings of Fire";
+
+    // BOOK 2
+    public static final String ISBN_2 = "1000-tfl-998";
+    public static final String TITLE_2 = "My Journey: Transforming Dreams Into Actions";
+    public static final String ISBN_3 = "1000-tfl-997";
+    public static final String TITLE_3 = "Land of the Seven Rivers";
+
+    private Constants() {
+    }
+}
+
+
@@ -0,0 +1,46 @@
+package com.example.reactive.util;
+
+import com.example.reactive.domain.dto.AuthorDto;
+import com.example.reactive.domain.dto.BookDto;
+import com.example.reactive.domain.entity.AuthorEntity;
+import com.example.reactive.domain.entity.BookEntity;
+
+public class TestDataUtil {
+
+    // Private constructor to prevent instantiation
+    private TestDataUtil() {
+    }
+
+    public static AuthorEntity buildAuthor(Long id, String name, Integer age) {
+        return AuthorEntity.builder()
+                .id(id)
+                .name(name)
+                .age(age)
+                .build();
+    }
+
+    public static BookEntity buildBook(String isbn, String title, AuthorEntity authorEntity) {
+        return BookEntity.builder()
+                .isbn(isbn)
+                .title(title)
+                .authorEntity(authorEntity)
+                .build();
+    }
+
+    // Request bodies are DTOs here: the R2DBC BookEntity carries its author as a transient field
+    public static BookDto buildBookDto(String isbn, String title, AuthorDto authorDto) {
+        return BookDto.builder()
+                .isbn(isbn)
+                .title(title)
+                .authorDto(authorDto)
+                .build();
+    }
+
+    public static AuthorDto buildAuthorDto(Long id, String name, Integer age) {
+        return AuthorDto.builder()
+                .id(id)
+                .name(name)
+                .age(age)
+                .build();
+    }
+}